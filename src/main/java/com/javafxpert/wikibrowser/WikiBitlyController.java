@@ -25,6 +25,8 @@ import com.javafxpert.wikibrowser.model.search.SearchResponseFar;
 import com.javafxpert.wikibrowser.model.search.SearchResponseNear;
 import com.javafxpert.wikibrowser.model.search.SearchinfoFar;
 import com.javafxpert.wikibrowser.util.WikiBrowserUtils;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import com.javafxpert.wikibrowser.upstream.UpstreamClients;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,7 +35,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
@@ -50,9 +51,12 @@ public class WikiBitlyController {
 
   private final WikiBrowserProperties wikiBrowserProperties;
 
+  private final UpstreamClients upstreamClients;
+
   @Autowired
-  public WikiBitlyController(WikiBrowserProperties wikiBrowserProperties) {
+  public WikiBitlyController(WikiBrowserProperties wikiBrowserProperties, UpstreamClients upstreamClients) {
     this.wikiBrowserProperties = wikiBrowserProperties;
+    this.upstreamClients = upstreamClients;
   }
 
   @RequestMapping(method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -101,7 +105,7 @@ public class WikiBitlyController {
     BitlyResponseFar bitlyResponseFar = null;
     BitlyResponseNear bitlyResponseNear = new BitlyResponseNear();
     try {
-      bitlyResponseFar = new RestTemplate().getForObject(new URI(bitlyRequestUrl),
+      bitlyResponseFar = upstreamClients.getRestTemplate(Upstream.BITLY).getForObject(new URI(bitlyRequestUrl),
           BitlyResponseFar.class);
       log.info("bitlyResponseFar: " + bitlyResponseFar.toString());
 
@@ -19,6 +19,10 @@ package com.javafxpert.wikibrowser;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * @author James Weaver
  */
@@ -42,6 +46,32 @@ public class WikiBrowserProperties {
 
   private String blat;
 
+  private final Http http = new Http();
+
+  private final Async async = new Async();
+
+  private final SparqlCache sparqlCache = new SparqlCache();
+
+  private final ClaimsBatch claimsBatch = new ClaimsBatch();
+
+  private final Resilience resilience = new Resilience();
+
+  private final GraphWrite graphWrite = new GraphWrite();
+
+  private final GraphFilter graphFilter = new GraphFilter();
+
+  private final Neo4j neo4j = new Neo4j();
+
+  private final DumpLoad dumpLoad = new DumpLoad();
+
+  private final Thumbnails thumbnails = new Thumbnails();
+
+  private final GraphIndex graphIndex = new GraphIndex();
+
+  private final ShortPaths shortPaths = new ShortPaths();
+
+  private final RootPaths rootPaths = new RootPaths();
+
   public String getHost() {
     return host;
   }
@@ -130,6 +160,58 @@ public class WikiBrowserProperties {
     this.blat = blat;
   }
 
+  public Http getHttp() {
+    return http;
+  }
+
+  public Async getAsync() {
+    return async;
+  }
+
+  public SparqlCache getSparqlCache() {
+    return sparqlCache;
+  }
+
+  public ClaimsBatch getClaimsBatch() {
+    return claimsBatch;
+  }
+
+  public Resilience getResilience() {
+    return resilience;
+  }
+
+  public GraphWrite getGraphWrite() {
+    return graphWrite;
+  }
+
+  public GraphFilter getGraphFilter() {
+    return graphFilter;
+  }
+
+  public Neo4j getNeo4j() {
+    return neo4j;
+  }
+
+  public DumpLoad getDumpLoad() {
+    return dumpLoad;
+  }
+
+  public Thumbnails getThumbnails() {
+    return thumbnails;
+  }
+
+  public GraphIndex getGraphIndex() {
+    return graphIndex;
+  }
+
+  public ShortPaths getShortPaths() {
+    return shortPaths;
+  }
+
+  public RootPaths getRootPaths() {
+    return rootPaths;
+  }
+
   public String computeLang(String forceLang) {
     String language = "en"; // Fallback value if not passed in or available in property
     if (forceLang != null && forceLang.length() > 0) {
@@ -144,38 +226,920 @@ public class WikiBrowserProperties {
   }
 
   /**
-   * Provide the URL to the locator service method
+   * Provide the URL to the Neo4j Transactional Cypher HTTP endpoint
    *
    */
-  public String getLocatorServiceUrl(String itemId, String lang) {
-    String url = this.host + String.format(this.getLocatorEndpoint(), itemId, computeLang(lang));
+  public String getNeoCypherUrl() {
+    String url = "https://" + this.cypherHost + ":" + this.cypherPort + this.cypherEndpoint;
     return url;
   }
 
   /**
-   * Provide the URL to the thumbnail service method
+   * Provide the URI of the Neo4j Bolt endpoint, which defaults to the Cypher host on the Bolt port
    *
    */
-  public String getThumbnailByTitleServiceUrl(String articleTitle, String lang) {
-    String url = this.host + String.format(this.getThumbnailByTitleEndpoint(), articleTitle, computeLang(lang));
-    return url;
+  public String getNeoBoltUri() {
+    if (this.neo4j.getBoltUri() != null && this.neo4j.getBoltUri().length() > 0) {
+      return this.neo4j.getBoltUri();
+    }
+    return "bolt://" + this.cypherHost + ":" + this.neo4j.getBoltPort();
   }
 
   /**
-   * Provide the URL to the thumbnail service method
-   *
+   * Settings for the pooled HTTP clients used to call upstream services
    */
-  public String getThumbnailByIdServiceUrl(String itemId, String lang) {
-    String url = this.host + String.format(this.getThumbnailByIdEndpoint(), itemId, computeLang(lang));
-    return url;
+  public static class Http {
+
+    private int maxTotal = 200;
+    private int maxPerRoute = 50;
+    private int connectionRequestTimeout = 2000;
+    private int keepAlive = 30000;
+    private int validateAfterInactivity = 2000;
+
+    private final Endpoint wikidataSparql = new Endpoint(5000, 60000);
+    private final Endpoint wikidataApi = new Endpoint(3000, 15000);
+    private final Endpoint wikipedia = new Endpoint(3000, 15000);
+    private final Endpoint neo4j = new Endpoint(3000, 30000);
+    private final Endpoint bitly = new Endpoint(3000, 10000);
+
+    public int getMaxTotal() {
+      return maxTotal;
+    }
+
+    public void setMaxTotal(int maxTotal) {
+      this.maxTotal = maxTotal;
+    }
+
+    public int getMaxPerRoute() {
+      return maxPerRoute;
+    }
+
+    public void setMaxPerRoute(int maxPerRoute) {
+      this.maxPerRoute = maxPerRoute;
+    }
+
+    public int getConnectionRequestTimeout() {
+      return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(int connectionRequestTimeout) {
+      this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    public int getKeepAlive() {
+      return keepAlive;
+    }
+
+    public void setKeepAlive(int keepAlive) {
+      this.keepAlive = keepAlive;
+    }
+
+    public int getValidateAfterInactivity() {
+      return validateAfterInactivity;
+    }
+
+    public void setValidateAfterInactivity(int validateAfterInactivity) {
+      this.validateAfterInactivity = validateAfterInactivity;
+    }
+
+    public Endpoint getWikidataSparql() {
+      return wikidataSparql;
+    }
+
+    public Endpoint getWikidataApi() {
+      return wikidataApi;
+    }
+
+    public Endpoint getWikipedia() {
+      return wikipedia;
+    }
+
+    public Endpoint getNeo4j() {
+      return neo4j;
+    }
+
+    public Endpoint getBitly() {
+      return bitly;
+    }
   }
 
   /**
-   * Provide the URL to the Neo4j Transactional Cypher HTTP endpoint
-   *
+   * Connect and read timeouts, in milliseconds, for one upstream service
    */
-  public String getNeoCypherUrl() {
-    String url = "https://" + this.cypherHost + ":" + this.cypherPort + this.cypherEndpoint;
-    return url;
+  public static class Endpoint {
+
+    private int connectTimeout;
+    private int readTimeout;
+
+    public Endpoint(int connectTimeout, int readTimeout) {
+      this.connectTimeout = connectTimeout;
+      this.readTimeout = readTimeout;
+    }
+
+    public int getConnectTimeout() {
+      return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+      this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+      return readTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+      this.readTimeout = readTimeout;
+    }
+  }
+
+  /**
+   * Settings for the bounded executor on which upstream calls are fanned out
+   */
+  public static class Async {
+
+    private boolean enabled = true;
+    private int corePoolSize = 16;
+    private int maxPoolSize = 64;
+    private int queueCapacity = 256;
+    private long requestTimeout = 90000;
+    private boolean virtualThreads = false;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getCorePoolSize() {
+      return corePoolSize;
+    }
+
+    public void setCorePoolSize(int corePoolSize) {
+      this.corePoolSize = corePoolSize;
+    }
+
+    public int getMaxPoolSize() {
+      return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+      this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+    }
+
+    public long getRequestTimeout() {
+      return requestTimeout;
+    }
+
+    public void setRequestTimeout(long requestTimeout) {
+      this.requestTimeout = requestTimeout;
+    }
+
+    public boolean isVirtualThreads() {
+      return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+    }
+  }
+
+  /**
+   * Settings for the on-disk cache of Wikidata SPARQL results
+   */
+  public static class SparqlCache {
+
+    private boolean enabled = true;
+    private String directory = System.getProperty("java.io.tmpdir") + "/wikibrowser/sparql-cache";
+    private long ttl = 24 * 60 * 60 * 1000L;
+    private long maxSize = 512 * 1024 * 1024L;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+      return directory;
+    }
+
+    public void setDirectory(String directory) {
+      this.directory = directory;
+    }
+
+    public long getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(long ttl) {
+      this.ttl = ttl;
+    }
+
+    public long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+      this.maxSize = maxSize;
+    }
+  }
+
+  /**
+   * Limits for the /claims/batch endpoint
+   */
+  public static class ClaimsBatch {
+
+    private int maxIds = 100;
+    private int chunkSize = 20;
+
+    public int getMaxIds() {
+      return maxIds;
+    }
+
+    public void setMaxIds(int maxIds) {
+      this.maxIds = maxIds;
+    }
+
+    public int getChunkSize() {
+      return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+      this.chunkSize = chunkSize;
+    }
+  }
+
+  /**
+   * Settings for the bulkhead, circuit breaker and request hedging applied to each upstream service
+   */
+  public static class Resilience {
+
+    private int maxConcurrent = 20;
+    private long maxWait = 1000;
+    private int failureThreshold = 5;
+    private long openDuration = 30000;
+    private boolean hedging = false;
+    private long minHedgeDelay = 200;
+    private int latencyWindow = 200;
+
+    public int getMaxConcurrent() {
+      return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+      this.maxConcurrent = maxConcurrent;
+    }
+
+    public long getMaxWait() {
+      return maxWait;
+    }
+
+    public void setMaxWait(long maxWait) {
+      this.maxWait = maxWait;
+    }
+
+    public int getFailureThreshold() {
+      return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+      this.failureThreshold = failureThreshold;
+    }
+
+    public long getOpenDuration() {
+      return openDuration;
+    }
+
+    public void setOpenDuration(long openDuration) {
+      this.openDuration = openDuration;
+    }
+
+    public boolean isHedging() {
+      return hedging;
+    }
+
+    public void setHedging(boolean hedging) {
+      this.hedging = hedging;
+    }
+
+    public long getMinHedgeDelay() {
+      return minHedgeDelay;
+    }
+
+    public void setMinHedgeDelay(long minHedgeDelay) {
+      this.minHedgeDelay = minHedgeDelay;
+    }
+
+    public int getLatencyWindow() {
+      return latencyWindow;
+    }
+
+    public void setLatencyWindow(int latencyWindow) {
+      this.latencyWindow = latencyWindow;
+    }
+  }
+
+  /**
+   * Settings for the batched, write-behind writes of items and relationships to the Neo4j graph
+   */
+  public static class GraphWrite {
+
+    private int batchSize = 500;
+    private boolean writeBehind = true;
+    private int queueCapacity = 1000;
+    private int workers = 2;
+    private int maxBatchesPerFlush = 50;
+    private int maxAttempts = 3;
+    private long retryBackoff = 500;
+    private Overflow overflow = Overflow.SPILL;
+    private long offerTimeout = 100;
+    private String spillDirectory = System.getProperty("java.io.tmpdir") + "/wikibrowser/graph-spill";
+    private long drainTimeout = 30000;
+    private String propertyCatalog = "classpath:wikidata-properties.tsv";
+
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+    }
+
+    public boolean isWriteBehind() {
+      return writeBehind;
+    }
+
+    public void setWriteBehind(boolean writeBehind) {
+      this.writeBehind = writeBehind;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+    }
+
+    public int getWorkers() {
+      return workers;
+    }
+
+    public void setWorkers(int workers) {
+      this.workers = workers;
+    }
+
+    public int getMaxBatchesPerFlush() {
+      return maxBatchesPerFlush;
+    }
+
+    public void setMaxBatchesPerFlush(int maxBatchesPerFlush) {
+      this.maxBatchesPerFlush = maxBatchesPerFlush;
+    }
+
+    public int getMaxAttempts() {
+      return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBackoff() {
+      return retryBackoff;
+    }
+
+    public void setRetryBackoff(long retryBackoff) {
+      this.retryBackoff = retryBackoff;
+    }
+
+    public Overflow getOverflow() {
+      return overflow;
+    }
+
+    public void setOverflow(Overflow overflow) {
+      this.overflow = overflow;
+    }
+
+    public long getOfferTimeout() {
+      return offerTimeout;
+    }
+
+    public void setOfferTimeout(long offerTimeout) {
+      this.offerTimeout = offerTimeout;
+    }
+
+    public String getSpillDirectory() {
+      return spillDirectory;
+    }
+
+    public void setSpillDirectory(String spillDirectory) {
+      this.spillDirectory = spillDirectory;
+    }
+
+    public long getDrainTimeout() {
+      return drainTimeout;
+    }
+
+    public void setDrainTimeout(long drainTimeout) {
+      this.drainTimeout = drainTimeout;
+    }
+
+    public String getPropertyCatalog() {
+      return propertyCatalog;
+    }
+
+    public void setPropertyCatalog(String propertyCatalog) {
+      this.propertyCatalog = propertyCatalog;
+    }
+
+    /**
+     * What to do with a batch when the write-behind queue is full
+     */
+    public enum Overflow {
+      /** Wait up to offerTimeout for room, then drop it */
+      BLOCK,
+      /** Drop it */
+      DROP,
+      /** Write it to the spill directory, to be replayed when the queue has drained */
+      SPILL
+    }
+  }
+
+  /**
+   * Sizing and snapshot settings for the filter that skips graph writes already made
+   */
+  public static class GraphFilter {
+
+    private boolean enabled = true;
+    private long expectedItems = 5000000;
+    private long expectedRelationships = 20000000;
+    private double falsePositiveRate = 0.01;
+    private String snapshotFile = System.getProperty("java.io.tmpdir") + "/wikibrowser/graph-filter.bin";
+    private long snapshotInterval = 300000;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public long getExpectedItems() {
+      return expectedItems;
+    }
+
+    public void setExpectedItems(long expectedItems) {
+      this.expectedItems = expectedItems;
+    }
+
+    public long getExpectedRelationships() {
+      return expectedRelationships;
+    }
+
+    public void setExpectedRelationships(long expectedRelationships) {
+      this.expectedRelationships = expectedRelationships;
+    }
+
+    public double getFalsePositiveRate() {
+      return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+      this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public String getSnapshotFile() {
+      return snapshotFile;
+    }
+
+    public void setSnapshotFile(String snapshotFile) {
+      this.snapshotFile = snapshotFile;
+    }
+
+    public long getSnapshotInterval() {
+      return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(long snapshotInterval) {
+      this.snapshotInterval = snapshotInterval;
+    }
+  }
+
+  /**
+   * Selects how Cypher statements are sent to Neo4j: over the transactional HTTP endpoint given by the
+   * cypher-* properties, or over the Bolt protocol
+   */
+  public static class Neo4j {
+
+    private Protocol protocol = Protocol.HTTP;
+    private String boltUri = "";
+    private int boltPort = 7687;
+    // Bolt sessions kept open in the driver's pool between uses
+    private int maxIdleSessions = 50;
+    private boolean encrypted = true;
+
+    public Protocol getProtocol() {
+      return protocol;
+    }
+
+    public void setProtocol(Protocol protocol) {
+      this.protocol = protocol;
+    }
+
+    public String getBoltUri() {
+      return boltUri;
+    }
+
+    public void setBoltUri(String boltUri) {
+      this.boltUri = boltUri;
+    }
+
+    public int getBoltPort() {
+      return boltPort;
+    }
+
+    public void setBoltPort(int boltPort) {
+      this.boltPort = boltPort;
+    }
+
+    public int getMaxIdleSessions() {
+      return maxIdleSessions;
+    }
+
+    public void setMaxIdleSessions(int maxIdleSessions) {
+      this.maxIdleSessions = maxIdleSessions;
+    }
+
+    public boolean isEncrypted() {
+      return encrypted;
+    }
+
+    public void setEncrypted(boolean encrypted) {
+      this.encrypted = encrypted;
+    }
+
+    public enum Protocol {
+      HTTP,
+      BOLT
+    }
+  }
+
+  /**
+   * Sizes the stages of the pipeline that loads a Wikidata JSON dump into the graph in one pass
+   */
+  public static class DumpLoad {
+
+    // Whether /wikidataload may start dump loads at all
+    private boolean enabled = false;
+    private String dumpFile = "";
+    private int transformWorkers = Runtime.getRuntime().availableProcessors();
+    private int writerThreads = 2;
+    private int lineQueueCapacity = 10000;
+    private int batchQueueCapacity = 2000;
+    private int flushEntries = 5000;
+    private String bulkImportDirectory = System.getProperty("java.io.tmpdir") + "/wikibrowser/bulk-import";
+    private long bulkImportShardRows = 5000000;
+    private String checkpointFile = System.getProperty("java.io.tmpdir") + "/wikibrowser/dump-checkpoint.bin";
+    private long checkpointInterval = 30000;
+    private long expectedEntities = 20000000;
+    private int cleanupPageSize = 10000;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getDumpFile() {
+      return dumpFile;
+    }
+
+    public void setDumpFile(String dumpFile) {
+      this.dumpFile = dumpFile;
+    }
+
+    public int getTransformWorkers() {
+      return transformWorkers;
+    }
+
+    public void setTransformWorkers(int transformWorkers) {
+      this.transformWorkers = transformWorkers;
+    }
+
+    public int getWriterThreads() {
+      return writerThreads;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+      this.writerThreads = writerThreads;
+    }
+
+    public int getLineQueueCapacity() {
+      return lineQueueCapacity;
+    }
+
+    public void setLineQueueCapacity(int lineQueueCapacity) {
+      this.lineQueueCapacity = lineQueueCapacity;
+    }
+
+    public int getBatchQueueCapacity() {
+      return batchQueueCapacity;
+    }
+
+    public void setBatchQueueCapacity(int batchQueueCapacity) {
+      this.batchQueueCapacity = batchQueueCapacity;
+    }
+
+    public int getFlushEntries() {
+      return flushEntries;
+    }
+
+    public void setFlushEntries(int flushEntries) {
+      this.flushEntries = flushEntries;
+    }
+
+    public String getBulkImportDirectory() {
+      return bulkImportDirectory;
+    }
+
+    public void setBulkImportDirectory(String bulkImportDirectory) {
+      this.bulkImportDirectory = bulkImportDirectory;
+    }
+
+    public long getBulkImportShardRows() {
+      return bulkImportShardRows;
+    }
+
+    public void setBulkImportShardRows(long bulkImportShardRows) {
+      this.bulkImportShardRows = bulkImportShardRows;
+    }
+
+    public String getCheckpointFile() {
+      return checkpointFile;
+    }
+
+    public void setCheckpointFile(String checkpointFile) {
+      this.checkpointFile = checkpointFile;
+    }
+
+    public long getCheckpointInterval() {
+      return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(long checkpointInterval) {
+      this.checkpointInterval = checkpointInterval;
+    }
+
+    public long getExpectedEntities() {
+      return expectedEntities;
+    }
+
+    public void setExpectedEntities(long expectedEntities) {
+      this.expectedEntities = expectedEntities;
+    }
+
+    public int getCleanupPageSize() {
+      return cleanupPageSize;
+    }
+
+    public void setCleanupPageSize(int cleanupPageSize) {
+      this.cleanupPageSize = cleanupPageSize;
+    }
+  }
+
+  /**
+   * Limits for looking up the thumbnails of the nodes in /visgraph responses
+   */
+  public static class Thumbnails {
+
+    private int chunkSize = 50;
+    private long deadline = 3000;
+
+    public int getChunkSize() {
+      return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+      this.chunkSize = chunkSize;
+    }
+
+    public long getDeadline() {
+      return deadline;
+    }
+
+    public void setDeadline(long deadline) {
+      this.deadline = deadline;
+    }
+  }
+
+  /**
+   * In-memory index of the concept graph, which /visgraph reads from instead of Neo4j once it has loaded
+   */
+  public static class GraphIndex {
+
+    private boolean enabled = false;
+    private String snapshotFile = System.getProperty("java.io.tmpdir") + "/wikibrowser/graph-index.bin";
+    private long snapshotInterval = 3600000;
+    private boolean loadFromGraph = true;
+    private int loadPageSize = 10000;
+    private long loadRetryInterval = 300000;
+    private int compactionThreshold = 100000;
+    private boolean serveVisGraph = true;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getSnapshotFile() {
+      return snapshotFile;
+    }
+
+    public void setSnapshotFile(String snapshotFile) {
+      this.snapshotFile = snapshotFile;
+    }
+
+    public long getSnapshotInterval() {
+      return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(long snapshotInterval) {
+      this.snapshotInterval = snapshotInterval;
+    }
+
+    public boolean isLoadFromGraph() {
+      return loadFromGraph;
+    }
+
+    public void setLoadFromGraph(boolean loadFromGraph) {
+      this.loadFromGraph = loadFromGraph;
+    }
+
+    public int getLoadPageSize() {
+      return loadPageSize;
+    }
+
+    public void setLoadPageSize(int loadPageSize) {
+      this.loadPageSize = loadPageSize;
+    }
+
+    public long getLoadRetryInterval() {
+      return loadRetryInterval;
+    }
+
+    public void setLoadRetryInterval(long loadRetryInterval) {
+      this.loadRetryInterval = loadRetryInterval;
+    }
+
+    public int getCompactionThreshold() {
+      return compactionThreshold;
+    }
+
+    public void setCompactionThreshold(int compactionThreshold) {
+      this.compactionThreshold = compactionThreshold;
+    }
+
+    public boolean isServeVisGraph() {
+      return serveVisGraph;
+    }
+
+    public void setServeVisGraph(boolean serveVisGraph) {
+      this.serveVisGraph = serveVisGraph;
+    }
+  }
+
+  /**
+   * Limits of the /visshortpaths search of the graph index.  An empty list of allowed properties allows all but
+   * the denied ones.
+   */
+  public static class ShortPaths {
+
+    private boolean useIndex = true;
+    private int maxDepth = 2;
+    private List<String> allowedProperties = new ArrayList<>();
+    private List<String> deniedProperties = new ArrayList<>(Arrays.asList("P1343"));
+    private List<String> deniedItems = new ArrayList<>(Arrays.asList("Q5"));
+    private int maxPaths = 200;
+    private long timeBudget = 2000;
+
+    public boolean isUseIndex() {
+      return useIndex;
+    }
+
+    public void setUseIndex(boolean useIndex) {
+      this.useIndex = useIndex;
+    }
+
+    public int getMaxDepth() {
+      return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+      this.maxDepth = maxDepth;
+    }
+
+    public List<String> getAllowedProperties() {
+      return allowedProperties;
+    }
+
+    public void setAllowedProperties(List<String> allowedProperties) {
+      this.allowedProperties = allowedProperties;
+    }
+
+    public List<String> getDeniedProperties() {
+      return deniedProperties;
+    }
+
+    public void setDeniedProperties(List<String> deniedProperties) {
+      this.deniedProperties = deniedProperties;
+    }
+
+    public List<String> getDeniedItems() {
+      return deniedItems;
+    }
+
+    public void setDeniedItems(List<String> deniedItems) {
+      this.deniedItems = deniedItems;
+    }
+
+    public int getMaxPaths() {
+      return maxPaths;
+    }
+
+    public void setMaxPaths(int maxPaths) {
+      this.maxPaths = maxPaths;
+    }
+
+    public long getTimeBudget() {
+      return timeBudget;
+    }
+
+    public void setTimeBudget(long timeBudget) {
+      this.timeBudget = timeBudget;
+    }
+  }
+
+  /**
+   * The hierarchy that /visrootpaths follows to the root item, and the most paths it returns when they are
+   * walked in the hierarchy index
+   */
+  public static class RootPaths {
+
+    private boolean useIndex = true;
+    private String rootItem = "Q35120";
+    private List<String> properties = new ArrayList<>(Arrays.asList("P279", "P31", "P361"));
+    private int maxPaths = 200;
+
+    public boolean isUseIndex() {
+      return useIndex;
+    }
+
+    public void setUseIndex(boolean useIndex) {
+      this.useIndex = useIndex;
+    }
+
+    public String getRootItem() {
+      return rootItem;
+    }
+
+    public void setRootItem(String rootItem) {
+      this.rootItem = rootItem;
+    }
+
+    public List<String> getProperties() {
+      return properties;
+    }
+
+    public void setProperties(List<String> properties) {
+      this.properties = properties;
+    }
+
+    public int getMaxPaths() {
+      return maxPaths;
+    }
+
+    public void setMaxPaths(int maxPaths) {
+      this.maxPaths = maxPaths;
+    }
   }
 }
@@ -17,30 +17,48 @@
 package com.javafxpert.wikibrowser;
 
 import com.javafxpert.wikibrowser.model.claimsresponse.*;
-import com.javafxpert.wikibrowser.model.claimssparqlresponse.Bindings;
-import com.javafxpert.wikibrowser.model.claimssparqlresponse.ClaimsSparqlResponse;
-import com.javafxpert.wikibrowser.model.claimssparqlresponse.Picture;
-import com.javafxpert.wikibrowser.model.claimssparqlresponse.Results;
-import com.javafxpert.wikibrowser.model.conceptmap.ItemRepository;
-import com.javafxpert.wikibrowser.model.conceptmap.ItemServiceImpl;
-import com.javafxpert.wikibrowser.model.locator.ItemInfoResponse;
+import com.javafxpert.wikibrowser.model.conceptmap.ConceptMapBatch;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphWriteQueue;
+import com.javafxpert.wikibrowser.model.locator.ItemInfo;
+import com.javafxpert.wikibrowser.model.locator.LocatorService;
 import com.javafxpert.wikibrowser.model.thumbnail.ThumbnailCache;
 import com.javafxpert.wikibrowser.model.traversalresponse.*;
+import com.javafxpert.wikibrowser.sparql.InvalidSparqlParameterException;
+import com.javafxpert.wikibrowser.sparql.SparqlClient;
+import com.javafxpert.wikibrowser.sparql.SparqlParam;
+import com.javafxpert.wikibrowser.sparql.SparqlQueryTemplate;
+import com.javafxpert.wikibrowser.sparql.SparqlResultCache;
+import com.javafxpert.wikibrowser.sparql.SparqlRows;
+import com.javafxpert.wikibrowser.sparql.WikidataQueries;
+import com.javafxpert.wikibrowser.upstream.UpstreamUnavailableException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * Created by jamesweaver on 10/13/15.
@@ -58,171 +76,329 @@ public class WikiClaimsController {
   // TODO: Move to configuration file or service
   public static int THUMBNAIL_WIDTH = 100;
   private static int MAX_VALS_FOR_PROP = 25;
+  private static int MAX_ROWS_PER_ITEM = 500;
+  private static int MAX_ROWS_PER_BATCH = 10000;
 
   private Log log = LogFactory.getLog(getClass());
 
   private final WikiBrowserProperties wikiBrowserProperties;
 
-  private final ItemServiceImpl itemService;
+  private final SparqlClient sparqlClient;
 
-  private ItemRepository itemRepository;
+  private final GraphWriteQueue graphWriteQueue;
+
+  private final LocatorService locatorService;
+
+  private final Executor upstreamExecutor;
+
+  private final SparqlResultCache sparqlResultCache;
 
   @Autowired
-  public WikiClaimsController(WikiBrowserProperties wikiBrowserProperties, ItemServiceImpl itemService) {
+  public WikiClaimsController(WikiBrowserProperties wikiBrowserProperties, GraphWriteQueue graphWriteQueue,
+                              SparqlClient sparqlClient, LocatorService locatorService,
+                              @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                              SparqlResultCache sparqlResultCache) {
     this.wikiBrowserProperties = wikiBrowserProperties;
-    this.itemService = itemService;
-    itemRepository = itemService.getItemRepository();
+    this.sparqlClient = sparqlClient;
+    this.locatorService = locatorService;
+    this.upstreamExecutor = upstreamExecutor;
+    this.sparqlResultCache = sparqlResultCache;
+    this.graphWriteQueue = graphWriteQueue;
   }
 
   @RequestMapping(value = "/claims", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<Object> renderClaims(@RequestParam(value = "id", defaultValue="Q7259")
+  public CompletableFuture<ResponseEntity<Object>> renderClaims(@RequestParam(value = "id", defaultValue="Q7259")
                                                                  String itemId,
                                                                  @RequestParam(value = "lang")
                                                                  String lang) {
 
     String language = wikiBrowserProperties.computeLang(lang);
-    ClaimsSparqlResponse claimsSparqlResponse = callClaimsSparqlQuery(itemId, language);
-    ClaimsResponse claimsResponse = convertSparqlResponse(claimsSparqlResponse, language, itemId);
+    URI query = WikidataQueries.CLAIMS.query().with("item", itemId).with("lang", language).toUri();
 
-    //log.info("claimsResponse:" + claimsResponse);
+    // The SPARQL query and the locator lookup don't depend on each other, so issue them concurrently
+    CompletableFuture<SparqlRows> sparqlFuture = supply(() -> callClaimsSparqlQuery(itemId, language, query));
+    CompletableFuture<ItemInfo> itemInfoFuture = supply(() -> locatorService.id2Name(itemId, language));
 
-    return Optional.ofNullable(claimsResponse)
-        .map(cr -> new ResponseEntity<>((Object)cr, HttpStatus.OK))
-        .orElse(new ResponseEntity<>("Wikidata query unsuccessful", HttpStatus.INTERNAL_SERVER_ERROR));
+    return sparqlFuture
+        .thenCombine(itemInfoFuture, (sparqlRows, itemInfo) ->
+            convertSparqlResponse(sparqlRows, itemInfo, language, itemId))
+        .thenApply(claimsResponse -> toResponseEntity(claimsResponse, "Wikidata query unsuccessful"))
+        .exceptionally(e -> failedResponseEntity(e, "Wikidata query unsuccessful"));
 
+    //log.info("claimsResponse:" + claimsResponse);
   }
 
   @RequestMapping(value = "/claimsxml", method = RequestMethod.GET, produces = MediaType.APPLICATION_XML_VALUE)
-  public ResponseEntity<Object> renderClaimsXml(@RequestParam(value = "id", defaultValue="Q7259")
+  public CompletableFuture<ResponseEntity<Object>> renderClaimsXml(@RequestParam(value = "id", defaultValue="Q7259")
                                                              String itemId,
                                                              @RequestParam(value = "lang")
                                                              String lang) {
 
     String language = wikiBrowserProperties.computeLang(lang);
-    ClaimsSparqlResponse claimsSparqlResponse = callClaimsSparqlQuery(itemId, language);
-    ClaimsResponse claimsResponse = convertSparqlResponse(claimsSparqlResponse, language, itemId);
+    URI query = WikidataQueries.CLAIMS.query().with("item", itemId).with("lang", language).toUri();
 
-    return Optional.ofNullable(claimsResponse)
-        .map(cr -> new ResponseEntity<>((Object)cr, HttpStatus.OK))
-        .orElse(new ResponseEntity<>("Wikidata query unsuccessful", HttpStatus.INTERNAL_SERVER_ERROR));
+    CompletableFuture<SparqlRows> sparqlFuture = supply(() -> callClaimsSparqlQuery(itemId, language, query));
+    CompletableFuture<ItemInfo> itemInfoFuture = supply(() -> locatorService.id2Name(itemId, language));
 
+    return sparqlFuture
+        .thenCombine(itemInfoFuture, (sparqlRows, itemInfo) ->
+            convertSparqlResponse(sparqlRows, itemInfo, language, itemId))
+        .thenApply(claimsResponse -> toResponseEntity(claimsResponse, "Wikidata query unsuccessful"))
+        .exceptionally(e -> failedResponseEntity(e, "Wikidata query unsuccessful"));
   }
 
-  private ClaimsSparqlResponse callClaimsSparqlQuery(String itemId, String lang) {
-    // Here is the SPARQL query that this method invokes (using Q42 as an example).  Note that it also returns a row for Q42
-    /*
-      PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#>
-       PREFIX wikibase: <http://wikiba.se/ontology#>
-       PREFIX entity: <http://www.wikidata.org/entity/>
-       PREFIX p: <http://www.wikidata.org/prop/direct/>
-
-       SELECT ?propUrl ?propLabel ?valUrl ?valLabel ?picture
-       WHERE {
-         hint:Query hint:optimizer 'None' .
-         { BIND(entity:Q42 AS ?valUrl) .
-           BIND("N/A" AS ?propUrl ) .
-           BIND("identity"@en AS ?propLabel ) .
-         }
-         UNION
-         { entity:Q42 ?propUrl ?valUrl .
-
-           ?property ?ref ?propUrl .
-           ?property a wikibase:Property .
-           ?property rdfs:label ?propLabel
-         }
-
-         ?valUrl rdfs:label ?valLabel
-         FILTER (LANG(?valLabel) = 'en') .
-
-         OPTIONAL{
-           ?valUrl p:P18 ?picture .
-         }
-         FILTER (lang(?propLabel) = 'en' )
-        }
-       ORDER BY ?propLabel ?valLabel LIMIT 200
-     */
-
-    String wdqa = "https://query.wikidata.org/bigdata/namespace/wdq/sparql?format=json&query=";
-    String wdqb = "PREFIX rdfs: %3Chttp://www.w3.org/2000/01/rdf-schema%23%3E ";
-    String wdqc = "PREFIX wikibase: %3Chttp://wikiba.se/ontology%23%3E ";
-    String wdqd = "PREFIX entity: %3Chttp://www.wikidata.org/entity/%3E ";
-    String wdqe = "PREFIX p: %3Chttp://www.wikidata.org/prop/direct/%3E ";
-    String wdqf = "SELECT ?propUrl ?propLabel ?valUrl ?valLabel ?picture ";
-    String wdqg = "WHERE %7B hint:Query hint:optimizer 'None' . %7B BIND(entity:";
-    String wdqh = ""; // Some item ID e.g. Q7259
-    String wdqi = " AS ?valUrl) . BIND('N/A' AS ?propUrl ) . BIND('identity'%40";
-    String wdqj = ""; // Some language code e.g. en
-    String wdqk = " AS ?propLabel ) . %7D UNION %7B entity:";
-    String wdql = ""; // Some item ID e.g. Q7259
-    String wdqm = " ?propUrl ?valUrl . ?property ?ref ?propUrl . ?property a wikibase:Property . ";
-    String wdqn = "?property rdfs:label ?propLabel %7D ?valUrl rdfs:label ?valLabel FILTER (lang(?valLabel) = '";
-    String wdqo = ""; // Some language code e.g. en
-    String wdqp = "' ) . ";
-    String wdqq =   "OPTIONAL %7B ";
-    String wdqr =   "  ?valUrl p:P18 ?picture . ";
-    String wdqs =   "%7D ";
-    String wdqt = "FILTER (lang(?propLabel) = '";
-    String wdqu = ""; // Some language code e.g. en
-    String wdqv = "' ) ";
-    String wdqw = "%7D ORDER BY ?propLabel ?valLabel LIMIT 500";
-
-    ClaimsSparqlResponse claimsSparqlResponse = null;
-
-    wdqh = itemId;
-    wdqj = lang;
-    wdql = itemId;
-    wdqo = lang;
-    wdqu = lang;
-    String wdQuery = wdqa + wdqb + wdqc + wdqd + wdqe + wdqf + wdqg + wdqh + wdqi + wdqj + wdqk + wdql + wdqm + wdqn +
-        wdqo + wdqp + wdqq + wdqr + wdqs + wdqt + wdqu + wdqv + wdqw;
-    wdQuery = wdQuery.replaceAll(" ", "%20");
-    log.info("wdQuery: " + wdQuery);
+  /**
+   * Claims for several items at once, keyed by item ID.  Items whose claims are already cached are served
+   * from the cache, and the rest are fetched with one SPARQL query per chunk of IDs.
+   */
+  @RequestMapping(value = "/claims/batch", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<Object>> renderClaimsBatch(@RequestParam(value = "ids")
+                                                                      String ids,
+                                                                      @RequestParam(value = "lang")
+                                                                      String lang) {
+
+    String language = wikiBrowserProperties.computeLang(lang);
+    SparqlParam.LANG.validate("lang", language);
+
+    List<String> itemIds = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(ids.split("\\s*,\\s*"))));
+    itemIds.remove("");
+    for (String itemId : itemIds) {
+      SparqlParam.ITEM_ID.validate("id", itemId);
+    }
+
+    int maxIds = wikiBrowserProperties.getClaimsBatch().getMaxIds();
+    if (itemIds.isEmpty() || itemIds.size() > maxIds) {
+      return CompletableFuture.completedFuture(
+          new ResponseEntity<>("Between 1 and " + maxIds + " ids are required", HttpStatus.BAD_REQUEST));
+    }
+
+    // The cache is read on the upstream executor too, as each entry is a file read, and only the items it
+    // doesn't hold are queried, in chunks
+    Map<String, SparqlRows> rowsByItem = new ConcurrentHashMap<>();
+    int chunkSize = wikiBrowserProperties.getClaimsBatch().getChunkSize();
+    CompletableFuture<Void> sparqlFuture = supply(() -> readCachedClaims(itemIds, language, rowsByItem))
+        .thenCompose(uncachedIds -> {
+          List<CompletableFuture<Void>> chunkFutures = new ArrayList<>();
+          for (int start = 0; start < uncachedIds.size(); start += chunkSize) {
+            List<String> chunk = uncachedIds.subList(start, Math.min(start + chunkSize, uncachedIds.size()));
+            chunkFutures.add(supply(() -> callClaimsBatchSparqlQuery(chunk, language)).thenAccept(rowsByItem::putAll));
+          }
+          return CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture<?>[0]));
+        });
+    CompletableFuture<Map<String, ItemInfo>> itemInfoFuture = supply(() -> locatorService.id2Names(itemIds, language));
+
+    return sparqlFuture
+        .thenCombine(itemInfoFuture, (done, itemInfoMap) -> {
+          Map<String, ClaimsResponse> claimsResponses = new LinkedHashMap<>();
+          for (String itemId : itemIds) {
+            SparqlRows sparqlRows = rowsByItem.get(itemId);
+            if (sparqlRows != null) {
+              claimsResponses.put(itemId, convertSparqlResponse(sparqlRows, itemInfoMap.get(itemId), language, itemId));
+            }
+          }
+          return claimsResponses.isEmpty() ? null : claimsResponses;
+        })
+        .thenApply(claimsResponses -> toResponseEntity(claimsResponses, "Wikidata batch query unsuccessful"))
+        .exceptionally(e -> failedResponseEntity(e, "Wikidata batch query unsuccessful"));
+  }
+
+  /**
+   * Puts the cached claims of the items into rowsByItem
+   *
+   * @return the IDs of the items that have none cached
+   */
+  private List<String> readCachedClaims(List<String> itemIds, String lang, Map<String, SparqlRows> rowsByItem) {
+    List<String> uncachedIds = new ArrayList<>();
+    for (String itemId : itemIds) {
+      SparqlRows sparqlRows = sparqlResultCache.get(SparqlResultCache.CLAIMS, itemId + "^" + lang);
+      if (sparqlRows != null) {
+        rowsByItem.put(itemId, sparqlRows);
+      }
+      else {
+        uncachedIds.add(itemId);
+      }
+    }
+    return uncachedIds;
+  }
 
+  /**
+   * Runs an upstream call on the upstream executor when async mode is enabled, otherwise on the calling thread
+   */
+  private <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+    if (wikiBrowserProperties.getAsync().isEnabled()) {
+      try {
+        return CompletableFuture.supplyAsync(supplier, upstreamExecutor);
+      }
+      catch (RejectedExecutionException e) {
+        CompletableFuture<T> rejected = new CompletableFuture<>();
+        rejected.completeExceptionally(new UpstreamUnavailableException("Upstream executor is saturated"));
+        return rejected;
+      }
+    }
+
+    CompletableFuture<T> future = new CompletableFuture<>();
     try {
+      future.complete(supplier.get());
+    }
+    catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private ResponseEntity<Object> toResponseEntity(Object response, String failureMessage) {
+    return Optional.ofNullable(response)
+        .map(cr -> new ResponseEntity<>(cr, HttpStatus.OK))
+        .orElse(new ResponseEntity<>(failureMessage, HttpStatus.INTERNAL_SERVER_ERROR));
+  }
 
-      claimsSparqlResponse = new RestTemplate().getForObject(new URI(wdQuery),
-          ClaimsSparqlResponse.class);
+  @ExceptionHandler(InvalidSparqlParameterException.class)
+  public ResponseEntity<Object> invalidParameter(InvalidSparqlParameterException e) {
+    log.info("Rejected request: " + e.getMessage());
+    return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+  }
 
-      //log.info(claimsSparqlResponse.toString());
+  private ResponseEntity<Object> failedResponseEntity(Throwable e, String failureMessage) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    if (cause instanceof UpstreamUnavailableException) {
+      log.info("Rejected request: " + cause.getMessage());
+      return new ResponseEntity<>(failureMessage, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    e.printStackTrace();
+    log.info("Caught exception when computing claims " + e);
+    return new ResponseEntity<>(failureMessage, HttpStatus.INTERNAL_SERVER_ERROR);
+  }
 
+  private SparqlRows callClaimsSparqlQuery(String itemId, String lang, URI query) {
+    String cacheKey = itemId + "^" + lang;
+    SparqlRows sparqlRows = sparqlResultCache.get(SparqlResultCache.CLAIMS, cacheKey);
+    if (sparqlRows != null) {
+      return sparqlRows;
+    }
+
+    log.info("wdQuery: " + query);
+
+    try {
+
+      sparqlRows = sparqlClient.select(query, SparqlRows.CLAIMS_VARS);
+
+      //log.info(sparqlRows.toString());
+
+      sparqlResultCache.put(SparqlResultCache.CLAIMS, cacheKey, sparqlRows);
     }
     catch (Exception e) {
       e.printStackTrace();
       log.info("Caught exception when calling wikidata sparql query " + e);
+
+      // Serve stale results, if there are any, while the query service is failing
+      sparqlRows = sparqlResultCache.getStale(SparqlResultCache.CLAIMS, cacheKey);
     }
 
-    return claimsSparqlResponse;
+    return sparqlRows;
   }
 
-  private ClaimsResponse convertSparqlResponse(ClaimsSparqlResponse claimsSparqlResponse, String lang, String itemId) {
-    ClaimsResponse claimsResponse = new ClaimsResponse();
-    claimsResponse.setLang(lang);
-    claimsResponse.setWdItem(itemId);
-    claimsResponse.setWdItemBase(WIKIDATA_ITEM_BASE);
-    claimsResponse.setWdPropBase(WIKIDATA_PROP_BASE);
+  /**
+   * Queries the claims for a chunk of items, splitting the rows by item and caching each item's rows
+   * as though they had come from callClaimsSparqlQuery.  Each item keeps at most the MAX_ROWS_PER_ITEM rows
+   * that CLAIMS would return for it.
+   */
+  private Map<String, SparqlRows> callClaimsBatchSparqlQuery(List<String> itemIds, String lang) {
+    Map<String, SparqlRows> rowsByItem = new HashMap<>();
 
-    ItemInfoResponse itemInfoResponse = null;
+    int limit = Math.min(itemIds.size() * MAX_ROWS_PER_ITEM, MAX_ROWS_PER_BATCH);
+    URI query = WikidataQueries.CLAIMS_BATCH.query()
+        .with("items", itemIds)
+        .with("lang", lang)
+        .with("limit", limit)
+        .toUri();
+    log.info("wdQuery: " + query);
 
     try {
-      String url = this.wikiBrowserProperties.getLocatorServiceUrl(itemId, lang);
-      itemInfoResponse = new RestTemplate().getForObject(url,
-          ItemInfoResponse.class);
+      SparqlRows batchRows = sparqlClient.select(query, SparqlRows.CLAIMS_BATCH_VARS);
+
+      for (String itemId : itemIds) {
+        rowsByItem.put(itemId, new SparqlRows(SparqlRows.CLAIMS_VARS));
+      }
+      String lastItemId = null;
+      for (String[] row : batchRows.getRows()) {
+        String itemUrl = row[0];
+        lastItemId = itemUrl.substring(itemUrl.lastIndexOf("/") + 1);
+        SparqlRows sparqlRows = rowsByItem.get(lastItemId);
+
+        // Within an item the rows are in the same order as from CLAIMS, so its first rows are what CLAIMS returns
+        if (sparqlRows != null && sparqlRows.size() < MAX_ROWS_PER_ITEM) {
+          sparqlRows.addRow(Arrays.copyOfRange(row, 1, row.length));
+        }
+      }
 
-      //log.info(itemInfoResponse.toString());
+      // Once the batch reaches its limit, the rows of the last item in it may be cut short, and the items that
+      // sort after it are missing altogether, so those are queried on their own
+      List<String> cutOffIds = new ArrayList<>();
+      if (batchRows.size() >= limit) {
+        for (String itemId : itemIds) {
+          SparqlRows sparqlRows = rowsByItem.get(itemId);
+          if (sparqlRows.size() == 0 || (itemId.equals(lastItemId) && sparqlRows.size() < MAX_ROWS_PER_ITEM)) {
+            cutOffIds.add(itemId);
+          }
+        }
+        log.info("Batch wikidata sparql query reached its limit of " + limit + " rows, querying " + cutOffIds +
+            " on their own");
+      }
+
+      rowsByItem.forEach((itemId, sparqlRows) -> {
+        if (!cutOffIds.contains(itemId)) {
+          sparqlResultCache.put(SparqlResultCache.CLAIMS, itemId + "^" + lang, sparqlRows);
+        }
+      });
+      for (String itemId : cutOffIds) {
+        URI itemQuery = WikidataQueries.CLAIMS.query().with("item", itemId).with("lang", lang).toUri();
+        SparqlRows sparqlRows = callClaimsSparqlQuery(itemId, lang, itemQuery);
+        if (sparqlRows != null) {
+          rowsByItem.put(itemId, sparqlRows);
+        }
+        else {
+          rowsByItem.remove(itemId);
+        }
+      }
     }
     catch (Exception e) {
       e.printStackTrace();
-      log.info("Caught exception when calling /locator?id=" + itemId + " : " + e);
+      log.info("Caught exception when calling batch wikidata sparql query for " + itemIds + " " + e);
+      rowsByItem.clear();
+
+      for (String itemId : itemIds) {
+        SparqlRows sparqlRows = sparqlResultCache.getStale(SparqlResultCache.CLAIMS, itemId + "^" + lang);
+        if (sparqlRows != null) {
+          rowsByItem.put(itemId, sparqlRows);
+        }
+      }
+    }
+
+    return rowsByItem;
+  }
+
+  private ClaimsResponse convertSparqlResponse(SparqlRows sparqlRows, ItemInfo itemInfo,
+                                               String lang, String itemId) {
+    if (sparqlRows == null) {
+      return null;
     }
 
-    if (itemInfoResponse != null) {
-      claimsResponse.setArticleTitle(itemInfoResponse.getArticleTitle());
-      claimsResponse.setArticleId(itemInfoResponse.getItemId());
+    // Items and relationships are collected here and queued to be written to the graph together
+    ConceptMapBatch conceptMapBatch = new ConceptMapBatch();
+
+    ClaimsResponse claimsResponse = new ClaimsResponse();
+    claimsResponse.setLang(lang);
+    claimsResponse.setWdItem(itemId);
+    claimsResponse.setWdItemBase(WIKIDATA_ITEM_BASE);
+    claimsResponse.setWdPropBase(WIKIDATA_PROP_BASE);
+
+    if (itemInfo != null) {
+      claimsResponse.setArticleTitle(itemInfo.getArticleTitle());
+      claimsResponse.setArticleId(itemInfo.getItemId());
 
       // MERGE item into Neo4j graph
       if (claimsResponse.getArticleId() != null && claimsResponse.getArticleTitle() != null) {
-        //log.info("====== itemRepository.addItem: " + claimsResponse.getArticleId() + ", " + claimsResponse.getArticleTitle());
-        itemRepository.addItem(claimsResponse.getArticleId(), claimsResponse.getArticleTitle());
+        conceptMapBatch.addItem(claimsResponse.getArticleId(), claimsResponse.getArticleTitle());
       }
     }
 
@@ -232,29 +408,30 @@ public class WikiClaimsController {
     //TODO: Consider implementing fallback to "en" if mobile Wikipedia article doesn't exist in requested language
     claimsResponse.setWpMobileBase(String.format(WIKIPEDIA_MOBILE_TEMPLATE, lang));
 
-    Results results = claimsSparqlResponse.getResults();
-    Iterator bindingsIter = results.getBindings().iterator();
+    int propUrlCol = sparqlRows.column("propUrl");
+    int propLabelCol = sparqlRows.column("propLabel");
+    int valUrlCol = sparqlRows.column("valUrl");
+    int valLabelCol = sparqlRows.column("valLabel");
+    int pictureCol = sparqlRows.column("picture");
 
     String lastPropId = "";
     String lastValId = "";
     int valsForProp = 0;
 
     WikidataClaim wikidataClaim = null; //TODO: Consider using exception handling to make null assignment unnecessary
-    while (bindingsIter.hasNext()) {
-      Bindings bindings = (Bindings)bindingsIter.next(); //TODO: Consider renaming Bindings to Binding
+    for (String[] row : sparqlRows.getRows()) {
 
       // There is a 1:many relationship between property IDs and related values
-      String nextPropUrl = bindings.getPropUrl().getValue();
+      String nextPropUrl = row[propUrlCol];
       String nextPropId = nextPropUrl.substring(nextPropUrl.lastIndexOf("/") + 1);
-      String nextValUrl = bindings.getValUrl().getValue();
+      String nextValUrl = row[valUrlCol];
       String nextValId = nextValUrl.substring(nextValUrl.lastIndexOf("/") + 1);
 
       // Cache the picture for a thumbnail image
-      Picture picture = bindings.getPicture();
+      String pic = row[pictureCol];
       String pictureUrl = "";
 
-      if (picture != null) {
-        String pic = bindings.getPicture().getValue();
+      if (pic != null) {
 
         // Compute the URL for the thumbnail image
         pictureUrl = computeThumbnailFromSparqlPicture(pic, THUMBNAIL_WIDTH);
@@ -267,7 +444,7 @@ public class WikiClaimsController {
       //log.info("lastPropId: " + lastPropId + ", nextPropId: " + nextPropId);
       if (!nextPropId.equals(lastPropId)) {
         wikidataClaim = new WikidataClaim();
-        wikidataClaim.setProp(new WikidataProperty(nextPropId, bindings.getPropLabel().getValue()));
+        wikidataClaim.setProp(new WikidataProperty(nextPropId, row[propLabelCol]));
         claimsResponse.getClaims().add(wikidataClaim);
 
         valsForProp = 0;
@@ -276,7 +453,7 @@ public class WikiClaimsController {
       if (((nextPropId.equals(lastPropId) && !nextValId.equals(lastValId)) || !nextPropId.equals(lastPropId)) &&
           valsForProp < MAX_VALS_FOR_PROP) {
         valsForProp++;
-        WikidataItem wikidataItem = new WikidataItem(nextValId, bindings.getValLabel().getValue(), pictureUrl);
+        WikidataItem wikidataItem = new WikidataItem(nextValId, row[valLabelCol], pictureUrl);
         wikidataClaim.addItem(wikidataItem);
 
         // MERGE item and relationships into Neo4j graph
@@ -288,16 +465,10 @@ public class WikiClaimsController {
             wikidataClaim.getProp().getLabel() != null) {
 
           // Write item
-          //log.info("++++++ itemRepository.addItem: " + wikidataItem.getId() + ", " + wikidataItem.getLabel());
-          itemRepository.addItem(wikidataItem.getId(), wikidataItem.getLabel());
+          conceptMapBatch.addItem(wikidataItem.getId(), wikidataItem.getLabel());
 
           // Write relationship
-          //log.info("------ itemRepository.addRelationship: " + itemId + ", " +
-          //                 wikidataItem.getId() + ", " +
-          //                 wikidataClaim.getProp().getId() + ", " +
-          //                 wikidataClaim.getProp().getLabel());
-
-          itemRepository.addRelationship(itemId,
+          conceptMapBatch.addRelationship(itemId,
               wikidataItem.getId(),
               wikidataClaim.getProp().getId(),
               wikidataClaim.getProp().getLabel());
@@ -308,124 +479,77 @@ public class WikiClaimsController {
       lastValId = nextValId;
 
     }
+
+    // Written in the background, as nothing in this response depends on it
+    graphWriteQueue.submit(conceptMapBatch);
     return claimsResponse;
   }
 
   @RequestMapping(value = "/relatedclaims", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<Object> renderRelatedClaims(@RequestParam(value = "id", defaultValue="Q7259")
+  public CompletableFuture<ResponseEntity<Object>> renderRelatedClaims(@RequestParam(value = "id", defaultValue="Q7259")
                                                     String itemId,
                                                     @RequestParam(value = "lang")
                                                     String lang) {
 
     String language = wikiBrowserProperties.computeLang(lang);
-    ClaimsSparqlResponse claimsSparqlResponse = callRelatedClaimsSparqlQuery(itemId, language);
-    ClaimsResponse claimsResponse = convertRelatedClaimsSparqlResponse(claimsSparqlResponse, language, itemId);
+    URI query = WikidataQueries.RELATED_CLAIMS.query().with("item", itemId).with("lang", language).toUri();
 
-    //log.info("claimsResponse:" + claimsResponse);
+    CompletableFuture<SparqlRows> sparqlFuture = supply(() -> callRelatedClaimsSparqlQuery(itemId, language, query));
+    CompletableFuture<ItemInfo> itemInfoFuture = supply(() -> locatorService.id2Name(itemId, language));
 
-    return Optional.ofNullable(claimsResponse)
-        .map(cr -> new ResponseEntity<>((Object)cr, HttpStatus.OK))
-        .orElse(new ResponseEntity<>("Wikidata related query unsuccessful", HttpStatus.INTERNAL_SERVER_ERROR));
+    //log.info("claimsResponse:" + claimsResponse);
 
+    return sparqlFuture
+        .thenCombine(itemInfoFuture, (sparqlRows, itemInfo) ->
+            convertRelatedClaimsSparqlResponse(sparqlRows, itemInfo, language, itemId))
+        .thenApply(claimsResponse -> toResponseEntity(claimsResponse, "Wikidata related query unsuccessful"))
+        .exceptionally(e -> failedResponseEntity(e, "Wikidata related query unsuccessful"));
   }
 
 
-  private ClaimsSparqlResponse callRelatedClaimsSparqlQuery(String itemId, String lang) {
-    // Here is the SPARQL query that this method invokes (using Q42 as an example)
-    /*
-      PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema%23>
-      PREFIX wikibase: <http://wikiba.se/ontology%23>
-      PREFIX entity: <http://www.wikidata.org/entity/>
-      PREFIX p: <http://www.wikidata.org/prop/direct/>
-      SELECT ?propUrl ?propLabel ?valUrl ?valLabel ?picture
-      WHERE {
-          hint:Query hint:optimizer 'None' .
-          ?valUrl ?propUrl entity:Q42 .
-          ?valUrl rdfs:label ?valLabel .
-
-          FILTER (LANG(?valLabel) = 'en') .
-
-          ?property ?ref ?propUrl .
-          ?property a wikibase:Property .
-          ?property rdfs:label ?propLabel
+  private SparqlRows callRelatedClaimsSparqlQuery(String itemId, String lang, URI query) {
+    String cacheKey = itemId + "^" + lang;
+    SparqlRows sparqlRows = sparqlResultCache.get(SparqlResultCache.RELATED_CLAIMS, cacheKey);
+    if (sparqlRows != null) {
+      return sparqlRows;
+    }
 
-          OPTIONAL{
-            ?valUrl p:P18 ?picture .
-          }
-          FILTER (lang(?propLabel) = 'en' )
-      }
-      ORDER BY ?propLabel ?valLabel LIMIT 200
-    */
-
-    //TODO: Implement better way of creating the query represented by the following variables
-    String wdqa = "https://query.wikidata.org/bigdata/namespace/wdq/sparql?format=json&query=";
-    String wdqb = "PREFIX%20rdfs:%20%3Chttp://www.w3.org/2000/01/rdf-schema%23%3E%20";
-    String wdqc = "PREFIX%20wikibase:%20%3Chttp://wikiba.se/ontology%23%3E%20";
-    String wdqd = "PREFIX%20entity:%20%3Chttp://www.wikidata.org/entity/%3E%20";
-    String wdqe = "PREFIX%20p:%20%3Chttp://www.wikidata.org/prop/direct/%3E%20";
-    String wdqf = "SELECT%20?propUrl%20?propLabel%20?valUrl%20?valLabel%20?picture%20";
-    String wdqg = "WHERE%20%7B%20hint:Query%20hint:optimizer%20'None'%20.%20?valUrl%20?propUrl%20entity:";
-    String wdqh = ""; // Some item ID e.g. Q7259
-    String wdqi = "%20.%20?valUrl%20rdfs:label%20?valLabel%20.%20FILTER%20(LANG(?valLabel)%20=%20'";
-    String wdqj = ""; // Some language code e.g. en
-    String wdqk = "')%20.%20?property%20?ref%20?propUrl%20.%20?property%20a%20wikibase:Property%20.%20";
-    String wdql = "?property%20rdfs:label%20?propLabel%20";
-    String wdqm =   "OPTIONAL %7B ";
-    String wdqn =   "  ?valUrl p:P18 ?picture . ";
-    String wdqo =   "%7D ";
-    String wdqp = "FILTER%20(lang(?propLabel)%20=%20'";
-    String wdqq = ""; // Some language code e.g. en
-    String wdqr = "'%20)%20%7D%20ORDER%20BY%20?propLabel%20?valLabel%20LIMIT%20500";
-
-    ClaimsSparqlResponse claimsSparqlResponse = null;
-
-    wdqh = itemId;
-    wdqj = lang;
-    wdqq = lang;
-    String wdQuery = wdqa + wdqb + wdqc + wdqd + wdqe + wdqf + wdqg + wdqh + wdqi + wdqj + wdqk + wdql + wdqm + wdqn + wdqo + wdqp + wdqq + wdqr;
-    wdQuery = wdQuery.replaceAll(" ", "%20");
-    log.info("wdQuery: " + wdQuery);
+    log.info("wdQuery: " + query);
 
     try {
 
-      claimsSparqlResponse = new RestTemplate().getForObject(new URI(wdQuery),
-          ClaimsSparqlResponse.class);
+      sparqlRows = sparqlClient.select(query, SparqlRows.CLAIMS_VARS);
 
-      //log.info(claimsSparqlResponse.toString());
+      //log.info(sparqlRows.toString());
 
+      sparqlResultCache.put(SparqlResultCache.RELATED_CLAIMS, cacheKey, sparqlRows);
     }
     catch (Exception e) {
       e.printStackTrace();
       log.info("Caught exception when calling related wikidata sparql query " + e);
+
+      // Serve stale results, if there are any, while the query service is failing
+      sparqlRows = sparqlResultCache.getStale(SparqlResultCache.RELATED_CLAIMS, cacheKey);
     }
 
-    return claimsSparqlResponse;
+    return sparqlRows;
   }
 
-  private ClaimsResponse convertRelatedClaimsSparqlResponse(ClaimsSparqlResponse claimsSparqlResponse, String lang, String itemId) {
+  private ClaimsResponse convertRelatedClaimsSparqlResponse(SparqlRows sparqlRows, ItemInfo itemInfo,
+                                                             String lang, String itemId) {
+    if (sparqlRows == null) {
+      return null;
+    }
+
     ClaimsResponse claimsResponse = new ClaimsResponse();
     claimsResponse.setLang(lang);
     claimsResponse.setWdItem(itemId);
     claimsResponse.setWdItemBase(WIKIDATA_ITEM_BASE);
     claimsResponse.setWdPropBase(WIKIDATA_PROP_BASE);
 
-    ItemInfoResponse itemInfoResponse = null;
-
-    try {
-      String url = this.wikiBrowserProperties.getLocatorServiceUrl(itemId, lang);
-      itemInfoResponse = new RestTemplate().getForObject(url,
-          ItemInfoResponse.class);
-
-      //log.info(itemInfoResponse.toString());
-    }
-    catch (Exception e) {
-      e.printStackTrace();
-      log.info("Caught exception when calling /locator?id=" + itemId + " : " + e);
-    }
-
-    if (itemInfoResponse != null) {
-      claimsResponse.setArticleTitle(itemInfoResponse.getArticleTitle());
-      claimsResponse.setArticleId(itemInfoResponse.getItemId());
+    if (itemInfo != null) {
+      claimsResponse.setArticleTitle(itemInfo.getArticleTitle());
+      claimsResponse.setArticleId(itemInfo.getItemId());
     }
 
     //TODO: Consider implementing fallback to "en" if Wikipedia article doesn't exist in requested language
@@ -434,28 +558,29 @@ public class WikiClaimsController {
     //TODO: Consider implementing fallback to "en" if mobile Wikipedia article doesn't exist in requested language
     claimsResponse.setWpMobileBase(String.format(WIKIPEDIA_MOBILE_TEMPLATE, lang));
 
-    Results results = claimsSparqlResponse.getResults();
-    Iterator bindingsIter = results.getBindings().iterator();
+    int propUrlCol = sparqlRows.column("propUrl");
+    int propLabelCol = sparqlRows.column("propLabel");
+    int valUrlCol = sparqlRows.column("valUrl");
+    int valLabelCol = sparqlRows.column("valLabel");
+    int pictureCol = sparqlRows.column("picture");
 
     String lastPropId = "";
     int valsForProp = 0;
 
     WikidataClaim wikidataClaim = null; //TODO: Consider using exception handling to make null assignment unnecessary
-    while (bindingsIter.hasNext()) {
-      Bindings bindings = (Bindings)bindingsIter.next(); //TODO: Consider renaming Bindings to Binding
+    for (String[] row : sparqlRows.getRows()) {
 
       // There is a 1:many relationship between property IDs and related values
-      String nextPropUrl = bindings.getPropUrl().getValue();
+      String nextPropUrl = row[propUrlCol];
       String nextPropId = nextPropUrl.substring(nextPropUrl.lastIndexOf("/") + 1);
-      String nextValUrl = bindings.getValUrl().getValue();
+      String nextValUrl = row[valUrlCol];
       String nextValId = nextValUrl.substring(nextValUrl.lastIndexOf("/") + 1);
 
       // Cache the picture for a thumbnail image
-      Picture picture = bindings.getPicture();
+      String pic = row[pictureCol];
       String pictureUrl = "";
 
-      if (picture != null) {
-        String pic = bindings.getPicture().getValue();
+      if (pic != null) {
 
         // Compute the URL for the thumbnail image
         pictureUrl = computeThumbnailFromSparqlPicture(pic, THUMBNAIL_WIDTH);
@@ -468,7 +593,7 @@ public class WikiClaimsController {
       //log.info("lastPropId: " + lastPropId + ", nextPropId: " + nextPropId);
       if (!nextPropId.equals(lastPropId)) {
         wikidataClaim = new WikidataClaim();
-        wikidataClaim.setProp(new WikidataProperty(nextPropId, bindings.getPropLabel().getValue()));
+        wikidataClaim.setProp(new WikidataProperty(nextPropId, row[propLabelCol]));
         claimsResponse.getClaims().add(wikidataClaim);
         lastPropId = nextPropId;
 
@@ -477,7 +602,7 @@ public class WikiClaimsController {
 
       if (valsForProp < MAX_VALS_FOR_PROP) {
         valsForProp++;
-        WikidataItem wikidataItem = new WikidataItem(nextValId, bindings.getValLabel().getValue(), pictureUrl);
+        WikidataItem wikidataItem = new WikidataItem(nextValId, row[valLabelCol], pictureUrl);
         wikidataClaim.addItem(wikidataItem);
       }
     }
@@ -549,8 +674,8 @@ public class WikiClaimsController {
       travDirection = "Forward";
     }
 
-    TraversalSparqlResponse traversalSparqlResponse = callTraversalSparqlQuery(itemId, propId, travDirection, depth, targetId, limit, lang);
-    TraversalResponse traversalResponse = convertTraversalSparqlResponse(traversalSparqlResponse, lang);
+    SparqlRows sparqlRows = callTraversalSparqlQuery(itemId, propId, travDirection, depth, targetId, limit, lang);
+    TraversalResponse traversalResponse = convertTraversalSparqlResponse(sparqlRows, lang);
 
     //log.info("claimsResponse:" + claimsResponse);
 
@@ -560,124 +685,73 @@ public class WikiClaimsController {
 
   }
 
-  private TraversalSparqlResponse callTraversalSparqlQuery(String itemId, String propId, String travDirection,
-                                                       int depth, String targetId, int limit, String lang) {
-
-    // Here is the SPARQL query that this method invokes (using Q1, P793 as an example) for breadth-first traversal
-    /*
-      PREFIX wd: <http://www.wikidata.org/entity/>
-      PREFIX wdt: <http://www.wikidata.org/prop/direct/>
-      PREFIX wikibase: <http://wikiba.se/ontology#>
-      PREFIX gas: <http://www.bigdata.com/rdf/gas#>
-
-      SELECT ?item ?itemLabel {
-        { SERVICE gas:service {
-           gas:program gas:gasClass "com.bigdata.rdf.graph.analytics.SSSP";
-                       gas:in wd:Q1;
-                       gas:traversalDirection "Forward";
-                       gas:out ?item;
-                       gas:out1 ?depth;
-                       gas:maxIterations 3;
-                       gas:linkType wdt:P793 .
-          }
-        }
-        SERVICE wikibase:label {bd:serviceParam wikibase:language "en" }
-      }
-      LIMIT 200
-    */
-
-    // Here is the SPARQL query that this method invokes (using Q1, P793,  as an example) for shortest path traversal
-    /*
-      PREFIX wd: <http://www.wikidata.org/entity/>
-      PREFIX wdt: <http://www.wikidata.org/prop/direct/>
-      PREFIX wikibase: <http://wikiba.se/ontology#>
-      PREFIX gas: <http://www.bigdata.com/rdf/gas#>
-
-      SELECT ?item ?itemLabel ?picture {
-        { SERVICE gas:service {
-           gas:program gas:gasClass "com.bigdata.rdf.graph.analytics.SSSP" ;
-                       gas:in wd:Q40475;
-                       gas:target wd:Q3811608;
-                       gas:traversalDirection "Undirected";
-                       gas:out ?item;
-                       gas:out1 ?depth;
-                       gas:maxIterations 200;
-                       gas:linkType wdt:P161 .
-          }
-        }
-        OPTIONAL{
-          ?item wdt:P18 ?picture .
-        }
-        SERVICE wikibase:label {bd:serviceParam wikibase:language "en" }
-      }
-      LIMIT 200
-    */
-
-    String wdqa = "https://query.wikidata.org/bigdata/namespace/wdq/sparql?format=json&query=";
-    String wdqb = "PREFIX wd: %3Chttp://www.wikidata.org/entity/%3E ";
-    String wdqc = "PREFIX wdt: %3Chttp://www.wikidata.org/prop/direct/%3E ";
-    String wdqd = "PREFIX wikibase: %3Chttp://wikiba.se/ontology%23%3E ";
-    String wdqe = "PREFIX gas: %3Chttp://www.bigdata.com/rdf/gas%23%3E ";
-    String wdqf = "SELECT ?item ?itemLabel ?picture %7B";
-    String wdqg =   "%7B SERVICE gas:service %7B";
-    String wdqh =     "gas:program gas:gasClass 'com.bigdata.rdf.graph.analytics.SSSP';";
-    String wdqi =       "gas:in wd:" + itemId + ";";
-    String wdqj =       targetId.length() > 0 ? "gas:target wd:" + targetId + ";" : "";
-    String wdqk =       "gas:traversalDirection '" + travDirection + "';";
-    String wdql =       "gas:out ?item;";
-    String wdqm =       "gas:out1 ?depth;";
-    String wdqn =       "gas:maxIterations " + depth + ";";
-    String wdqo =       "gas:linkType wdt:" + propId + " .";
-    String wdqp =     "%7D ";
-    String wdqq =   "%7D ";
-    String wdqr =   "OPTIONAL %7B ";
-    String wdqs =   "  ?item wdt:P18 ?picture .";
-    String wdqt =   "%7D ";
-    String wdqu =   "SERVICE wikibase%3Alabel %7Bbd%3AserviceParam wikibase%3Alanguage %22" + lang + "%22 %7D ";
-    String wdqv = "%7D ";
-    String wdqw = "LIMIT " + limit;
-
-    TraversalSparqlResponse traversalSparqlResponse = null;
-
-    String wdQuery = wdqa + wdqb + wdqc + wdqd + wdqe + wdqf + wdqg + wdqh + wdqi + wdqj + wdqk + wdql + wdqm + wdqn +
-                     wdqo + wdqp + wdqq + wdqr + wdqs + wdqt + wdqu + wdqv + wdqw;
-    wdQuery = wdQuery.replaceAll(" ", "%20");
+  private SparqlRows callTraversalSparqlQuery(String itemId, String propId, String travDirection,
+                                              int depth, String targetId, int limit, String lang) {
+    SparqlQueryTemplate.Query query;
+    if (targetId.length() > 0) {
+      query = WikidataQueries.TRAVERSAL_TO_TARGET.query().with("target", targetId);
+    }
+    else {
+      query = WikidataQueries.TRAVERSAL.query();
+    }
+    URI wdQuery = query
+        .with("item", itemId)
+        .with("direction", travDirection)
+        .with("depth", depth)
+        .with("prop", propId)
+        .with("lang", lang)
+        .with("limit", limit)
+        .toUri();
+
+    String cacheKey = itemId + "^" + propId + "^" + travDirection + "^" + depth + "^" + targetId + "^" + limit + "^" +
+        lang;
+    SparqlRows sparqlRows = sparqlResultCache.get(SparqlResultCache.TRAVERSAL, cacheKey);
+    if (sparqlRows != null) {
+      return sparqlRows;
+    }
+
     log.info("wdQuery: " + wdQuery);
 
     try {
 
-      traversalSparqlResponse = new RestTemplate().getForObject(new URI(wdQuery),
-          TraversalSparqlResponse.class);
+      sparqlRows = sparqlClient.select(wdQuery, SparqlRows.TRAVERSAL_VARS);
 
-      //log.info(traversalSparqlResponse.toString());
+      //log.info(sparqlRows.toString());
 
+      sparqlResultCache.put(SparqlResultCache.TRAVERSAL, cacheKey, sparqlRows);
     }
     catch (Exception e) {
       e.printStackTrace();
       log.info("Caught exception when calling traversal wikidata sparql query " + e);
+
+      // Serve stale results, if there are any, while the query service is failing
+      sparqlRows = sparqlResultCache.getStale(SparqlResultCache.TRAVERSAL, cacheKey);
     }
 
-    return traversalSparqlResponse;
+    return sparqlRows;
   }
 
-  private TraversalResponse convertTraversalSparqlResponse(TraversalSparqlResponse traversalSparqlResponse, String lang) {
+  private TraversalResponse convertTraversalSparqlResponse(SparqlRows sparqlRows, String lang) {
+    if (sparqlRows == null) {
+      return null;
+    }
+
     TraversalResponse traversalResponse = new TraversalResponse();
 
-    TraversalResultsFar results = traversalSparqlResponse.getTraversalResultsFar();
-    Iterator bindingsIter = results.getTraversalBindingsFarList().iterator();
+    int itemCol = sparqlRows.column("item");
+    int itemLabelCol = sparqlRows.column("itemLabel");
+    int pictureCol = sparqlRows.column("picture");
 
-    while (bindingsIter.hasNext()) {
-      TraversalBindingsFar bindings = (TraversalBindingsFar)bindingsIter.next();
+    for (String[] row : sparqlRows.getRows()) {
 
-      String nextItemUrl = bindings.getItemUrlFar().getValue();
+      String nextItemUrl = row[itemCol];
       String nextItemId = nextItemUrl.substring(nextItemUrl.lastIndexOf("/") + 1);
 
       // Cache the picture for a thumbnail image
-      PictureFar pictureFar = bindings.getPictureFar();
+      String picture = row[pictureCol];
       String pictureUrl = "";
 
-      if (pictureFar != null) {
-        String picture = bindings.getPictureFar().getValue();
+      if (picture != null) {
         // Compute the URL for the thumbnail image
         pictureUrl = computeThumbnailFromSparqlPicture(picture, THUMBNAIL_WIDTH);
         log.info("pictureUrl from traversal: " + pictureUrl);
@@ -686,7 +760,7 @@ public class WikiClaimsController {
         ThumbnailCache.setThumbnailUrlById(nextItemId, lang, pictureUrl);
       }
 
-      WikidataItem wikidataItem = new WikidataItem(nextItemId, bindings.getItemLabelFar().getValue(), pictureUrl);
+      WikidataItem wikidataItem = new WikidataItem(nextItemId, row[itemLabelCol], pictureUrl);
       traversalResponse.addItem(wikidataItem);
 
     }
@@ -20,6 +20,8 @@ import com.javafxpert.wikibrowser.model.idlocator.*;
 import com.javafxpert.wikibrowser.model.language.LangLinkInfo;
 import com.javafxpert.wikibrowser.model.language.LangLinksResponseNear;
 import com.javafxpert.wikibrowser.model.locator.ItemInfo;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import com.javafxpert.wikibrowser.upstream.UpstreamClients;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,7 +32,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
 import java.util.Iterator;
@@ -47,9 +48,12 @@ public class WikiLangLinksController {
 
   private final WikiBrowserProperties wikiBrowserProperties;
 
+  private final UpstreamClients upstreamClients;
+
   @Autowired
-  public WikiLangLinksController(WikiBrowserProperties wikiBrowserProperties) {
+  public WikiLangLinksController(WikiBrowserProperties wikiBrowserProperties, UpstreamClients upstreamClients) {
     this.wikiBrowserProperties = wikiBrowserProperties;
+    this.upstreamClients = upstreamClients;
   }
 
   @RequestMapping(method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -92,7 +96,7 @@ public class WikiLangLinksController {
     IdLocatorResponse wpQueryReponse = null; //TODO: Rename IdLocatorResponse class to WpQueryReponse
     LangLinksResponseNear langLinksResponseNear = new LangLinksResponseNear();
     try {
-      wpQueryReponse = new RestTemplate().getForObject(new URI(query),
+      wpQueryReponse = upstreamClients.getRestTemplate(Upstream.WIKIPEDIA).getForObject(new URI(query),
           IdLocatorResponse.class);
 
       log.info(wpQueryReponse.toString());
@@ -24,6 +24,8 @@ import com.javafxpert.wikibrowser.model.search.SearchFar;
 import com.javafxpert.wikibrowser.model.search.SearchResponseFar;
 import com.javafxpert.wikibrowser.model.search.SearchResponseNear;
 import com.javafxpert.wikibrowser.model.search.SearchinfoFar;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import com.javafxpert.wikibrowser.upstream.UpstreamClients;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,7 +36,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
 import java.util.Iterator;
@@ -51,9 +52,12 @@ public class WikiSearchController {
 
   private final WikiBrowserProperties wikiBrowserProperties;
 
+  private final UpstreamClients upstreamClients;
+
   @Autowired
-  public WikiSearchController(WikiBrowserProperties wikiBrowserProperties) {
+  public WikiSearchController(WikiBrowserProperties wikiBrowserProperties, UpstreamClients upstreamClients) {
     this.wikiBrowserProperties = wikiBrowserProperties;
+    this.upstreamClients = upstreamClients;
   }
 
 
@@ -101,7 +105,7 @@ public class WikiSearchController {
     SearchResponseFar searchResponseFar = null;
     SearchResponseNear searchResponseNear = new SearchResponseNear();
     try {
-      searchResponseFar = new RestTemplate().getForObject(searchQuery,
+      searchResponseFar = upstreamClients.getRestTemplate(Upstream.WIKIPEDIA).getForObject(searchQuery,
           SearchResponseFar.class);
       log.info(searchResponseFar.toString());
 
@@ -16,25 +16,39 @@
 
 package com.javafxpert.wikibrowser;
 
+import com.javafxpert.wikibrowser.graph.ConceptGraphIndex;
+import com.javafxpert.wikibrowser.graph.GraphStatementRegistry;
+import com.javafxpert.wikibrowser.graph.HierarchyIndex;
+import com.javafxpert.wikibrowser.graph.PreparedGraphStatement;
+import com.javafxpert.wikibrowser.graph.ShortestPathSearch;
 import com.javafxpert.wikibrowser.model.conceptmap.*;
-import com.javafxpert.wikibrowser.model.locator.ItemInfoResponse;
 import com.javafxpert.wikibrowser.model.thumbnail.ThumbnailCache;
-import com.javafxpert.wikibrowser.model.thumbnail.ThumbnailResponse;
+import com.javafxpert.wikibrowser.model.thumbnail.ThumbnailService;
 import com.javafxpert.wikibrowser.model.visgraph.VisGraphEdgeNear;
 import com.javafxpert.wikibrowser.model.visgraph.VisGraphNodeNear;
 import com.javafxpert.wikibrowser.model.visgraph.VisGraphResponseNear;
+import com.javafxpert.wikibrowser.upstream.UpstreamUnavailableException;
 import com.javafxpert.wikibrowser.util.WikiBrowserUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Created by jamesweaver on 10/13/15.
@@ -43,11 +57,62 @@ import java.util.*;
 public class WikiVisGraphController {
   private Log log = LogFactory.getLog(getClass());
 
+  // All relationships between the given items
+  static final String VISGRAPH =
+      "MATCH (a:Item), (b:Item) WHERE a.itemId IN {items} AND b.itemId IN {items} " +
+      "WITH a, b OPTIONAL MATCH (a)-[rel]-(b) RETURN a, b, collect(rel)";
+
+  // Paths of one or two hops between two items, except through humans (Q5) or described-by-source (P1343)
+  static final String VISSHORTPATHS =
+      "MATCH p=allShortestPaths( (a:Item {itemId:{from}})-[*..2]-(b:Item {itemId:{to}}) ) " +
+      "WHERE NONE(x IN NODES(p) WHERE x:Item AND x.itemId = 'Q5') " +
+      "AND NONE(y IN RELATIONSHIPS(p) WHERE y.propId = 'P1343') RETURN p LIMIT 200";
+
+  // Paths from an item to the root with only subclass-of (P279), instance-of (P31) and part-of (P361) relationships
+  static final String VISROOTPATHS =
+      "MATCH p=allShortestPaths( (a:Item {itemId:{from}})-[*]->(b:Item {itemId:{to}}) ) " +
+      "WHERE NONE(x IN RELATIONSHIPS(p) WHERE (x.propId <> 'P279') AND (x.propId <> 'P31') AND (x.propId <> 'P361')) " +
+      "RETURN p";
+
   private final WikiBrowserProperties wikiBrowserProperties;
 
+  private final PreparedGraphStatement visGraphStatement;
+
+  private final PreparedGraphStatement visShortPathsStatement;
+
+  private final PreparedGraphStatement visRootPathsStatement;
+
+  private final ThumbnailService thumbnailService;
+
+  private final Executor upstreamExecutor;
+
+  private final PropertyCatalog propertyCatalog;
+
+  private final ConceptGraphIndex conceptGraphIndex;
+
+  private final ShortestPathSearch shortestPathSearch;
+
+  private final HierarchyIndex hierarchyIndex;
+
   @Autowired
-  public WikiVisGraphController(WikiBrowserProperties wikiBrowserProperties) {
+  public WikiVisGraphController(WikiBrowserProperties wikiBrowserProperties,
+                                GraphStatementRegistry graphStatementRegistry,
+                                ThumbnailService thumbnailService,
+                                @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                                PropertyCatalog propertyCatalog,
+                                ConceptGraphIndex conceptGraphIndex,
+                                ShortestPathSearch shortestPathSearch,
+                                HierarchyIndex hierarchyIndex) {
     this.wikiBrowserProperties = wikiBrowserProperties;
+    this.visGraphStatement = graphStatementRegistry.register("visgraph", VISGRAPH);
+    this.visShortPathsStatement = graphStatementRegistry.register("visshortpaths", VISSHORTPATHS);
+    this.visRootPathsStatement = graphStatementRegistry.register("visrootpaths", VISROOTPATHS);
+    this.thumbnailService = thumbnailService;
+    this.upstreamExecutor = upstreamExecutor;
+    this.propertyCatalog = propertyCatalog;
+    this.conceptGraphIndex = conceptGraphIndex;
+    this.shortestPathSearch = shortestPathSearch;
+    this.hierarchyIndex = hierarchyIndex;
   }
 
   /**
@@ -58,22 +123,19 @@ public class WikiVisGraphController {
   @RequestMapping(value = "/visgraph", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Object> search(@RequestParam(value = "items", defaultValue="") String items) {
     // Example endpoint usage is graph?items=Q24, Q30, Q23, Q16, Q20
-    // Scrub the input, and output a string for the Cypher query similar to the following:
-    // 'Q24','Q30','Q23','Q16','Q20'
-    String argStr = WikiBrowserUtils.scrubItemIds(items, true);
+    // Scrub the input into the list of item IDs passed as the items parameter, e.g. [Q24, Q30, Q23, Q16, Q20]
+    List<String> itemIds = WikiBrowserUtils.scrubItemIdList(items);
 
-    log.info("argStr=" + argStr);
+    log.info("itemIds=" + itemIds);
 
     VisGraphResponseNear visGraphResponseNear = null;
 
-    if (argStr.length() == 0) {
+    if (itemIds.isEmpty()) {
       // TODO: Consider handling an invalid items argument better than the way it is handled here
       //argStr = "'Q2'"; // If the items argumentisn't valid, pretend Q2 (Earth) was entered
     }
 
-    if (argStr.length() > 0) {
-      String neoCypherUrl = wikiBrowserProperties.getNeoCypherUrl();
-
+    if (!itemIds.isEmpty()) {
       /*  Example Cypher query POST
       {
         "statements" : [ {
@@ -98,25 +160,14 @@ WHERE b.itemId IN ['Q2', 'Q24', 'Q30']
 RETURN a, b, collect(rel)
      */
 
-      String qa = "{\"statements\":[{\"statement\":\"MATCH (a:Item), (b:Item) WHERE a.itemId IN [";
-      String qb = argStr; // Item IDs
-      String qc = "] AND b.itemId IN [";
-      String qd = argStr; // Item IDs
-      String qe = "] WITH a, b OPTIONAL MATCH (a)-[rel]-(b) RETURN a, b, collect(rel)\",";
-      String qf = "\"resultDataContents\":[\"graph\"]}]}";
-
-      /*
-      String qa = "{\"statements\":[{\"statement\":\"MATCH (a:Item) WHERE a.itemId IN [";
-      String qb = argStr; // Item IDs
-      String qc = "] OPTIONAL MATCH (a:Item)-[rel]-(b:Item) WHERE b.itemId IN [";
-      String qd = argStr; // Item IDs
-      String qe = "] RETURN a, b, collect(rel)\",";
-      String qf = "\"resultDataContents\":[\"graph\"]}]}";
-      */
-
-      String postString = qa + qb + qc + qd + qe + qf;
-
-      visGraphResponseNear = queryProcessSearchResponse(neoCypherUrl, postString);
+      if (conceptGraphIndex.isEnabled() && conceptGraphIndex.isReady() &&
+          wikiBrowserProperties.getGraphIndex().isServeVisGraph()) {
+        visGraphResponseNear = indexSearchResponse(itemIds);
+      }
+      else {
+        visGraphResponseNear = queryProcessSearchResponse(visGraphStatement,
+            Collections.singletonMap("items", itemIds));
+      }
     }
 
     return Optional.ofNullable(visGraphResponseNear)
@@ -140,8 +191,6 @@ RETURN a, b, collect(rel)
 
     VisGraphResponseNear visGraphResponseNear = null;
 
-    String neoCypherUrl = wikiBrowserProperties.getNeoCypherUrl();
-
     /*  Example Cypher query POST
     {
       "statements" : [ {
@@ -156,17 +205,21 @@ MATCH p=allShortestPaths( (a:Item {itemId:'Q23'})-[*..2]-(b:Item {itemId:'Q9696'
 RETURN p LIMIT 200
    */
 
-    String qa = "{\"statements\":[{\"statement\":\"MATCH p=allShortestPaths( (a:Item {itemId:'";
-    String qb = itemId; // starting item ID
-    String qc = "'})-[*..2]-(b:Item {itemId:'";
-    String qd = targetId; // target item ID
-    String qe = "'}) ) WHERE NONE(x IN NODES(p) WHERE x:Item AND x.itemId = 'Q5') "; // Don't return paths that contain human item ID, or described by relationships
-    String qf = "AND NONE(y IN RELATIONSHIPS(p) WHERE y.propId = 'P1343') RETURN p LIMIT 200\",";
-    String qg = "\"resultDataContents\":[\"graph\"]}]}";
-
-    String postString = qa + qb + qc + qd + qe + qf + qg;
+    // A search of the index that runs out of time is left to the graph database
+    List<int[][]> indexPaths = null;
+    if (shortestPathSearch.isAvailable()) {
+      indexPaths = shortestPathSearch.find(itemId.trim(), targetId.trim());
+    }
+    if (indexPaths != null) {
+      visGraphResponseNear = indexPathsResponse(indexPaths);
+    }
+    else {
+      Map<String, Object> params = new HashMap<>();
+      params.put("from", itemId.trim().toUpperCase()); // starting item ID
+      params.put("to", targetId.trim().toUpperCase()); // target item ID
 
-    visGraphResponseNear = queryProcessSearchResponse(neoCypherUrl, postString);
+      visGraphResponseNear = queryProcessSearchResponse(visShortPathsStatement, params);
+    }
 
     return Optional.ofNullable(visGraphResponseNear)
         .map(cr -> new ResponseEntity<>((Object)cr, HttpStatus.OK))
@@ -183,12 +236,10 @@ RETURN p LIMIT 200
   public ResponseEntity<Object> retrieveShortestPathsToRoot(@RequestParam(value = "id", defaultValue="Q2") String itemId) {
     // Example endpoint usage is rootpath?id=Q319
 
-    String targetId = "Q35120"; // Wikidata Entity item ID
+    String targetId = wikiBrowserProperties.getRootPaths().getRootItem(); // Wikidata Entity item ID, Q35120
 
     VisGraphResponseNear visGraphResponseNear = null;
 
-    String neoCypherUrl = wikiBrowserProperties.getNeoCypherUrl();
-
     /*  Example Cypher query POST
     {
       "statements" : [ {
@@ -204,18 +255,16 @@ WHERE NONE(x IN RELATIONSHIPS(p) WHERE (x.propId <> 'P279') AND (x.propId <> 'P3
 RETURN p
    */
 
-    String qa = "{\"statements\":[{\"statement\":\"MATCH p=allShortestPaths( (a:Item {itemId:'";
-    String qb = itemId; // starting item ID
-    String qc = "'})-[*]->(b:Item {itemId:'";
-    String qd = targetId; // target item ID
-    // Regard a path if it contains only subclass-of, instance-of, and part-of relationships
-    String qe = "'}) ) WHERE NONE(x IN RELATIONSHIPS(p) WHERE (x.propId <> 'P279') AND (x.propId <> 'P31') AND (x.propId <> 'P361')) ";
-    String qf = "RETURN p\",";
-    String qg = "\"resultDataContents\":[\"graph\"]}]}";
-
-    String postString = qa + qb + qc + qd + qe + qf + qg;
+    if (hierarchyIndex.isAvailable(targetId)) {
+      visGraphResponseNear = indexPathsResponse(hierarchyIndex.rootPaths(itemId.trim()));
+    }
+    else {
+      Map<String, Object> params = new HashMap<>();
+      params.put("from", itemId.trim().toUpperCase()); // starting item ID
+      params.put("to", targetId.trim().toUpperCase()); // target item ID
 
-    visGraphResponseNear = queryProcessSearchResponse(neoCypherUrl, postString);
+      visGraphResponseNear = queryProcessSearchResponse(visRootPathsStatement, params);
+    }
 
     return Optional.ofNullable(visGraphResponseNear)
         .map(cr -> new ResponseEntity<>((Object)cr, HttpStatus.OK))
@@ -223,44 +272,166 @@ RETURN p
   }
 
   /**
-   * Calls the Neo4j Transactional Cypher service and returns an object that holds results
-   * @param neoCypherUrl
-   * @param postString
+   * Sets the image URL of each node to its thumbnail, looked up by item ID with the node's title as a fallback.
+   * The nodes that aren't cached are looked up in chunks, each with one locator request and one pageimages
+   * request, and the chunks run concurrently.  Nodes still unresolved at the deadline get an empty image URL;
+   * their lookups carry on and fill the cache for later requests.
+   * @param visGraphNodeNears
+   */
+  private void resolveThumbnails(Collection<VisGraphNodeNear> visGraphNodeNears) {
+    String articleLang = "en";
+    // TODO: Add a language property to Item nodes stored in Neo4j that aren't currently in English,
+    //       and use that property to mutate articleTitleLang
+
+    Map<String, String> thumbnailUrls = new ConcurrentHashMap<>();
+    List<String> uncachedIds = new ArrayList<>();
+    Map<String, String> fallbackTitles = new HashMap<>();
+    for (VisGraphNodeNear visGraphNodeNear : visGraphNodeNears) {
+      String itemId = visGraphNodeNear.getItemId();
+      String thumbnailUrl = ThumbnailCache.getThumbnailUrlById(itemId, articleLang);
+      if (thumbnailUrl != null) {
+        thumbnailUrls.put(itemId, thumbnailUrl);
+      }
+      else if (!fallbackTitles.containsKey(itemId)) {
+        uncachedIds.add(itemId);
+        fallbackTitles.put(itemId, visGraphNodeNear.getTitle());
+      }
+    }
+
+    WikiBrowserProperties.Thumbnails settings = wikiBrowserProperties.getThumbnails();
+    int chunkSize = Math.max(1, Math.min(settings.getChunkSize(), ThumbnailService.MAX_TITLES_PER_REQUEST));
+    List<CompletableFuture<Void>> chunkFutures = new ArrayList<>();
+    for (int start = 0; start < uncachedIds.size(); start += chunkSize) {
+      List<String> chunk = new ArrayList<>(uncachedIds.subList(start, Math.min(start + chunkSize, uncachedIds.size())));
+      // On the executor even when async mode is off, as otherwise the deadline below would bound nothing
+      chunkFutures.add(supplyOnExecutor(() -> thumbnailService.getThumbnailUrlsByIds(chunk, fallbackTitles,
+          articleLang)).thenAccept(thumbnailUrls::putAll));
+    }
+
+    try {
+      CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture<?>[0]))
+          .get(settings.getDeadline(), TimeUnit.MILLISECONDS);
+    }
+    catch (TimeoutException e) {
+      log.info("Thumbnails of " + uncachedIds.size() + " nodes not all resolved within " + settings.getDeadline() +
+          " ms");
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    catch (ExecutionException e) {
+      e.printStackTrace();
+      log.info("Caught exception when looking up thumbnails " + e);
+    }
+
+    for (VisGraphNodeNear visGraphNodeNear : visGraphNodeNears) {
+      visGraphNodeNear.setImageUrl(thumbnailUrls.getOrDefault(visGraphNodeNear.getItemId(), ""));
+    }
+  }
+
+  /**
+   * Runs an upstream call on the upstream executor whether or not async mode is enabled
+   */
+  private <T> CompletableFuture<T> supplyOnExecutor(Supplier<T> supplier) {
+    try {
+      return CompletableFuture.supplyAsync(supplier, upstreamExecutor);
+    }
+    catch (RejectedExecutionException e) {
+      CompletableFuture<T> rejected = new CompletableFuture<>();
+      rejected.completeExceptionally(new UpstreamUnavailableException("Upstream executor is saturated"));
+      return rejected;
+    }
+  }
+
+  /**
+   * Reads the given items, and the relationships between them, from the graph index rather than from Neo4j
+   * @param itemIds
    * @return
    */
-  private VisGraphResponseNear queryProcessSearchResponse(String neoCypherUrl, String postString) {
-    log.info("neoCypherUrl: " + neoCypherUrl);
-    log.info("postString: " + postString);
+  private VisGraphResponseNear indexSearchResponse(List<String> itemIds) {
+    // Items can be removed from the index, so they are looked up and their relationships read in one section,
+    // where both see the same state of it.  Dense ids aren't reused, so titles can be read after it.
+    Map.Entry<List<Integer>, List<int[]>> nodesAndEdges = conceptGraphIndex.read(() -> {
+      int[] nodes = itemIds.stream().mapToInt(conceptGraphIndex::nodeOf).filter(node -> node >= 0).toArray();
+      return new AbstractMap.SimpleImmutableEntry<>(Arrays.stream(nodes).boxed().collect(Collectors.toList()),
+          conceptGraphIndex.edgesAmong(nodes));
+    });
+    return indexGraphResponse(nodesAndEdges.getKey(), nodesAndEdges.getValue());
+  }
 
-    RestTemplate restTemplate = new RestTemplate();
+  /**
+   * Builds a response from paths found in the graph index, each given as its relationships
+   * @param paths
+   * @return
+   */
+  private VisGraphResponseNear indexPathsResponse(List<int[][]> paths) {
+    Set<Integer> nodes = new LinkedHashSet<>();
+    Map<String, int[]> edges = new LinkedHashMap<>();
+    for (int[][] path : paths) {
+      for (int[] edge : path) {
+        nodes.add(edge[0]);
+        nodes.add(edge[1]);
+        edges.putIfAbsent(edge[0] + ">" + edge[1] + ":" + edge[2], edge);
+      }
+    }
+    return indexGraphResponse(nodes, edges.values());
+  }
 
-    HttpHeaders httpHeaders = WikiBrowserUtils.createHeaders(wikiBrowserProperties.getCypherUsername(),
-        wikiBrowserProperties.getCypherPassword());
+  /**
+   * Builds a response from items and relationships of the graph index, which are given by dense id and as
+   * {start, end, property number} triples respectively
+   * @param nodes
+   * @param edges
+   * @return
+   */
+  private VisGraphResponseNear indexGraphResponse(Collection<Integer> nodes, Collection<int[]> edges) {
+    VisGraphResponseNear visGraphResponseNear = new VisGraphResponseNear();
+    List<VisGraphNodeNear> visGraphNodeNearList = new ArrayList<>();
+    List<VisGraphEdgeNear> visGraphEdgeNearList = new ArrayList<>();
 
-    httpHeaders.setContentType(MediaType.APPLICATION_JSON);
-    httpHeaders.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
+    for (int node : nodes) {
+      String itemId = conceptGraphIndex.itemIdOf(node);
+      visGraphNodeNearList.add(new VisGraphNodeNear(itemId.substring(1), conceptGraphIndex.titleOf(node), null,
+          new ArrayList<>(Collections.singletonList("Item")), itemId));
+    }
+    for (int[] edge : edges) {
+      String fromItemId = conceptGraphIndex.itemIdOf(edge[0]);
+      String toItemId = conceptGraphIndex.itemIdOf(edge[1]);
+      String propId = "P" + edge[2];
+      visGraphEdgeNearList.add(new VisGraphEdgeNear(fromItemId.substring(1), toItemId.substring(1),
+          propertyCatalog.getType(propId), "to", propId, fromItemId, toItemId));
+    }
+
+    // Retrieve each article's image
+    resolveThumbnails(visGraphNodeNearList);
 
-    HttpEntity request = new HttpEntity(postString, httpHeaders);
+    visGraphResponseNear.setVisGraphNodeNearList(visGraphNodeNearList);
+    visGraphResponseNear.setVisGraphEdgeNearList(visGraphEdgeNearList);
+    return visGraphResponseNear;
+  }
+
+  /**
+   * Runs one of the registered Cypher queries and returns an object that holds results
+   * @param statement
+   * @param params
+   * @return
+   */
+  private VisGraphResponseNear queryProcessSearchResponse(PreparedGraphStatement statement, Map<String, Object> params) {
+    log.info("statement: " + statement.getName() + ", params: " + params);
 
-    GraphResponseFar graphResponseFar = null;
     VisGraphResponseNear visGraphResponseNear = new VisGraphResponseNear();
     try {
-      ResponseEntity<GraphResponseFar> result = restTemplate.exchange(neoCypherUrl, HttpMethod.POST, request,
-          GraphResponseFar.class);
-      graphResponseFar = result.getBody();
-      log.info("graphResponseFar: " + graphResponseFar);
+      List<GraphFar> graphFarList = statement.query(params);
 
-      // Populate VisGraphResponseNear instance from GraphResponseFar instance
+      // Populate VisGraphResponseNear instance from the nodes and relationships in each row
       HashMap<String, VisGraphNodeNear> visGraphNodeNearMap = new HashMap<>();
       HashMap<String, VisGraphEdgeNear> visGraphEdgeNearMap = new HashMap<>();
 
-      List<ResultFar> resultFarList = graphResponseFar.getResultFarList();
-      if (resultFarList.size() > 0) {
-        List<DataFar> dataFarList = resultFarList.get(0).getDataFarList();
-        Iterator<DataFar> dataFarIterator = dataFarList.iterator();
+      if (graphFarList.size() > 0) {
+        Iterator<GraphFar> graphFarIterator = graphFarList.iterator();
 
-        while (dataFarIterator.hasNext()) {
-          GraphFar graphFar = dataFarIterator.next().getGraphFar();
+        while (graphFarIterator.hasNext()) {
+          GraphFar graphFar = graphFarIterator.next();
 
           List<GraphNodeFar> graphNodeFarList = graphFar.getGraphNodeFarList();
           Iterator<GraphNodeFar> graphNodeFarIterator = graphNodeFarList.iterator();
@@ -276,113 +447,6 @@ RETURN p
             visGraphNodeNear.setLabelsList(graphNodeFar.getLabelsList());
             visGraphNodeNear.setItemId(graphNodeFar.getGraphNodePropsFar().getItemId());
 
-            String itemId = visGraphNodeNear.getItemId();
-            String articleTitle = visGraphNodeNear.getTitle();
-
-
-            // Retrieve the article's image
-            String thumbnailUrl = null;
-
-            String articleLang = "en";
-            // TODO: Add a language property to Item nodes stored in Neo4j that aren't currently in English,
-            //       and use that property to mutate articleTitleLang
-
-            // First, try to get the thumbnail by ID from cache
-            thumbnailUrl = ThumbnailCache.getThumbnailUrlById(itemId, articleLang);
-
-            if (thumbnailUrl == null) {
-              // If not available, try to get thumbnail by ID from ThumbnailService
-              try {
-                String thumbnailByIdUrl = this.wikiBrowserProperties.getThumbnailByIdServiceUrl(itemId, articleLang);
-                thumbnailUrl = new RestTemplate().getForObject(thumbnailByIdUrl,
-                    String.class);
-
-                if (thumbnailUrl != null) {
-                  visGraphNodeNear.setImageUrl(thumbnailUrl);
-                } else {
-                  // If thumbnail isn't available by ID, try to get thumbnail by article title
-                  try {
-                    String thumbnailByTitleUrl = this.wikiBrowserProperties.getThumbnailByTitleServiceUrl(articleTitle, articleLang);
-                    thumbnailUrl = new RestTemplate().getForObject(thumbnailByTitleUrl,
-                        String.class);
-
-                    if (thumbnailUrl != null) {
-                      visGraphNodeNear.setImageUrl(thumbnailUrl);
-                    } else {
-                      visGraphNodeNear.setImageUrl("");
-                    }
-                    //log.info("thumbnailUrl:" + thumbnailUrl);
-                  } catch (Exception e) {
-                    e.printStackTrace();
-                    log.info("Caught exception when calling /thumbnail?title=" + articleTitle + " : " + e);
-                  }
-                }
-                //log.info("thumbnailUrl:" + thumbnailUrl);
-              } catch (Exception e) {
-                e.printStackTrace();
-                log.info("Caught exception when calling /thumbnail?id=" + itemId + " : " + e);
-              }
-            }
-            else {
-              visGraphNodeNear.setImageUrl(thumbnailUrl);
-            }
-
-
-
-
-            /*
-            // Check cache for thumbnail
-            thumbnailUrl = ThumbnailCache.getThumbnailUrlById(itemId, articleLang);
-
-            if (thumbnailUrl != null && thumbnailUrl.length() > 0) {
-              // Thumbnail image found in cache by ID, which is the preferred location
-              visGraphNodeNear.setImageUrl(thumbnailUrl);
-            }
-            else {
-              // Thumbnail image not found in cache by ID, so look with Wikimedia API by article title
-              log.info("Thumbnail not found in cache for itemId: " + itemId + ", lang: " + articleLang + " so looking with Wikimedia API by article title");
-
-              try {
-                String url = this.wikiBrowserProperties.getThumbnailByTitleServiceUrl(articleTitle, articleLang);
-                thumbnailUrl = new RestTemplate().getForObject(url,
-                    String.class);
-
-                if (thumbnailUrl != null && thumbnailUrl.length() > 0) {
-                  visGraphNodeNear.setImageUrl(thumbnailUrl);
-                }
-                else {
-                  log.info("Thumbnail not found for articleTitle: " + articleTitle + ", trying by itemId: " + itemId);
-
-                  try {
-                    String url = this.wikiBrowserProperties.getThumbnailByIdServiceUrl(itemId, articleLang);
-                    thumbnailUrl = new RestTemplate().getForObject(url,
-                        String.class);
-
-                    if (thumbnailUrl != null) {
-                      visGraphNodeNear.setImageUrl(thumbnailUrl);
-
-                      // Because successful, cache by article title
-                      ThumbnailCache.setThumbnailUrlByTitle(articleTitle, articleLang, thumbnailUrl);
-                    }
-                    else {
-                      visGraphNodeNear.setImageUrl("");
-                    }
-                    //log.info("thumbnailUrl:" + thumbnailUrl);
-                  }
-                  catch (Exception e) {
-                    e.printStackTrace();
-                    log.info("Caught exception when calling /thumbnail?id=" + itemId + " : " + e);
-                  }
-
-                }
-                //log.info("thumbnailUrl:" + thumbnailUrl);
-              } catch (Exception e) {
-                e.printStackTrace();
-                log.info("Caught exception when calling /thumbnail?title=" + articleTitle + " : " + e);
-              }
-            }
-            */
-
             // Note: The key in the graphNodeNearMap is the Neo4j node id, not the Wikidata item ID
             visGraphNodeNearMap.put(graphNodeFar.getId(), visGraphNodeNear);
           }
@@ -406,9 +470,17 @@ RETURN p
             //visGraphEdgeNear.setToDbId(neo4jEndNodeId);
             visGraphEdgeNear.setToDbId(wikidataEndNodeItemId.substring(1));
 
-            visGraphEdgeNear.setLabel(graphRelationFar.getType());
+            // Relationships written before their property was in the catalog have the generic type, so
+            // label them with the type the catalog now gives the property
+            String propId = graphRelationFar.getGraphRelationPropsFar().getPropId();
+            String relType = graphRelationFar.getType();
+            if (PropertyCatalog.GENERIC_TYPE.equals(relType) && propertyCatalog.getLabel(propId) != null) {
+              relType = propertyCatalog.getType(propId);
+            }
+
+            visGraphEdgeNear.setLabel(relType);
             visGraphEdgeNear.setArrowDirection("to");
-            visGraphEdgeNear.setPropId(graphRelationFar.getGraphRelationPropsFar().getPropId());
+            visGraphEdgeNear.setPropId(propId);
 
             visGraphEdgeNear.setFromItemId(wikidataStartNodeItemId);
             visGraphEdgeNear.setToItemId(wikidataEndNodeItemId);
@@ -418,6 +490,9 @@ RETURN p
           }
         }
 
+        // Retrieve each article's image
+        resolveThumbnails(visGraphNodeNearMap.values());
+
         // Create and populate a List of nodes to set into the graphResponseNear instance
         List<VisGraphNodeNear> visGraphNodeNearList = new ArrayList<>();
         visGraphNodeNearMap.forEach((k, v) -> {
@@ -435,7 +510,7 @@ RETURN p
     }
     catch (Exception e) {
       e.printStackTrace();
-      log.info("Caught exception when calling Neo Cypher service " + e);
+      log.info("Caught exception when querying Neo4j " + e);
     }
 
     return visGraphResponseNear;
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.config;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.EmbeddedServletContainerCustomizer;
+import org.springframework.boot.context.embedded.tomcat.TomcatEmbeddedServletContainerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Manages the executor that runs upstream calls concurrently, and the timeout for
+ * requests whose handler methods return a CompletableFuture.  When conceptmap.async.virtual-threads
+ * is set and the JVM supports them, upstream calls and Tomcat requests run on virtual threads.
+ */
+@Configuration
+public class AsyncConfiguration extends WebMvcConfigurerAdapter {
+  private Log log = LogFactory.getLog(getClass());
+
+  @Autowired
+  private WikiBrowserProperties wikiBrowserProperties;
+
+  @Bean
+  public Executor upstreamExecutor() {
+    WikiBrowserProperties.Async async = wikiBrowserProperties.getAsync();
+
+    if (useVirtualThreads()) {
+      log.info("Running upstream calls on virtual threads");
+      return VirtualThreads.newThreadPerTaskExecutor("upstream-");
+    }
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(async.getCorePoolSize());
+    executor.setMaxPoolSize(async.getMaxPoolSize());
+    executor.setQueueCapacity(async.getQueueCapacity());
+    executor.setThreadNamePrefix("upstream-");
+    // When the queue is full, fail the call so that the request gets a 503, rather than running it on the
+    // requesting thread and tying up a servlet thread for the length of an upstream call
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+
+  /**
+   * In virtual thread mode, have Tomcat run each request on its own virtual thread rather than
+   * on a thread from its bounded worker pool
+   */
+  @Bean
+  public EmbeddedServletContainerCustomizer virtualThreadContainerCustomizer() {
+    return container -> {
+      if (useVirtualThreads() && container instanceof TomcatEmbeddedServletContainerFactory) {
+        log.info("Running Tomcat requests on virtual threads");
+        ((TomcatEmbeddedServletContainerFactory) container).addConnectorCustomizers(connector -> {
+          ProtocolHandler protocolHandler = connector.getProtocolHandler();
+          if (protocolHandler instanceof AbstractProtocol) {
+            ((AbstractProtocol<?>) protocolHandler).setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-"));
+          }
+        });
+      }
+    };
+  }
+
+  private boolean useVirtualThreads() {
+    if (!wikiBrowserProperties.getAsync().isVirtualThreads()) {
+      return false;
+    }
+    if (!VirtualThreads.isAvailable()) {
+      log.info("Virtual threads requested, but not available in Java " + System.getProperty("java.version") +
+          "; using platform threads");
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setDefaultTimeout(wikiBrowserProperties.getAsync().getRequestTimeout());
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.config;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.graph.BoltGraphAccess;
+import com.javafxpert.wikibrowser.graph.GraphAccess;
+import com.javafxpert.wikibrowser.graph.HttpGraphAccess;
+import com.javafxpert.wikibrowser.upstream.UpstreamClients;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the GraphAccess implementation selected by conceptmap.neo4j.protocol, which is used for the
+ * concept map writes and the visgraph queries
+ */
+@Configuration
+public class GraphAccessConfiguration {
+  private Log log = LogFactory.getLog(getClass());
+
+  @Autowired
+  private WikiBrowserProperties wikiBrowserProperties;
+
+  @Bean(destroyMethod = "close")
+  public GraphAccess graphAccess(UpstreamClients upstreamClients) {
+    WikiBrowserProperties.Neo4j neo4j = wikiBrowserProperties.getNeo4j();
+
+    if (neo4j.getProtocol() == WikiBrowserProperties.Neo4j.Protocol.BOLT) {
+      return new BoltGraphAccess(wikiBrowserProperties.getNeoBoltUri(), wikiBrowserProperties.getCypherUsername(),
+          wikiBrowserProperties.getCypherPassword(), neo4j.getMaxIdleSessions(), neo4j.isEncrypted());
+    }
+
+    log.info("Using HTTP graph access at " + wikiBrowserProperties.getNeoCypherUrl());
+    return new HttpGraphAccess(wikiBrowserProperties, upstreamClients);
+  }
+}
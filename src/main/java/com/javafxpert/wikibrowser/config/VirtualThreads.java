@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors that run each task on a new virtual thread.  Virtual threads are only available
+ * on JDK 21 and later, and this service is compiled for Java 8, so they are created reflectively.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * @return whether the running JVM supports virtual threads
+   */
+  public static boolean isAvailable() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    }
+    catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @param namePrefix prefix for the thread names, which are numbered from 0
+   * @throws IllegalStateException if the running JVM doesn't support virtual threads
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+      ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+      Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+    }
+    catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Virtual threads are not available in this JVM", e);
+    }
+  }
+}
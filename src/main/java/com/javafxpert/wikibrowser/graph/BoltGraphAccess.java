@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.model.conceptmap.GraphFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphNodeFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphNodePropsFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphRelationFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphRelationPropsFar;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.neo4j.driver.v1.AuthTokens;
+import org.neo4j.driver.v1.Config;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.Neo4jException;
+import org.neo4j.driver.v1.types.Entity;
+import org.neo4j.driver.v1.types.Node;
+import org.neo4j.driver.v1.types.Path;
+import org.neo4j.driver.v1.types.Relationship;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs Cypher over Neo4j's binary Bolt protocol, with a pool of sessions kept open by the driver
+ */
+public class BoltGraphAccess implements GraphAccess {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final Driver driver;
+
+  /**
+   * @param maxIdleSessions the number of sessions the driver keeps open between uses; sessions beyond that are
+   * opened as needed and closed after use
+   */
+  public BoltGraphAccess(String uri, String username, String password, int maxIdleSessions, boolean encrypted) {
+    Config config = Config.build()
+        .withMaxIdleSessions(maxIdleSessions)
+        .withEncryptionLevel(encrypted ? Config.EncryptionLevel.REQUIRED : Config.EncryptionLevel.NONE)
+        .toConfig();
+    this.driver = GraphDatabase.driver(uri, AuthTokens.basic(username, password), config);
+    log.info("Using Bolt graph access at " + uri + " keeping up to " + maxIdleSessions + " idle sessions");
+  }
+
+  @Override
+  public void write(List<GraphStatement> statements) {
+    try (Session session = driver.session(); Transaction tx = session.beginTransaction()) {
+      for (GraphStatement statement : statements) {
+        // Results are streamed lazily, so consume each one for its errors to surface here
+        tx.run(statement.getStatement(), statement.getParameters()).consume();
+      }
+      tx.success();
+    }
+    catch (Neo4jException e) {
+      throw new GraphAccessException("Bolt write failed: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public List<GraphFar> queryGraph(String statement, Map<String, Object> parameters) {
+    List<GraphFar> graphFarList = new ArrayList<>();
+    try (Session session = driver.session()) {
+      StatementResult result = session.run(statement, parameters);
+      while (result.hasNext()) {
+        Record record = result.next();
+        RowGraph rowGraph = new RowGraph();
+        for (Value value : record.values()) {
+          rowGraph.add(value.asObject());
+        }
+        graphFarList.add(rowGraph.graphFar);
+      }
+    }
+    catch (Neo4jException e) {
+      throw new GraphAccessException("Bolt query failed: " + e.getMessage(), e);
+    }
+    return graphFarList;
+  }
+
+  @Override
+  public void close() {
+    driver.close();
+  }
+
+  /**
+   * Collects the distinct nodes and relationships in one row, in the same shape as the HTTP endpoint's
+   * "graph" result format
+   */
+  private static class RowGraph {
+    private final GraphFar graphFar = new GraphFar();
+    private final Set<Long> nodeIds = new HashSet<>();
+    private final Set<Long> relationshipIds = new HashSet<>();
+
+    private void add(Object value) {
+      if (value instanceof Node) {
+        addNode((Node) value);
+      }
+      else if (value instanceof Relationship) {
+        addRelationship((Relationship) value);
+      }
+      else if (value instanceof Path) {
+        Path path = (Path) value;
+        path.nodes().forEach(this::addNode);
+        path.relationships().forEach(this::addRelationship);
+      }
+      else if (value instanceof List) {
+        ((List<?>) value).forEach(this::add);
+      }
+    }
+
+    private void addNode(Node node) {
+      if (nodeIds.add(node.id())) {
+        List<String> labels = new ArrayList<>();
+        node.labels().forEach(labels::add);
+        graphFar.getGraphNodeFarList().add(new GraphNodeFar(String.valueOf(node.id()), labels,
+            new GraphNodePropsFar(stringProperty(node, "itemId"), stringProperty(node, "title"))));
+      }
+    }
+
+    private void addRelationship(Relationship relationship) {
+      if (relationshipIds.add(relationship.id())) {
+        graphFar.getGraphRelationFarList().add(new GraphRelationFar(String.valueOf(relationship.id()),
+            relationship.type(), String.valueOf(relationship.startNodeId()),
+            String.valueOf(relationship.endNodeId()),
+            new GraphRelationPropsFar(stringProperty(relationship, "propId"), stringProperty(relationship, "label"))));
+      }
+    }
+
+    private String stringProperty(Entity entity, String key) {
+      Value value = entity.get(key);
+      return value == null || value.isNull() ? null : value.asString();
+    }
+  }
+}
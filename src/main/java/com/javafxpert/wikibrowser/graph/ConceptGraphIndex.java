@@ -0,0 +1,1117 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.ConceptMapBatch;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphNodeFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphRelationFar;
+import com.javafxpert.wikibrowser.model.conceptmap.ItemRelationship;
+import com.javafxpert.wikibrowser.model.conceptmap.PropertyCatalog;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-process copy of the concept graph, for reads that would otherwise be a round trip to Neo4j.  Items get
+ * dense int ids in the order they are first seen, and their titles are kept as UTF-8 in one byte array.
+ * Relationships are held in compressed sparse row form, once by start item and once by end item, with the
+ * property number of each.
+ * <p>
+ * Relationships added after the last compaction sit in a per-item delta until there are enough of them to be
+ * worth compacting into new arrays, which happens on a background thread while reads carry on.  The index is
+ * filled at startup from its snapshot file, or from Neo4j if there is no snapshot, and is kept current by the
+ * graph write path.  It is disabled by default, as it holds the whole graph in memory.  A load that fails
+ * leaves the index unready, so that reads keep going to Neo4j, and is tried again after a while.
+ */
+@Component
+public class ConceptGraphIndex implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private static final int MAGIC = 0x57424749; // "WBGI"
+  private static final int VERSION = 1;
+
+  // Items in a range of Neo4j node ids, with their outgoing relationships
+  private static final String LOAD_PAGE =
+      "MATCH (a:Item) WHERE id(a) IN range({from}, {to}) OPTIONAL MATCH (a)-[r]->(b:Item) RETURN a, r, b";
+
+  private static final String LAST_ITEM = "MATCH (a:Item) WITH a ORDER BY id(a) DESC LIMIT 1 RETURN a";
+
+  /**
+   * Receives the relationships of an item, as the dense id of the item at the other end and the property number
+   */
+  public interface EdgeConsumer {
+    void accept(int node, int propNum);
+  }
+
+  /**
+   * Told when the index has loaded, and again when items have been removed from it, after which it may hold
+   * any number of relationships the listener wasn't told about, and of each relationship the write path adds
+   * after that.  Relationships are passed while the index is locked against other writes.
+   */
+  public interface Listener {
+    void loaded();
+
+    void relationshipAdded(int start, int end, int propNum);
+  }
+
+  private final WikiBrowserProperties.GraphIndex settings;
+
+  private final GraphAccess graphAccess;
+
+  // Guards the fields below; compaction builds its arrays without it
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Held for the whole of a compaction, so that only one runs at a time
+  private final ReentrantLock compactionLock = new ReentrantLock();
+
+  private int nodeCount;
+  private int[] itemNums = new int[1024];
+  private int[] slots = new int[2048];
+
+  private byte[] titleBytes = new byte[16384];
+  private int titleBytesSize;
+  private int[] titleOffsets = new int[1024];
+  private int[] titleLengths = new int[1024];
+
+  private int csrNodes;
+  private int[] outOffsets = new int[1];
+  private int[] outTargets = new int[0];
+  private int[] outProps = new int[0];
+  private int[] inOffsets = new int[1];
+  private int[] inSources = new int[0];
+  private int[] inProps = new int[0];
+
+  private EdgeDelta delta = new EdgeDelta();
+  private EdgeDelta frozen;
+
+  // Items deleted from the graph, which nodeOf no longer finds and whose relationships the next compaction drops
+  private final BitSet removed = new BitSet();
+  private boolean removalPending;
+
+  private volatile boolean ready;
+  private long modCount;
+  private long savedModCount;
+
+  private final AtomicBoolean compactionPending = new AtomicBoolean();
+
+  private final AtomicLong reads = new AtomicLong();
+  private final AtomicLong compactions = new AtomicLong();
+  private final AtomicLong snapshots = new AtomicLong();
+  private volatile long loadMillis;
+
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+  private ExecutorService compactionExecutor;
+  private ScheduledExecutorService snapshotExecutor;
+
+  @Autowired
+  public ConceptGraphIndex(WikiBrowserProperties wikiBrowserProperties, GraphAccess graphAccess) {
+    this.settings = wikiBrowserProperties.getGraphIndex();
+    this.graphAccess = graphAccess;
+  }
+
+  @PostConstruct
+  public void init() {
+    if (!isEnabled()) {
+      return;
+    }
+    compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "graph-index-compaction");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    Thread loader = new Thread(this::loadUntilReady, "graph-index-load");
+    loader.setDaemon(true);
+    loader.start();
+
+    if (!settings.getSnapshotFile().isEmpty() && settings.getSnapshotInterval() > 0) {
+      snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "graph-index-snapshot");
+        thread.setDaemon(true);
+        return thread;
+      });
+      snapshotExecutor.scheduleWithFixedDelay(this::saveSnapshot, settings.getSnapshotInterval(),
+          settings.getSnapshotInterval(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public boolean isEnabled() {
+    return settings.isEnabled();
+  }
+
+  /**
+   * @return true once the index holds the whole graph, and not just what has been written since startup
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void addListener(Listener listener) {
+    listeners.add(listener);
+    if (ready) {
+      listener.loaded();
+    }
+  }
+
+  /**
+   * @return the number in an item ID such as Q42, or -1 if it isn't an item ID
+   */
+  public static int itemNumber(String itemId) {
+    if (itemId == null || itemId.length() < 2 || itemId.length() > 10 ||
+        (itemId.charAt(0) != 'Q' && itemId.charAt(0) != 'q')) {
+      return -1;
+    }
+    int num = 0;
+    for (int i = 1; i < itemId.length(); i++) {
+      char c = itemId.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      num = num * 10 + (c - '0');
+    }
+    return num;
+  }
+
+  /**
+   * Runs the reader with the index locked against writes, so that it sees one state of the graph throughout
+   */
+  public <T> T read(Supplier<T> reader) {
+    lock.readLock().lock();
+    try {
+      reads.incrementAndGet();
+      return reader.get();
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return the dense id of the item, or -1 if it isn't in the index
+   */
+  public int nodeOf(String itemId) {
+    int itemNum = itemNumber(itemId);
+    if (itemNum < 0) {
+      return -1;
+    }
+    lock.readLock().lock();
+    try {
+      int node = slots[slotOf(itemNum)] - 1;
+      return node >= 0 && removed.get(node) ? -1 : node;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int getNodeCount() {
+    lock.readLock().lock();
+    try {
+      return nodeCount;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public String itemIdOf(int node) {
+    lock.readLock().lock();
+    try {
+      return "Q" + itemNums[node];
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return the title of the item, or null if it hasn't got one
+   */
+  public String titleOf(int node) {
+    lock.readLock().lock();
+    try {
+      int length = titleLengths[node];
+      return length < 0 ? null : new String(titleBytes, titleOffsets[node], length, StandardCharsets.UTF_8);
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void forEachOutEdge(int node, EdgeConsumer consumer) {
+    lock.readLock().lock();
+    try {
+      if (node < csrNodes) {
+        for (int i = outOffsets[node]; i < outOffsets[node + 1]; i++) {
+          consumer.accept(outTargets[i], outProps[i]);
+        }
+      }
+      if (frozen != null) {
+        frozen.forEach(frozen.out, node, consumer);
+      }
+      delta.forEach(delta.out, node, consumer);
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void forEachInEdge(int node, EdgeConsumer consumer) {
+    lock.readLock().lock();
+    try {
+      if (node < csrNodes) {
+        for (int i = inOffsets[node]; i < inOffsets[node + 1]; i++) {
+          consumer.accept(inSources[i], inProps[i]);
+        }
+      }
+      if (frozen != null) {
+        frozen.forEach(frozen.in, node, consumer);
+      }
+      delta.forEach(delta.in, node, consumer);
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return the relationships whose start and end items are both among the given items, as {start, end,
+   * property number} triples of dense ids
+   */
+  public List<int[]> edgesAmong(int[] nodes) {
+    return read(() -> {
+      int[] sorted = nodes.clone();
+      Arrays.sort(sorted);
+      List<int[]> edges = new ArrayList<>();
+      for (int node : sorted) {
+        forEachOutEdge(node, (target, propNum) -> {
+          if (Arrays.binarySearch(sorted, target) >= 0) {
+            edges.add(new int[] {node, target, propNum});
+          }
+        });
+      }
+      return edges;
+    });
+  }
+
+  /**
+   * Adds the items and relationships of a batch that has been written to the graph
+   */
+  public void add(ConceptMapBatch batch) {
+    if (!isEnabled() || batch == null || batch.isEmpty()) {
+      return;
+    }
+    boolean compact;
+    lock.writeLock().lock();
+    try {
+      batch.getItems().forEach(this::putItem);
+      for (ItemRelationship rel : batch.getRelationships()) {
+        putRelationship(rel.getItemIdA(), rel.getItemIdB(), rel.getPropId());
+      }
+      compact = shouldCompact();
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+    if (compact && compactionPending.compareAndSet(false, true)) {
+      compactionExecutor.execute(() -> compact(null));
+    }
+  }
+
+  /**
+   * @param itemTitle null to leave the item's title as it is
+   */
+  public void addItem(String itemId, String itemTitle) {
+    if (!isEnabled()) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      putItem(itemId, itemTitle);
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void addRelationship(String itemIdA, String itemIdB, String propId) {
+    if (!isEnabled()) {
+      return;
+    }
+    boolean compact;
+    lock.writeLock().lock();
+    try {
+      putRelationship(itemIdA, itemIdB, propId);
+      compact = shouldCompact();
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+    if (compact && compactionPending.compareAndSet(false, true)) {
+      compactionExecutor.execute(() -> compact(null));
+    }
+  }
+
+  private int putItem(String itemId, String itemTitle) {
+    int itemNum = itemNumber(itemId);
+    if (itemNum < 0) {
+      return -1;
+    }
+    int node = nodeFor(itemNum);
+    if (itemTitle != null) {
+      setTitle(node, itemTitle);
+      removed.clear(node);
+    }
+    return node;
+  }
+
+  /**
+   * Removes items that have been deleted from the graph.  Their relationships stay visible to forEachOutEdge
+   * and forEachInEdge until the compaction this starts has dropped them.
+   */
+  public void removeItems(Collection<String> itemIds) {
+    if (!isEnabled() || itemIds.isEmpty()) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      for (String itemId : itemIds) {
+        int itemNum = itemNumber(itemId);
+        int node = itemNum < 0 ? -1 : slots[slotOf(itemNum)] - 1;
+        if (node >= 0 && !removed.get(node)) {
+          removed.set(node);
+          removalPending = true;
+          modCount++;
+        }
+      }
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+    if (ready && compactionPending.compareAndSet(false, true)) {
+      compactionExecutor.execute(() -> compact(null));
+    }
+  }
+
+  private void putRelationship(String itemIdA, String itemIdB, String propId) {
+    int propNum = PropertyCatalog.propNumber(propId);
+    int nodeA = putItem(itemIdA, null);
+    int nodeB = putItem(itemIdB, null);
+    if (propNum < 0 || nodeA < 0 || nodeB < 0 || removed.get(nodeA) || removed.get(nodeB) ||
+        hasEdge(nodeA, nodeB, propNum)) {
+      return;
+    }
+    delta.add(nodeA, nodeB, propNum);
+    modCount++;
+    for (Listener listener : listeners) {
+      listener.relationshipAdded(nodeA, nodeB, propNum);
+    }
+  }
+
+  private boolean hasEdge(int node, int target, int propNum) {
+    if (node < csrNodes && indexOf(outTargets, outProps, outOffsets[node], outOffsets[node + 1], target, propNum) >= 0) {
+      return true;
+    }
+    return (frozen != null && frozen.contains(node, target, propNum)) || delta.contains(node, target, propNum);
+  }
+
+  private boolean shouldCompact() {
+    return ready && frozen == null && delta.count >= settings.getCompactionThreshold();
+  }
+
+  /**
+   * Binary search of a CSR segment, which is sorted by node and then property number
+   */
+  private static int indexOf(int[] nodes, int[] props, int from, int to, int node, int propNum) {
+    int low = from;
+    int high = to - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = nodes[mid] != node ? Integer.compare(nodes[mid], node) : Integer.compare(props[mid], propNum);
+      if (cmp < 0) {
+        low = mid + 1;
+      }
+      else if (cmp > 0) {
+        high = mid - 1;
+      }
+      else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  private int slotOf(int itemNum) {
+    int mask = slots.length - 1;
+    int slot = (itemNum * 0x9E3779B9 >>> 7) & mask;
+    while (slots[slot] != 0 && itemNums[slots[slot] - 1] != itemNum) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private int nodeFor(int itemNum) {
+    int slot = slotOf(itemNum);
+    if (slots[slot] != 0) {
+      return slots[slot] - 1;
+    }
+
+    int node = nodeCount++;
+    if (node == itemNums.length) {
+      int capacity = itemNums.length * 2;
+      itemNums = Arrays.copyOf(itemNums, capacity);
+      titleOffsets = Arrays.copyOf(titleOffsets, capacity);
+      titleLengths = Arrays.copyOf(titleLengths, capacity);
+    }
+    itemNums[node] = itemNum;
+    titleLengths[node] = -1;
+    slots[slot] = node + 1;
+    modCount++;
+
+    if (nodeCount * 2 > slots.length) {
+      slots = new int[slots.length * 2];
+      for (int i = 0; i < nodeCount; i++) {
+        slots[slotOf(itemNums[i])] = i + 1;
+      }
+    }
+    return node;
+  }
+
+  private void setTitle(int node, String title) {
+    byte[] bytes = title.getBytes(StandardCharsets.UTF_8);
+    int length = titleLengths[node];
+    if (length == bytes.length &&
+        Arrays.equals(bytes, Arrays.copyOfRange(titleBytes, titleOffsets[node], titleOffsets[node] + length))) {
+      return;
+    }
+    // A replaced title stays in the byte array until the next restart, which is rare enough not to matter
+    if (titleBytesSize + bytes.length > titleBytes.length) {
+      titleBytes = Arrays.copyOf(titleBytes, Math.max(titleBytes.length * 2, titleBytesSize + bytes.length));
+    }
+    System.arraycopy(bytes, 0, titleBytes, titleBytesSize, bytes.length);
+    titleOffsets[node] = titleBytesSize;
+    titleLengths[node] = bytes.length;
+    titleBytesSize += bytes.length;
+    modCount++;
+  }
+
+  /**
+   * Merges the relationships in the delta, and any given extra ones, into new CSR arrays, leaving out those of
+   * removed items.  Reads and writes carry on meanwhile: the delta is frozen for the duration, and new
+   * relationships go into a fresh one.
+   *
+   * @return false if the compaction failed, in which case the delta is kept but the extra relationships are not
+   */
+  private boolean compact(EdgeBuffer extra) {
+    BitSet drop = null;
+    compactionLock.lock();
+    try {
+      long start = System.currentTimeMillis();
+      int nodes;
+      lock.writeLock().lock();
+      try {
+        if (extra == null && delta.count == 0 && !removalPending) {
+          return true;
+        }
+        frozen = delta;
+        delta = new EdgeDelta();
+        nodes = nodeCount;
+        drop = removalPending ? (BitSet) removed.clone() : null;
+        removalPending = false;
+        compactionPending.set(false);
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+
+      // The arrays being replaced and the frozen delta aren't modified until they are swapped out below
+      int[] newOutOffsets = new int[nodes + 1];
+      int[] extraOffsets = extra != null ? extra.groupBySource(nodes) : null;
+      long upperBound = (long) outTargets.length + frozen.count + (extra != null ? extra.size : 0);
+      if (upperBound > Integer.MAX_VALUE - 8) {
+        throw new IllegalStateException("Too many relationships for the graph index: " + upperBound);
+      }
+      int[] newOutTargets = new int[(int) upperBound];
+      int[] newOutProps = new int[(int) upperBound];
+      long[] keys = new long[64];
+      int pos = 0;
+      for (int node = 0; node < nodes; node++) {
+        newOutOffsets[node] = pos;
+        if (drop != null && drop.get(node)) {
+          continue;
+        }
+        int count = 0;
+        if (node < csrNodes) {
+          for (int i = outOffsets[node]; i < outOffsets[node + 1]; i++) {
+            keys = append(keys, count++, outTargets[i], outProps[i]);
+          }
+        }
+        EdgeList frozenEdges = frozen.out.get(node);
+        if (frozenEdges != null) {
+          for (int i = 0; i < frozenEdges.size; i++) {
+            keys = append(keys, count++, frozenEdges.nodes[i], frozenEdges.props[i]);
+          }
+        }
+        if (extraOffsets != null) {
+          for (int i = extraOffsets[node]; i < extraOffsets[node + 1]; i++) {
+            keys = append(keys, count++, extra.targets[i], extra.props[i]);
+          }
+        }
+        Arrays.sort(keys, 0, count);
+        for (int i = 0; i < count; i++) {
+          if ((i == 0 || keys[i] != keys[i - 1]) && (drop == null || !drop.get((int) (keys[i] >>> 32)))) {
+            newOutTargets[pos] = (int) (keys[i] >>> 32);
+            newOutProps[pos] = (int) keys[i];
+            pos++;
+          }
+        }
+      }
+      newOutOffsets[nodes] = pos;
+      newOutTargets = Arrays.copyOf(newOutTargets, pos);
+      newOutProps = Arrays.copyOf(newOutProps, pos);
+
+      // Relationships by end item, which come out sorted by start item as the loop goes through them in order
+      int[] newInOffsets = new int[nodes + 1];
+      for (int i = 0; i < pos; i++) {
+        newInOffsets[newOutTargets[i] + 1]++;
+      }
+      for (int node = 0; node < nodes; node++) {
+        newInOffsets[node + 1] += newInOffsets[node];
+      }
+      int[] fill = Arrays.copyOf(newInOffsets, nodes);
+      int[] newInSources = new int[pos];
+      int[] newInProps = new int[pos];
+      for (int node = 0; node < nodes; node++) {
+        for (int i = newOutOffsets[node]; i < newOutOffsets[node + 1]; i++) {
+          int at = fill[newOutTargets[i]]++;
+          newInSources[at] = node;
+          newInProps[at] = newOutProps[i];
+        }
+      }
+
+      lock.writeLock().lock();
+      try {
+        csrNodes = nodes;
+        outOffsets = newOutOffsets;
+        outTargets = newOutTargets;
+        outProps = newOutProps;
+        inOffsets = newInOffsets;
+        inSources = newInSources;
+        inProps = newInProps;
+        frozen = null;
+        modCount++;
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+      compactions.incrementAndGet();
+      log.info("Compacted graph index to " + nodes + " items and " + pos + " relationships in " +
+          (System.currentTimeMillis() - start) + " ms");
+      if (drop != null && ready) {
+        for (Listener listener : listeners) {
+          listener.loaded();
+        }
+      }
+      return true;
+    }
+    catch (RuntimeException | OutOfMemoryError e) {
+      e.printStackTrace();
+      log.info("Caught exception when compacting graph index " + e);
+      // Put the frozen relationships back, so that none are lost
+      lock.writeLock().lock();
+      try {
+        if (frozen != null) {
+          frozen.out.forEach((node, edges) -> {
+            for (int i = 0; i < edges.size; i++) {
+              if (!delta.contains(node, edges.nodes[i], edges.props[i])) {
+                delta.add(node, edges.nodes[i], edges.props[i]);
+              }
+            }
+          });
+          frozen = null;
+        }
+        if (drop != null) {
+          removalPending = true;
+        }
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+      return false;
+    }
+    finally {
+      compactionLock.unlock();
+    }
+  }
+
+  private static long[] append(long[] keys, int index, int target, int propNum) {
+    if (index == keys.length) {
+      keys = Arrays.copyOf(keys, keys.length * 2);
+    }
+    keys[index] = ((long) target << 32) | (propNum & 0xFFFFFFFFL);
+    return keys;
+  }
+
+  private void loadUntilReady() {
+    while (!load()) {
+      if (settings.getLoadRetryInterval() <= 0) {
+        log.info("Graph index not loaded, reads will go to Neo4j");
+        return;
+      }
+      log.info("Graph index not loaded, trying again in " + settings.getLoadRetryInterval() + " ms");
+      try {
+        Thread.sleep(settings.getLoadRetryInterval());
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Fills the index from the snapshot or the graph, and marks it ready if that succeeded.  Items and
+   * relationships already in the index, from a failed attempt or the write path, are merged rather than repeated.
+   *
+   * @return false if the load failed
+   */
+  boolean load() {
+    long start = System.currentTimeMillis();
+    try {
+      Path file = settings.getSnapshotFile().isEmpty() ? null : Paths.get(settings.getSnapshotFile());
+      boolean fromSnapshot = file != null && Files.exists(file) && loadSnapshot(file);
+      if (fromSnapshot) {
+        log.info("Loaded graph index snapshot " + file);
+      }
+      else if (settings.isLoadFromGraph() && !loadFromGraph()) {
+        return false;
+      }
+      lock.writeLock().lock();
+      try {
+        savedModCount = fromSnapshot ? modCount : -1;
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+    }
+    catch (RuntimeException e) {
+      e.printStackTrace();
+      log.info("Caught exception when loading graph index " + e);
+      return false;
+    }
+    loadMillis = System.currentTimeMillis() - start;
+    ready = true;
+    log.info("Graph index ready with " + getNodeCount() + " items after " + loadMillis + " ms");
+    for (Listener listener : listeners) {
+      listener.loaded();
+    }
+    return true;
+  }
+
+  /**
+   * @return false if the snapshot couldn't be read or compacted into the index
+   */
+  private boolean loadSnapshot(Path file) {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+      if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+        log.info("Ignoring graph index snapshot " + file + " in an unknown format");
+        return false;
+      }
+
+      // Snapshot ids are mapped to the ids of this index, which may already hold items written since startup
+      int nodes = in.readInt();
+      int[] nodeMap = new int[nodes];
+      lock.writeLock().lock();
+      try {
+        for (int i = 0; i < nodes; i++) {
+          nodeMap[i] = nodeFor(in.readInt());
+          if (in.readBoolean()) {
+            String title = in.readUTF();
+            if (titleLengths[nodeMap[i]] < 0) {
+              setTitle(nodeMap[i], title);
+            }
+          }
+        }
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+
+      EdgeBuffer extra = new EdgeBuffer();
+      for (int i = 0; i < nodes; i++) {
+        int degree = in.readInt();
+        for (int j = 0; j < degree; j++) {
+          extra.add(nodeMap[i], nodeMap[in.readInt()], in.readInt());
+        }
+      }
+      return compact(extra);
+    }
+    catch (IOException e) {
+      e.printStackTrace();
+      log.info("Caught exception when loading graph index snapshot " + file + " " + e);
+      return false;
+    }
+  }
+
+  /**
+   * @return false if the relationships read couldn't be compacted into the index
+   */
+  private boolean loadFromGraph() {
+    List<GraphFar> last = graphAccess.queryGraph(LAST_ITEM, Collections.emptyMap());
+    if (last.isEmpty() || last.get(0).getGraphNodeFarList().isEmpty()) {
+      log.info("No items in the graph to load into the graph index");
+      return true;
+    }
+    long lastId = Long.parseLong(last.get(0).getGraphNodeFarList().get(0).getId());
+    log.info("Loading graph index from Neo4j, node ids up to " + lastId);
+
+    EdgeBuffer extra = new EdgeBuffer();
+    int pageSize = Math.max(1, settings.getLoadPageSize());
+    for (long from = 0; from <= lastId; from += pageSize) {
+      Map<String, Object> params = new HashMap<>();
+      params.put("from", from);
+      params.put("to", Math.min(from + pageSize - 1, lastId));
+      List<GraphFar> rows = graphAccess.queryGraph(LOAD_PAGE, params);
+
+      lock.writeLock().lock();
+      try {
+        for (GraphFar row : rows) {
+          // Neo4j node ids are only meaningful within the row
+          Map<String, Integer> nodesByNeoId = new HashMap<>();
+          for (GraphNodeFar graphNodeFar : row.getGraphNodeFarList()) {
+            int node = putItem(graphNodeFar.getGraphNodePropsFar().getItemId(),
+                graphNodeFar.getGraphNodePropsFar().getTitle());
+            nodesByNeoId.put(graphNodeFar.getId(), node);
+          }
+          for (GraphRelationFar graphRelationFar : row.getGraphRelationFarList()) {
+            Integer start = nodesByNeoId.get(graphRelationFar.getStartNode());
+            Integer end = nodesByNeoId.get(graphRelationFar.getEndNode());
+            int propNum = PropertyCatalog.propNumber(graphRelationFar.getGraphRelationPropsFar().getPropId());
+            if (start != null && end != null && start >= 0 && end >= 0 && propNum >= 0) {
+              extra.add(start, end, propNum);
+            }
+          }
+        }
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+      if ((from / pageSize) % 100 == 0) {
+        log.info("Graph index loaded node ids up to " + from + ", " + getNodeCount() + " items and " + extra.size +
+            " relationships");
+      }
+    }
+    return compact(extra);
+  }
+
+  /**
+   * Writes the index to the snapshot file if it has changed since it was last loaded or saved.  The arrays are
+   * copied with the index locked, and the file is written from the copies once it is unlocked again, so that
+   * writes aren't held up by the disk.  The CSR arrays and the title bytes aren't copied, as they are only ever
+   * appended to or replaced.
+   */
+  public synchronized void saveSnapshot() {
+    if (!isEnabled() || !ready || settings.getSnapshotFile().isEmpty()) {
+      return;
+    }
+
+    int nodes;
+    int[] snapshotItemNums;
+    byte[] snapshotTitleBytes;
+    int[] snapshotTitleOffsets;
+    int[] snapshotTitleLengths;
+    int snapshotCsrNodes;
+    int[] snapshotOutOffsets;
+    int[] snapshotOutTargets;
+    int[] snapshotOutProps;
+    EdgeBuffer recent = new EdgeBuffer();
+    BitSet snapshotRemoved;
+    long snapshotModCount;
+    lock.readLock().lock();
+    try {
+      if (modCount == savedModCount) {
+        return;
+      }
+      nodes = nodeCount;
+      snapshotItemNums = Arrays.copyOf(itemNums, nodes);
+      snapshotTitleBytes = titleBytes;
+      snapshotTitleOffsets = Arrays.copyOf(titleOffsets, nodes);
+      snapshotTitleLengths = Arrays.copyOf(titleLengths, nodes);
+      snapshotCsrNodes = csrNodes;
+      snapshotOutOffsets = outOffsets;
+      snapshotOutTargets = outTargets;
+      snapshotOutProps = outProps;
+      for (EdgeDelta edgeDelta : frozen != null ? Arrays.asList(frozen, delta) : Collections.singletonList(delta)) {
+        edgeDelta.out.forEach((node, edges) -> {
+          for (int i = 0; i < edges.size; i++) {
+            recent.add(node, edges.nodes[i], edges.props[i]);
+          }
+        });
+      }
+      snapshotRemoved = (BitSet) removed.clone();
+      snapshotModCount = modCount;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+
+    Path file = Paths.get(settings.getSnapshotFile()).toAbsolutePath();
+    try {
+      int[] recentOffsets = recent.groupBySource(nodes);
+      // Removed items are left out, and the rest renumbered to close the gaps
+      int[] snapshotNodes = new int[nodes];
+      int keptNodes = 0;
+      for (int node = 0; node < nodes; node++) {
+        snapshotNodes[node] = snapshotRemoved.get(node) ? -1 : keptNodes++;
+      }
+      Files.createDirectories(file.getParent());
+      Path tempFile = Files.createTempFile(file.getParent(), "graph-index", ".tmp");
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tempFile), 1 << 16))) {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(keptNodes);
+        for (int node = 0; node < nodes; node++) {
+          if (snapshotNodes[node] < 0) {
+            continue;
+          }
+          out.writeInt(snapshotItemNums[node]);
+          int length = snapshotTitleLengths[node];
+          out.writeBoolean(length >= 0);
+          if (length >= 0) {
+            out.writeUTF(new String(snapshotTitleBytes, snapshotTitleOffsets[node], length, StandardCharsets.UTF_8));
+          }
+        }
+        for (int node = 0; node < nodes; node++) {
+          if (snapshotNodes[node] < 0) {
+            continue;
+          }
+          int from = node < snapshotCsrNodes ? snapshotOutOffsets[node] : 0;
+          int to = node < snapshotCsrNodes ? snapshotOutOffsets[node + 1] : 0;
+          int degree = 0;
+          for (int i = from; i < to; i++) {
+            degree += snapshotNodes[snapshotOutTargets[i]] >= 0 ? 1 : 0;
+          }
+          for (int i = recentOffsets[node]; i < recentOffsets[node + 1]; i++) {
+            degree += snapshotNodes[recent.targets[i]] >= 0 ? 1 : 0;
+          }
+          out.writeInt(degree);
+          for (int i = from; i < to; i++) {
+            if (snapshotNodes[snapshotOutTargets[i]] >= 0) {
+              out.writeInt(snapshotNodes[snapshotOutTargets[i]]);
+              out.writeInt(snapshotOutProps[i]);
+            }
+          }
+          for (int i = recentOffsets[node]; i < recentOffsets[node + 1]; i++) {
+            if (snapshotNodes[recent.targets[i]] >= 0) {
+              out.writeInt(snapshotNodes[recent.targets[i]]);
+              out.writeInt(recent.props[i]);
+            }
+          }
+        }
+      }
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      lock.writeLock().lock();
+      try {
+        savedModCount = snapshotModCount;
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+      snapshots.incrementAndGet();
+    }
+    catch (IOException e) {
+      log.info("Caught exception when saving graph index snapshot " + file + " " + e);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    if (snapshotExecutor != null) {
+      snapshotExecutor.shutdownNow();
+    }
+    if (compactionExecutor != null) {
+      compactionExecutor.shutdownNow();
+    }
+    saveSnapshot();
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    if (!isEnabled()) {
+      return metrics;
+    }
+    lock.readLock().lock();
+    try {
+      metrics.add(new Metric<>("graphindex.ready", ready ? 1 : 0));
+      metrics.add(new Metric<>("graphindex.items", nodeCount - removed.cardinality()));
+      metrics.add(new Metric<>("graphindex.relationships", outTargets.length + delta.count +
+          (frozen != null ? frozen.count : 0)));
+      metrics.add(new Metric<>("graphindex.relationships.delta", delta.count));
+      metrics.add(new Metric<>("graphindex.titles.bytes", titleBytesSize));
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+    metrics.add(new Metric<>("graphindex.reads", reads.get()));
+    metrics.add(new Metric<>("graphindex.compactions", compactions.get()));
+    metrics.add(new Metric<>("graphindex.snapshots", snapshots.get()));
+    metrics.add(new Metric<>("graphindex.load.millis", loadMillis));
+    return metrics;
+  }
+
+  /**
+   * Relationships added since the last compaction, by start item and by end item
+   */
+  private static class EdgeDelta {
+    private final Map<Integer, EdgeList> out = new HashMap<>();
+    private final Map<Integer, EdgeList> in = new HashMap<>();
+    private int count;
+
+    private void add(int node, int target, int propNum) {
+      out.computeIfAbsent(node, n -> new EdgeList()).add(target, propNum);
+      in.computeIfAbsent(target, n -> new EdgeList()).add(node, propNum);
+      count++;
+    }
+
+    private boolean contains(int node, int target, int propNum) {
+      EdgeList edges = out.get(node);
+      return edges != null && edges.contains(target, propNum);
+    }
+
+    private void forEach(Map<Integer, EdgeList> edgesByNode, int node, EdgeConsumer consumer) {
+      EdgeList edges = edgesByNode.get(node);
+      if (edges != null) {
+        for (int i = 0; i < edges.size; i++) {
+          consumer.accept(edges.nodes[i], edges.props[i]);
+        }
+      }
+    }
+  }
+
+  private static class EdgeList {
+    private int[] nodes = new int[4];
+    private int[] props = new int[4];
+    private int size;
+
+    private void add(int node, int propNum) {
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, size * 2);
+        props = Arrays.copyOf(props, size * 2);
+      }
+      nodes[size] = node;
+      props[size] = propNum;
+      size++;
+    }
+
+    private boolean contains(int node, int propNum) {
+      for (int i = 0; i < size; i++) {
+        if (nodes[i] == node && props[i] == propNum) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Relationships read in bulk, which are grouped by start item when they are compacted into the index
+   */
+  private static class EdgeBuffer {
+    private int[] sources = new int[1024];
+    private int[] targets = new int[1024];
+    private int[] props = new int[1024];
+    private int size;
+
+    private void add(int source, int target, int propNum) {
+      if (size == sources.length) {
+        int capacity = size * 2;
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        props = Arrays.copyOf(props, capacity);
+      }
+      sources[size] = source;
+      targets[size] = target;
+      props[size] = propNum;
+      size++;
+    }
+
+    /**
+     * Reorders the relationships by start item
+     * @return the offset of each start item's relationships
+     */
+    private int[] groupBySource(int nodes) {
+      int[] offsets = new int[nodes + 1];
+      for (int i = 0; i < size; i++) {
+        offsets[sources[i] + 1]++;
+      }
+      for (int node = 0; node < nodes; node++) {
+        offsets[node + 1] += offsets[node];
+      }
+      int[] fill = Arrays.copyOf(offsets, nodes);
+      int[] groupedTargets = new int[size];
+      int[] groupedProps = new int[size];
+      for (int i = 0; i < size; i++) {
+        int at = fill[sources[i]]++;
+        groupedTargets[at] = targets[i];
+        groupedProps[at] = props[i];
+      }
+      sources = null;
+      targets = groupedTargets;
+      props = groupedProps;
+      return offsets;
+    }
+  }
+}
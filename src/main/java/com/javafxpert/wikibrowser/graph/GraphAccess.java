@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.model.conceptmap.GraphFar;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs parameterized Cypher statements against the Neo4j server.  The implementation, HTTP or Bolt, is chosen
+ * by conceptmap.neo4j.protocol.
+ */
+public interface GraphAccess {
+
+  /**
+   * Runs the statements in one transaction, which is rolled back if any of them fails
+   * @throws GraphAccessException if a statement fails or the server can't be reached
+   */
+  void write(List<GraphStatement> statements);
+
+  default void write(String statement, Map<String, Object> parameters) {
+    write(Collections.singletonList(new GraphStatement(statement, parameters)));
+  }
+
+  /**
+   * Runs a read statement
+   * @return for each row of the result, the nodes and relationships it contains, including those in paths
+   * @throws GraphAccessException if the statement fails or the server can't be reached
+   */
+  List<GraphFar> queryGraph(String statement, Map<String, Object> parameters);
+
+  default void close() {
+  }
+}
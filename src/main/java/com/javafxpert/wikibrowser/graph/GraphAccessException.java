@@ -0,0 +1,31 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+/**
+ * Thrown when a Cypher statement fails, or the Neo4j server can't be reached
+ */
+public class GraphAccessException extends RuntimeException {
+
+  public GraphAccessException(String message) {
+    super(message);
+  }
+
+  public GraphAccessException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A Cypher statement and its parameters
+ */
+public class GraphStatement {
+  private final String statement;
+  private final Map<String, Object> parameters;
+
+  public GraphStatement(String statement, Map<String, Object> parameters) {
+    this.statement = statement;
+    this.parameters = parameters != null ? parameters : Collections.emptyMap();
+  }
+
+  public String getStatement() {
+    return statement;
+  }
+
+  public Map<String, Object> getParameters() {
+    return parameters;
+  }
+
+  @Override
+  public String toString() {
+    return "GraphStatement{" +
+        "statement='" + statement + '\'' +
+        ", parameters=" + parameters.keySet() +
+        '}';
+  }
+}
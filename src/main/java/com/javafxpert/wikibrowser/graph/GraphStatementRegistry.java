@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the fixed set of read statements that the controllers run against the graph, by name.  Keeping the
+ * statement text out of the request path means every request reuses one of a handful of server-side plans
+ * instead of each distinct input producing a statement that has to be planned afresh.  Executions, errors and
+ * latency of each statement are published as metrics.
+ */
+@Component
+public class GraphStatementRegistry implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final GraphAccess graphAccess;
+
+  private final Map<String, PreparedGraphStatement> statements = new ConcurrentHashMap<>();
+
+  @Autowired
+  public GraphStatementRegistry(GraphAccess graphAccess) {
+    this.graphAccess = graphAccess;
+  }
+
+  /**
+   * @return the statement registered under the name, which is registered now if it isn't already
+   * @throws IllegalStateException if a different statement is already registered under the name
+   */
+  public PreparedGraphStatement register(String name, String statement) {
+    PreparedGraphStatement prepared = statements.computeIfAbsent(name, n -> {
+      log.info("Registering graph statement " + n + ": " + statement);
+      return new PreparedGraphStatement(n, statement, graphAccess);
+    });
+    if (!prepared.getStatement().equals(statement)) {
+      throw new IllegalStateException("Graph statement " + name + " is already registered as " +
+          prepared.getStatement());
+    }
+    return prepared;
+  }
+
+  public PreparedGraphStatement get(String name) {
+    return statements.get(name);
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    metrics.add(new Metric<>("graphstatement.registered", statements.size()));
+    for (PreparedGraphStatement statement : statements.values()) {
+      String prefix = "graphstatement." + statement.getName();
+      metrics.add(new Metric<>(prefix + ".executions", statement.getExecutions()));
+      metrics.add(new Metric<>(prefix + ".errors", statement.getErrors()));
+      metrics.add(new Metric<>(prefix + ".latency.p50", statement.getLatency().percentile(0.5)));
+      metrics.add(new Metric<>(prefix + ".latency.p95", statement.getLatency().percentile(0.95)));
+    }
+    return metrics;
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.PropertyCatalog;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Distance of each item in the graph index from the root item (Entity, Q35120) along the hierarchy properties:
+ * subclass-of (P279), instance-of (P31) and part-of (P361) by default.  An item's parents are its hierarchy
+ * relationships in the graph index, and the parents one step closer to the root are the ones its shortest root
+ * paths go through, so finding those paths is a walk down the depths rather than a graph search.
+ * <p>
+ * The depths are computed with a breadth-first search from the root once the graph index has loaded.  After
+ * that, each hierarchy relationship the write path adds lowers the depths of the items it brings closer to the
+ * root, if any.  Removing items can raise depths instead, which isn't worked out as it happens: the graph index
+ * reports that it has loaded again once a compaction has dropped the removed items' relationships, and the depths
+ * are rebuilt from scratch then.  Until that compaction, root paths may still pass through removed items.
+ */
+@Component
+public class HierarchyIndex implements ConceptGraphIndex.Listener, PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final ConceptGraphIndex conceptGraphIndex;
+
+  private final WikiBrowserProperties.RootPaths settings;
+
+  private final Set<Integer> propNums = new HashSet<>();
+
+  // Replaced by each rebuild, and otherwise only modified with the graph index locked against reads; null until
+  // the first build
+  private volatile Hierarchy hierarchy;
+
+  private final AtomicLong rebuilds = new AtomicLong();
+  private final AtomicLong updates = new AtomicLong();
+  private final AtomicLong walks = new AtomicLong();
+  private volatile long rebuildMillis;
+
+  @Autowired
+  public HierarchyIndex(ConceptGraphIndex conceptGraphIndex, WikiBrowserProperties wikiBrowserProperties) {
+    this.conceptGraphIndex = conceptGraphIndex;
+    this.settings = wikiBrowserProperties.getRootPaths();
+    for (String propId : settings.getProperties()) {
+      propNums.add(PropertyCatalog.propNumber(propId.trim()));
+    }
+  }
+
+  @PostConstruct
+  public void init() {
+    if (conceptGraphIndex.isEnabled() && settings.isUseIndex()) {
+      conceptGraphIndex.addListener(this);
+    }
+  }
+
+  /**
+   * @return true if root paths to the given item can be walked in this index
+   */
+  public boolean isAvailable(String rootItemId) {
+    return hierarchy != null && settings.getRootItem().equalsIgnoreCase(rootItemId);
+  }
+
+  /**
+   * Rebuilds the depths, which happens both when the graph index first loads and after items have been removed
+   * from it
+   */
+  @Override
+  public void loaded() {
+    conceptGraphIndex.read(() -> {
+      long start = System.currentTimeMillis();
+      Hierarchy rebuilt = new Hierarchy(conceptGraphIndex.getNodeCount());
+      rebuilt.rootNode = conceptGraphIndex.nodeOf(settings.getRootItem());
+      if (rebuilt.rootNode >= 0) {
+        rebuilt.depths[rebuilt.rootNode] = 0;
+        rebuilt.reachable = 1 + lowerDepths(rebuilt.depths, rebuilt.rootNode);
+      }
+
+      // Published before the read lock is released, so that no relationship can be added between the build and
+      // the swap, and under the same monitor as relationshipAdded, so that rebuilds running side by side don't
+      // interleave
+      long millis = System.currentTimeMillis() - start;
+      synchronized (this) {
+        hierarchy = rebuilt;
+        rebuildMillis = millis;
+      }
+      rebuilds.incrementAndGet();
+      log.info("Hierarchy index has " + rebuilt.reachable + " items under " + settings.getRootItem() +
+          ", built in " + millis + " ms");
+      return null;
+    });
+  }
+
+  @Override
+  public synchronized void relationshipAdded(int start, int end, int propNum) {
+    Hierarchy hierarchy = this.hierarchy;
+    if (hierarchy == null) {
+      // The graph index hasn't loaded, so the relationship will be there when the depths are first computed
+      return;
+    }
+    int[] depths = hierarchy.ensureCapacity(Math.max(start, end) + 1);
+    if (hierarchy.rootNode < 0) {
+      hierarchy.rootNode = conceptGraphIndex.nodeOf(settings.getRootItem());
+      if (hierarchy.rootNode >= 0) {
+        depths = hierarchy.ensureCapacity(hierarchy.rootNode + 1);
+        depths[hierarchy.rootNode] = 0;
+        hierarchy.reachable = 1 + lowerDepths(depths, hierarchy.rootNode);
+      }
+    }
+    if (!propNums.contains(propNum) || depths[end] < 0 || (depths[start] >= 0 && depths[start] <= depths[end] + 1)) {
+      return;
+    }
+    if (depths[start] < 0) {
+      hierarchy.reachable++;
+    }
+    depths[start] = depths[end] + 1;
+    updates.incrementAndGet();
+    hierarchy.reachable += lowerDepths(depths, start);
+  }
+
+  /**
+   * Lowers the depths of the items below the given one that its depth brings closer to the root
+   * @return the number of items that weren't under the root before
+   */
+  private long lowerDepths(int[] depths, int from) {
+    Deque<Integer> queue = new ArrayDeque<>();
+    queue.add(from);
+    long[] added = new long[1];
+    while (!queue.isEmpty()) {
+      int parent = queue.poll();
+      int childDepth = depths[parent] + 1;
+      conceptGraphIndex.forEachInEdge(parent, (child, propNum) -> {
+        if (propNums.contains(propNum) && child < depths.length &&
+            (depths[child] < 0 || depths[child] > childDepth)) {
+          if (depths[child] < 0) {
+            added[0]++;
+          }
+          depths[child] = childDepth;
+          queue.add(child);
+        }
+      });
+    }
+    return added[0];
+  }
+
+  /**
+   * @return the shortest hierarchy paths from the item to the root, each as its relationships in order from the
+   * item, in {start, end, property number} form; empty if the item isn't under the root
+   */
+  public List<int[][]> rootPaths(String itemId) {
+    walks.incrementAndGet();
+    return conceptGraphIndex.read(() -> {
+      Hierarchy hierarchy = this.hierarchy;
+      int node = conceptGraphIndex.nodeOf(itemId);
+      List<int[][]> paths = new ArrayList<>();
+      if (hierarchy != null && node >= 0 && node != hierarchy.rootNode && node < hierarchy.depths.length &&
+          hierarchy.depths[node] > 0) {
+        walk(hierarchy, node, new ArrayList<>(), paths);
+      }
+      return paths;
+    });
+  }
+
+  private void walk(Hierarchy hierarchy, int node, List<int[]> path, List<int[][]> paths) {
+    if (node == hierarchy.rootNode) {
+      paths.add(path.toArray(new int[path.size()][]));
+      return;
+    }
+
+    int[] depths = hierarchy.depths;
+    List<int[]> steps = new ArrayList<>();
+    conceptGraphIndex.forEachOutEdge(node, (parent, propNum) -> {
+      if (propNums.contains(propNum) && parent < depths.length && depths[parent] == depths[node] - 1) {
+        steps.add(new int[] {node, parent, propNum});
+      }
+    });
+    for (int[] step : steps) {
+      if (paths.size() >= settings.getMaxPaths()) {
+        return;
+      }
+      path.add(step);
+      walk(hierarchy, step[1], path, paths);
+      path.remove(path.size() - 1);
+    }
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    if (hierarchy == null) {
+      return Collections.emptyList();
+    }
+    List<Metric<?>> metrics = new ArrayList<>();
+    metrics.add(new Metric<>("hierarchy.items", conceptGraphIndex.read(() -> hierarchy.reachable)));
+    metrics.add(new Metric<>("hierarchy.rebuilds", rebuilds.get()));
+    metrics.add(new Metric<>("hierarchy.updates", updates.get()));
+    metrics.add(new Metric<>("hierarchy.walks", walks.get()));
+    metrics.add(new Metric<>("hierarchy.rebuild.millis", rebuildMillis));
+    return metrics;
+  }
+
+  /**
+   * The depths of the items, by dense id, with -1 for those not under the root, which is itself at depth 0
+   */
+  private static class Hierarchy {
+    private int[] depths;
+    private int rootNode = -1;
+    private long reachable;
+
+    private Hierarchy(int nodes) {
+      depths = new int[nodes];
+      Arrays.fill(depths, -1);
+    }
+
+    private int[] ensureCapacity(int nodes) {
+      if (depths.length < nodes) {
+        int[] grown = Arrays.copyOf(depths, Math.max(nodes, depths.length * 2));
+        Arrays.fill(grown, depths.length, grown.length, -1);
+        depths = grown;
+      }
+      return depths;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.DataFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphErrorFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphFar;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphResponseFar;
+import com.javafxpert.wikibrowser.model.conceptmap.ResultFar;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import com.javafxpert.wikibrowser.upstream.UpstreamClients;
+import com.javafxpert.wikibrowser.util.WikiBrowserUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs Cypher through the Neo4j transactional HTTP endpoint at conceptmap.cypher-*, on the pooled NEO4J
+ * RestTemplate.  Request bodies are built by Jackson, so statements and parameters are always correctly escaped.
+ */
+public class HttpGraphAccess implements GraphAccess {
+
+  private final WikiBrowserProperties wikiBrowserProperties;
+
+  private final RestTemplate restTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  public HttpGraphAccess(WikiBrowserProperties wikiBrowserProperties, UpstreamClients upstreamClients) {
+    this.wikiBrowserProperties = wikiBrowserProperties;
+    this.restTemplate = upstreamClients.getRestTemplate(Upstream.NEO4J);
+  }
+
+  @Override
+  public void write(List<GraphStatement> statements) {
+    post(statements, false);
+  }
+
+  @Override
+  public List<GraphFar> queryGraph(String statement, Map<String, Object> parameters) {
+    GraphResponseFar graphResponseFar =
+        post(Collections.singletonList(new GraphStatement(statement, parameters)), true);
+
+    List<GraphFar> graphFarList = new ArrayList<>();
+    List<ResultFar> resultFarList = graphResponseFar.getResultFarList();
+    if (resultFarList.size() > 0) {
+      for (DataFar dataFar : resultFarList.get(0).getDataFarList()) {
+        graphFarList.add(dataFar.getGraphFar());
+      }
+    }
+    return graphFarList;
+  }
+
+  /**
+   * Posts the statements to the endpoint that runs them in one transaction and commits it
+   */
+  private GraphResponseFar post(List<GraphStatement> statements, boolean graphResults) {
+    List<Map<String, Object>> statementList = new ArrayList<>();
+    for (GraphStatement statement : statements) {
+      Map<String, Object> statementMap = new LinkedHashMap<>();
+      statementMap.put("statement", statement.getStatement());
+      statementMap.put("parameters", statement.getParameters());
+      if (graphResults) {
+        statementMap.put("resultDataContents", Collections.singletonList("graph"));
+      }
+      statementList.add(statementMap);
+    }
+
+    HttpHeaders httpHeaders = WikiBrowserUtils.createHeaders(wikiBrowserProperties.getCypherUsername(),
+        wikiBrowserProperties.getCypherPassword());
+    httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+    httpHeaders.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
+
+    GraphResponseFar graphResponseFar;
+    try {
+      String body = objectMapper.writeValueAsString(Collections.singletonMap("statements", statementList));
+      graphResponseFar = restTemplate.exchange(wikiBrowserProperties.getNeoCypherUrl(), HttpMethod.POST,
+          new HttpEntity<>(body, httpHeaders), GraphResponseFar.class).getBody();
+    }
+    catch (JsonProcessingException | RestClientException e) {
+      throw new GraphAccessException("Cypher HTTP request failed: " + e.getMessage(), e);
+    }
+
+    if (graphResponseFar == null) {
+      throw new GraphAccessException("Cypher HTTP request returned no body");
+    }
+    if (!graphResponseFar.getGraphErrorFarList().isEmpty()) {
+      GraphErrorFar graphErrorFar = graphResponseFar.getGraphErrorFarList().get(0);
+      throw new GraphAccessException(graphErrorFar.getCode() + ": " + graphErrorFar.getMessage());
+    }
+    return graphResponseFar;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.model.conceptmap.GraphFar;
+import com.javafxpert.wikibrowser.upstream.LatencyTracker;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A read statement whose text never changes, so that the server plans it once and then finds the plan in its
+ * cache whatever values it is run with.  Values are only ever passed as parameters.
+ */
+public class PreparedGraphStatement {
+
+  private static final Pattern PARAMETER = Pattern.compile("\\{(\\w+)\\}");
+
+  private final String name;
+
+  private final String statement;
+
+  private final Set<String> parameterNames;
+
+  private final GraphAccess graphAccess;
+
+  private final AtomicLong executions = new AtomicLong();
+
+  private final AtomicLong errors = new AtomicLong();
+
+  private final LatencyTracker latency = new LatencyTracker(200);
+
+  PreparedGraphStatement(String name, String statement, GraphAccess graphAccess) {
+    this.name = name;
+    this.statement = statement;
+    this.graphAccess = graphAccess;
+
+    Set<String> parameterNames = new TreeSet<>();
+    Matcher matcher = PARAMETER.matcher(statement);
+    while (matcher.find()) {
+      parameterNames.add(matcher.group(1));
+    }
+    this.parameterNames = Collections.unmodifiableSet(parameterNames);
+  }
+
+  /**
+   * Runs the statement with a value for each of its parameters
+   * @throws IllegalArgumentException if the parameters given aren't exactly those of the statement
+   * @throws GraphAccessException if the statement fails or the server can't be reached
+   */
+  public List<GraphFar> query(Map<String, Object> parameters) {
+    if (!parameterNames.equals(parameters.keySet())) {
+      throw new IllegalArgumentException("Statement " + name + " takes parameters " + parameterNames + ", not " +
+          parameters.keySet());
+    }
+
+    executions.incrementAndGet();
+    long start = System.currentTimeMillis();
+    try {
+      return graphAccess.queryGraph(statement, parameters);
+    }
+    catch (RuntimeException e) {
+      errors.incrementAndGet();
+      throw e;
+    }
+    finally {
+      latency.record(System.currentTimeMillis() - start);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getStatement() {
+    return statement;
+  }
+
+  public Set<String> getParameterNames() {
+    return parameterNames;
+  }
+
+  public long getExecutions() {
+    return executions.get();
+  }
+
+  public long getErrors() {
+    return errors.get();
+  }
+
+  public LatencyTracker getLatency() {
+    return latency;
+  }
+
+  @Override
+  public String toString() {
+    return "PreparedGraphStatement{" +
+        "name='" + name + '\'' +
+        ", statement='" + statement + '\'' +
+        '}';
+  }
+}
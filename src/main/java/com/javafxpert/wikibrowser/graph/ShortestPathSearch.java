@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.PropertyCatalog;
+import com.javafxpert.wikibrowser.upstream.LatencyTracker;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds all shortest paths between two items with a bidirectional breadth-first search of the graph index,
+ * following relationships in either direction.  Each step expands whichever side has the smaller frontier, and
+ * the search stops at the first layer where the two sides meet.  Which properties may be followed, which items
+ * a path may not pass through, the maximum path length, the number of paths returned and the time a search may
+ * take are all set under conceptmap.short-paths.
+ */
+@Component
+public class ShortestPathSearch implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final ConceptGraphIndex conceptGraphIndex;
+
+  private final WikiBrowserProperties.ShortPaths settings;
+
+  private final AtomicLong searches = new AtomicLong();
+  private final AtomicLong timeouts = new AtomicLong();
+  private final AtomicLong truncated = new AtomicLong();
+  private final LatencyTracker latency = new LatencyTracker(200);
+
+  @Autowired
+  public ShortestPathSearch(ConceptGraphIndex conceptGraphIndex, WikiBrowserProperties wikiBrowserProperties) {
+    this.conceptGraphIndex = conceptGraphIndex;
+    this.settings = wikiBrowserProperties.getShortPaths();
+  }
+
+  /**
+   * @return true if searches can be answered from the graph index
+   */
+  public boolean isAvailable() {
+    return settings.isUseIndex() && conceptGraphIndex.isEnabled() && conceptGraphIndex.isReady();
+  }
+
+  /**
+   * @return the shortest paths between the items, each as its relationships in order from the first item, in
+   * {start, end, property number} form; empty if there is no path within the maximum depth, or null if the search
+   * ran out of its time budget, and so can't tell whether there is one
+   */
+  public List<int[][]> find(String fromItemId, String toItemId) {
+    long start = System.currentTimeMillis();
+    searches.incrementAndGet();
+    try {
+      return conceptGraphIndex.read(() -> search(fromItemId, toItemId));
+    }
+    catch (SearchTimedOut e) {
+      timeouts.incrementAndGet();
+      log.info("Short paths from " + fromItemId + " to " + toItemId + " not found within " +
+          settings.getTimeBudget() + " ms, at depth " + e.depth);
+      return null;
+    }
+    finally {
+      latency.record(System.currentTimeMillis() - start);
+    }
+  }
+
+  private List<int[][]> search(String fromItemId, String toItemId) {
+    int from = conceptGraphIndex.nodeOf(fromItemId);
+    int to = conceptGraphIndex.nodeOf(toItemId);
+    Set<Integer> deniedNodes = new HashSet<>();
+    for (String itemId : settings.getDeniedItems()) {
+      deniedNodes.add(conceptGraphIndex.nodeOf(itemId));
+    }
+    if (from < 0 || to < 0 || from == to || deniedNodes.contains(from) || deniedNodes.contains(to)) {
+      return Collections.emptyList();
+    }
+
+    Set<Integer> allowedProps = propNumbers(settings.getAllowedProperties());
+    Set<Integer> deniedProps = propNumbers(settings.getDeniedProperties());
+    Deadline deadline = new Deadline(settings.getTimeBudget());
+
+    Side fromSide = new Side(from);
+    Side toSide = new Side(to);
+    while (fromSide.depth + toSide.depth < settings.getMaxDepth()) {
+      Side side = fromSide.frontier.size() <= toSide.frontier.size() ? fromSide : toSide;
+      Side other = side == fromSide ? toSide : fromSide;
+      if (side.frontier.isEmpty()) {
+        break;
+      }
+
+      List<Integer> next = new ArrayList<>();
+      int depth = side.depth + 1;
+      int searchedDepth = fromSide.depth + toSide.depth;
+      for (int node : side.frontier) {
+        // Checked along the edges as well, since a single item may have millions of them
+        deadline.check(searchedDepth);
+        conceptGraphIndex.forEachOutEdge(node, (target, propNum) -> {
+          deadline.tick(searchedDepth);
+          if (isFollowed(target, propNum, allowedProps, deniedProps, deniedNodes)) {
+            side.reach(target, new int[] {node, target, propNum}, depth, next);
+          }
+        });
+        conceptGraphIndex.forEachInEdge(node, (source, propNum) -> {
+          deadline.tick(searchedDepth);
+          if (isFollowed(source, propNum, allowedProps, deniedProps, deniedNodes)) {
+            side.reach(source, new int[] {source, node, propNum}, depth, next);
+          }
+        });
+      }
+      side.frontier = next;
+      side.depth = depth;
+
+      // Every meeting point is at the same distance from each end, as the sides hadn't met before this layer
+      List<Integer> meetings = new ArrayList<>();
+      for (int node : next) {
+        if (other.parents.containsKey(node)) {
+          meetings.add(node);
+        }
+      }
+      if (!meetings.isEmpty()) {
+        Collections.sort(meetings);
+        return joinPaths(fromSide, toSide, meetings);
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  private boolean isFollowed(int node, int propNum, Set<Integer> allowedProps, Set<Integer> deniedProps,
+                             Set<Integer> deniedNodes) {
+    return (allowedProps.isEmpty() || allowedProps.contains(propNum)) && !deniedProps.contains(propNum) &&
+        !deniedNodes.contains(node);
+  }
+
+  private List<int[][]> joinPaths(Side fromSide, Side toSide, List<Integer> meetings) {
+    int maxPaths = settings.getMaxPaths();
+    List<int[][]> paths = new ArrayList<>();
+    for (int meeting : meetings) {
+      for (List<int[]> head : fromSide.pathsTo(meeting, maxPaths - paths.size())) {
+        for (List<int[]> tail : toSide.pathsTo(meeting, maxPaths - paths.size())) {
+          if (paths.size() == maxPaths) {
+            truncated.incrementAndGet();
+            return paths;
+          }
+          List<int[]> path = new ArrayList<>(head);
+          for (int i = tail.size() - 1; i >= 0; i--) {
+            path.add(tail.get(i));
+          }
+          paths.add(path.toArray(new int[path.size()][]));
+        }
+      }
+    }
+    return paths;
+  }
+
+  private Set<Integer> propNumbers(List<String> propIds) {
+    Set<Integer> propNums = new HashSet<>();
+    for (String propId : propIds) {
+      propNums.add(PropertyCatalog.propNumber(propId.trim()));
+    }
+    return propNums;
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    metrics.add(new Metric<>("shortpaths.searches", searches.get()));
+    metrics.add(new Metric<>("shortpaths.timeouts", timeouts.get()));
+    metrics.add(new Metric<>("shortpaths.truncated", truncated.get()));
+    metrics.add(new Metric<>("shortpaths.latency.p50", latency.percentile(0.5)));
+    metrics.add(new Metric<>("shortpaths.latency.p95", latency.percentile(0.95)));
+    return metrics;
+  }
+
+  /**
+   * The time a search may take, which is only read from the clock every so many edges
+   */
+  private static class Deadline {
+    private static final int EDGES_PER_CHECK = 1024;
+
+    private final long deadline;
+    private int edges;
+
+    private Deadline(long timeBudget) {
+      deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget);
+    }
+
+    private void tick(int depth) {
+      if (++edges % EDGES_PER_CHECK == 0) {
+        check(depth);
+      }
+    }
+
+    private void check(int depth) {
+      if (System.nanoTime() > deadline) {
+        throw new SearchTimedOut(depth);
+      }
+    }
+  }
+
+  /**
+   * Abandons a search from inside the edge callbacks, which have no other way of stopping it
+   */
+  private static class SearchTimedOut extends RuntimeException {
+    private final int depth;
+
+    private SearchTimedOut(int depth) {
+      super(null, null, false, false);
+      this.depth = depth;
+    }
+  }
+
+  /**
+   * One end of the search: the items reached so far, each with the relationships it was first reached by
+   */
+  private static class Side {
+    private final Map<Integer, List<int[]>> parents = new HashMap<>();
+    private final Map<Integer, Integer> depths = new HashMap<>();
+    private List<Integer> frontier = new ArrayList<>();
+    private int depth;
+
+    private Side(int node) {
+      parents.put(node, Collections.emptyList());
+      depths.put(node, 0);
+      frontier.add(node);
+    }
+
+    private void reach(int node, int[] edge, int depth, List<Integer> next) {
+      Integer known = depths.get(node);
+      if (known == null) {
+        depths.put(node, depth);
+        parents.put(node, new ArrayList<>());
+        next.add(node);
+      }
+      else if (known != depth) {
+        return;
+      }
+      parents.get(node).add(edge);
+    }
+
+    /**
+     * @return up to the given number of paths from this side's end to the node, as relationships in order
+     */
+    private List<List<int[]>> pathsTo(int node, int limit) {
+      List<List<int[]>> paths = new ArrayList<>();
+      List<int[]> edges = parents.get(node);
+      if (edges.isEmpty()) {
+        paths.add(new ArrayList<>());
+        return paths;
+      }
+      for (int[] edge : edges) {
+        int previous = edge[0] == node ? edge[1] : edge[0];
+        for (List<int[]> path : pathsTo(previous, limit - paths.size())) {
+          path.add(edge);
+          paths.add(path);
+          if (paths.size() >= limit) {
+            return paths;
+          }
+        }
+      }
+      return paths;
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings, sized for an expected number of entries and false positive rate.
+ * A key that was put is always reported as possibly contained; a key that wasn't is reported as contained
+ * with roughly the configured probability.
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final AtomicLong insertions = new AtomicLong();
+
+  private BloomFilter(long bitCount, int hashCount) {
+    this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    this.bitCount = words.length() * 64L;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * @param expectedEntries the number of entries at which the false positive rate is reached
+   * @param falsePositiveRate e.g. 0.01
+   */
+  public static BloomFilter create(long expectedEntries, double falsePositiveRate) {
+    long n = Math.max(1, expectedEntries);
+    double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+    long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+    bits = Math.min(bits, Integer.MAX_VALUE * 64L);
+    int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+    return new BloomFilter(bits, hashes);
+  }
+
+  public boolean mightContain(String key) {
+    long hash = hash(key);
+    long h1 = mix(hash);
+    long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return true if the key was not already (possibly) contained
+   */
+  public boolean put(String key) {
+    long hash = hash(key);
+    long h1 = mix(hash);
+    long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    boolean changed = false;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      int index = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long word;
+      while (((word = words.get(index)) & mask) == 0) {
+        if (words.compareAndSet(index, word, word | mask)) {
+          changed = true;
+          break;
+        }
+      }
+    }
+    if (changed) {
+      insertions.incrementAndGet();
+    }
+    return changed;
+  }
+
+  /**
+   * @return the false positive rate expected at the current number of insertions
+   */
+  public double expectedFalsePositiveRate() {
+    return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitCount), hashCount);
+  }
+
+  public long getInsertions() {
+    return insertions.get();
+  }
+
+  public long getBitCount() {
+    return bitCount;
+  }
+
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  public void writeTo(DataOutputStream out) throws IOException {
+    out.writeLong(bitCount);
+    out.writeInt(hashCount);
+    out.writeLong(insertions.get());
+    for (int i = 0; i < words.length(); i++) {
+      out.writeLong(words.get(i));
+    }
+  }
+
+  /**
+   * Reads the contents of a filter written by writeTo into this one, if both have the same size
+   * @return false, without changing this filter, if the sizes differ
+   */
+  public boolean readFrom(DataInputStream in) throws IOException {
+    if (in.readLong() != bitCount || in.readInt() != hashCount) {
+      return false;
+    }
+    long count = in.readLong();
+    long[] loaded = new long[words.length()];
+    for (int i = 0; i < loaded.length; i++) {
+      loaded[i] = in.readLong();
+    }
+    for (int i = 0; i < loaded.length; i++) {
+      words.set(i, loaded[i]);
+    }
+    insertions.set(count);
+    return true;
+  }
+
+  // FNV-1a over the UTF-16 chars of the key
+  private static long hash(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.length(); i++) {
+      hash ^= key.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  // Finalizer from MurmurHash3, to spread FNV's weak low bits
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the items and relationships found while processing one response, so that they can be
+ * written to the graph together rather than one MERGE at a time.  Duplicates are collapsed.
+ */
+public class ConceptMapBatch {
+  private final Map<String, String> items = new LinkedHashMap<>();
+  private final Set<ItemRelationship> relationships = new LinkedHashSet<>();
+
+  /**
+   * Adds an item with its title, replacing any title given for it earlier
+   */
+  public void addItem(String itemId, String itemTitle) {
+    if (itemTitle != null || !items.containsKey(itemId)) {
+      items.put(itemId, itemTitle);
+    }
+  }
+
+  /**
+   * Adds an item ID without a title (before it is known), leaving any title already written for it in place
+   */
+  public void addItem(String itemId) {
+    items.putIfAbsent(itemId, null);
+  }
+
+  public void addRelationship(String itemIdA, String itemIdB, String propId, String propLabel) {
+    relationships.add(new ItemRelationship(itemIdA, itemIdB, propId, propLabel));
+  }
+
+  /**
+   * @return item titles by item ID, where the title is null if it isn't known
+   */
+  public Map<String, String> getItems() {
+    return items;
+  }
+
+  public Collection<ItemRelationship> getRelationships() {
+    return relationships;
+  }
+
+  /**
+   * Adds everything in another batch to this one, so that entries they have in common are written once
+   */
+  public void merge(ConceptMapBatch other) {
+    other.items.forEach(this::addItem);
+    relationships.addAll(other.relationships);
+  }
+
+  /**
+   * @return the number of items plus the number of relationships
+   */
+  public int size() {
+    return items.size() + relationships.size();
+  }
+
+  public boolean isEmpty() {
+    return items.isEmpty() && relationships.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "ConceptMapBatch{" +
+        "items=" + items.size() +
+        ", relationships=" + relationships.size() +
+        '}';
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+
+/**
+ * An error reported by the Neo4j transactional Cypher endpoint
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GraphErrorFar implements Serializable {
+  @JsonProperty("code")
+  private String code;
+
+  @JsonProperty("message")
+  private String message;
+
+  public GraphErrorFar() {
+  }
+
+  public GraphErrorFar(String code, String message) {
+    this.code = code;
+    this.message = message;
+  }
+
+  public String getCode() {
+    return code;
+  }
+
+  public void setCode(String code) {
+    this.code = code;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  public String toString() {
+    return "GraphErrorFar{" +
+        "code='" + code + '\'' +
+        ", message='" + message + '\'' +
+        '}';
+  }
+}
@@ -30,6 +30,9 @@ public class GraphResponseFar implements Serializable {
   @JsonProperty("results")
   private List<ResultFar> resultFarList = new ArrayList<>();
 
+  @JsonProperty("errors")
+  private List<GraphErrorFar> graphErrorFarList = new ArrayList<>();
+
   public GraphResponseFar() {
   }
 
@@ -45,10 +48,19 @@ public class GraphResponseFar implements Serializable {
     this.resultFarList = resultFarList;
   }
 
+  public List<GraphErrorFar> getGraphErrorFarList() {
+    return graphErrorFarList;
+  }
+
+  public void setGraphErrorFarList(List<GraphErrorFar> graphErrorFarList) {
+    this.graphErrorFarList = graphErrorFarList;
+  }
+
   @Override
   public String toString() {
     return "GraphResponseFar{" +
         "resultFarList=" + resultFarList +
+        ", graphErrorFarList=" + graphErrorFarList +
         '}';
   }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers which items and relationships have already been written to the graph, so that writing them again
+ * can be skipped.  Entries are added only after a write has committed.  Membership is kept in Bloom filters,
+ * so a small fraction of writes that were never made are skipped as well; the expected rate is published as a
+ * metric.  The filters can be snapshotted to a file periodically and on shutdown, and are reloaded from it at
+ * startup.  Delete the snapshot when the graph is cleared, or the writes it remembers will be skipped.
+ */
+@Component
+public class GraphWriteFilter implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private static final int MAGIC = 0x57424746; // "WBGF"
+  private static final int VERSION = 1;
+
+  private final WikiBrowserProperties.GraphFilter settings;
+
+  private final BloomFilter items;
+  private final BloomFilter relationships;
+
+  private final AtomicLong itemHits = new AtomicLong();
+  private final AtomicLong itemMisses = new AtomicLong();
+  private final AtomicLong relationshipHits = new AtomicLong();
+  private final AtomicLong relationshipMisses = new AtomicLong();
+  private final AtomicLong snapshots = new AtomicLong();
+
+  private ScheduledExecutorService snapshotExecutor;
+
+  @Autowired
+  public GraphWriteFilter(WikiBrowserProperties wikiBrowserProperties) {
+    this.settings = wikiBrowserProperties.getGraphFilter();
+    if (settings.isEnabled()) {
+      items = BloomFilter.create(settings.getExpectedItems(), settings.getFalsePositiveRate());
+      relationships = BloomFilter.create(settings.getExpectedRelationships(), settings.getFalsePositiveRate());
+    }
+    else {
+      items = null;
+      relationships = null;
+    }
+  }
+
+  @PostConstruct
+  public void init() {
+    if (!isEnabled()) {
+      return;
+    }
+    log.info("Graph write filter using " + (items.getBitCount() + relationships.getBitCount()) / 8 / 1024 +
+        " KB for " + settings.getExpectedItems() + " items and " + settings.getExpectedRelationships() +
+        " relationships");
+
+    if (!settings.getSnapshotFile().isEmpty()) {
+      loadSnapshot();
+      if (settings.getSnapshotInterval() > 0) {
+        snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+          Thread thread = new Thread(runnable, "graph-filter-snapshot");
+          thread.setDaemon(true);
+          return thread;
+        });
+        snapshotExecutor.scheduleWithFixedDelay(this::saveSnapshot, settings.getSnapshotInterval(),
+            settings.getSnapshotInterval(), TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  public boolean isEnabled() {
+    return items != null;
+  }
+
+  /**
+   * @return a batch with the entries of the given batch that aren't known to have been written, along with the
+   * items of the given batch at either end of those relationships.  The relationship statements only MATCH
+   * their items, so an item taken for written by mistake would otherwise take its relationships with it.
+   */
+  public ConceptMapBatch unwritten(ConceptMapBatch batch) {
+    if (!isEnabled()) {
+      return batch;
+    }
+
+    ConceptMapBatch unwritten = new ConceptMapBatch();
+    batch.getItems().forEach((itemId, title) -> {
+      if (!isItemWritten(itemId, title)) {
+        unwritten.addItem(itemId, title);
+      }
+    });
+    for (ItemRelationship rel : batch.getRelationships()) {
+      if (!isRelationshipWritten(rel.getItemIdA(), rel.getItemIdB(), rel.getPropId())) {
+        unwritten.addRelationship(rel.getItemIdA(), rel.getItemIdB(), rel.getPropId(), rel.getPropLabel());
+        for (String itemId : new String[] {rel.getItemIdA(), rel.getItemIdB()}) {
+          if (batch.getItems().containsKey(itemId)) {
+            unwritten.addItem(itemId, batch.getItems().get(itemId));
+          }
+        }
+      }
+    }
+    return unwritten;
+  }
+
+  /**
+   * Records that the entries in the batch have been written.  A relationship whose end items weren't both in
+   * the batch is left out, as its statement wrote nothing if either of them wasn't already in the graph.
+   */
+  public void markWritten(ConceptMapBatch batch) {
+    if (!isEnabled()) {
+      return;
+    }
+    batch.getItems().forEach(this::markItemWritten);
+    for (ItemRelationship rel : batch.getRelationships()) {
+      if (batch.getItems().containsKey(rel.getItemIdA()) && batch.getItems().containsKey(rel.getItemIdB())) {
+        markRelationshipWritten(rel.getItemIdA(), rel.getItemIdB(), rel.getPropId());
+      }
+    }
+  }
+
+  /**
+   * @param itemTitle null if only the item's existence matters
+   */
+  public boolean isItemWritten(String itemId, String itemTitle) {
+    if (!isEnabled()) {
+      return false;
+    }
+    boolean written = items.mightContain(itemKey(itemId, itemTitle));
+    (written ? itemHits : itemMisses).incrementAndGet();
+    return written;
+  }
+
+  public void markItemWritten(String itemId, String itemTitle) {
+    if (!isEnabled()) {
+      return;
+    }
+    items.put(itemKey(itemId, null));
+    if (itemTitle != null) {
+      items.put(itemKey(itemId, itemTitle));
+    }
+  }
+
+  public boolean isRelationshipWritten(String itemIdA, String itemIdB, String propId) {
+    if (!isEnabled()) {
+      return false;
+    }
+    boolean written = relationships.mightContain(relationshipKey(itemIdA, itemIdB, propId));
+    (written ? relationshipHits : relationshipMisses).incrementAndGet();
+    return written;
+  }
+
+  public void markRelationshipWritten(String itemIdA, String itemIdB, String propId) {
+    if (isEnabled()) {
+      relationships.put(relationshipKey(itemIdA, itemIdB, propId));
+    }
+  }
+
+  private String itemKey(String itemId, String itemTitle) {
+    return itemTitle == null ? itemId : itemId + '\t' + itemTitle;
+  }
+
+  private String relationshipKey(String itemIdA, String itemIdB, String propId) {
+    return itemIdA + '\t' + propId + '\t' + itemIdB;
+  }
+
+  private void loadSnapshot() {
+    Path file = Paths.get(settings.getSnapshotFile());
+    if (!Files.exists(file)) {
+      return;
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+        throw new IOException("Unrecognized graph filter snapshot format");
+      }
+      if (items.readFrom(in) && relationships.readFrom(in)) {
+        log.info("Loaded graph write filter snapshot " + file + " with " + items.getInsertions() + " items and " +
+            relationships.getInsertions() + " relationships");
+      }
+      else {
+        log.info("Ignoring graph write filter snapshot " + file + ", as it was written with different sizes");
+      }
+    }
+    catch (IOException e) {
+      log.info("Caught exception when loading graph write filter snapshot " + file + " " + e);
+    }
+  }
+
+  public void saveSnapshot() {
+    if (!isEnabled() || settings.getSnapshotFile().isEmpty()) {
+      return;
+    }
+
+    Path file = Paths.get(settings.getSnapshotFile()).toAbsolutePath();
+    try {
+      Files.createDirectories(file.getParent());
+      Path tempFile = Files.createTempFile(file.getParent(), "graph-filter", ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        items.writeTo(out);
+        relationships.writeTo(out);
+      }
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      snapshots.incrementAndGet();
+    }
+    catch (IOException e) {
+      log.info("Caught exception when saving graph write filter snapshot " + file + " " + e);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    if (snapshotExecutor != null) {
+      snapshotExecutor.shutdownNow();
+    }
+    saveSnapshot();
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    if (!isEnabled()) {
+      return metrics;
+    }
+    metrics.add(new Metric<>("graphfilter.items.hits", itemHits.get()));
+    metrics.add(new Metric<>("graphfilter.items.misses", itemMisses.get()));
+    metrics.add(new Metric<>("graphfilter.items.entries", items.getInsertions()));
+    metrics.add(new Metric<>("graphfilter.items.fpp", items.expectedFalsePositiveRate()));
+    metrics.add(new Metric<>("graphfilter.relationships.hits", relationshipHits.get()));
+    metrics.add(new Metric<>("graphfilter.relationships.misses", relationshipMisses.get()));
+    metrics.add(new Metric<>("graphfilter.relationships.entries", relationships.getInsertions()));
+    metrics.add(new Metric<>("graphfilter.relationships.fpp", relationships.expectedFalsePositiveRate()));
+    metrics.add(new Metric<>("graphfilter.snapshots", snapshots.get()));
+    return metrics;
+  }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.upstream.LatencyTracker;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Takes graph writes off the request path.  Callers submit a ConceptMapBatch and return immediately;
+ * background workers take whatever batches are waiting, merge them so that shared items and relationships
+ * are written once, and write the result with ItemService, retrying failed writes with a backoff.
+ * When the queue is full a batch is blocked on, dropped or spilled to disk according to
+ * conceptmap.graph-write.overflow.  Spilled batches are replayed once the queue is idle, though not straight
+ * after a write has failed every attempt, and on shutdown
+ * the queue is drained before the application context closes.
+ */
+@Component
+public class GraphWriteQueue implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private static final int MAGIC = 0x57424757; // "WBGW"
+  private static final int VERSION = 1;
+  private static final String SUFFIX = ".batch.gz";
+  private static final long IDLE_POLL = 1000;
+
+  private final ItemService itemService;
+
+  private final GraphWriteFilter graphWriteFilter;
+
+  private final WikiBrowserProperties.GraphWrite settings;
+
+  private final BlockingQueue<ConceptMapBatch> queue;
+
+  private final List<Thread> workers = new ArrayList<>();
+
+  private final TreeSet<Path> spillFiles = new TreeSet<>();
+
+  private final LatencyTracker flushLatency = new LatencyTracker(200);
+
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+  private final AtomicLong flushes = new AtomicLong();
+  private final AtomicLong flushedEntries = new AtomicLong();
+  private final AtomicLong retries = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong spilled = new AtomicLong();
+  private final AtomicLong replayed = new AtomicLong();
+
+  private final AtomicLong spillSequence = new AtomicLong();
+
+  private Path spillDirectory;
+
+  private volatile boolean running;
+
+  // After a flush gives up, spilled batches aren't replayed until this time, or until a write succeeds, so
+  // that an outage doesn't turn into a loop of replaying and spilling them again
+  private volatile long replayPausedUntil;
+
+  @Autowired
+  public GraphWriteQueue(ItemService itemService, GraphWriteFilter graphWriteFilter,
+                         WikiBrowserProperties wikiBrowserProperties) {
+    this.itemService = itemService;
+    this.graphWriteFilter = graphWriteFilter;
+    this.settings = wikiBrowserProperties.getGraphWrite();
+    this.queue = new LinkedBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+  }
+
+  @PostConstruct
+  public void init() {
+    if (!settings.isWriteBehind()) {
+      return;
+    }
+
+    if (settings.getOverflow() == WikiBrowserProperties.GraphWrite.Overflow.SPILL) {
+      openSpillDirectory();
+    }
+
+    running = true;
+    for (int i = 1; i <= Math.max(1, settings.getWorkers()); i++) {
+      Thread worker = new Thread(this::work, "graph-write-" + i);
+      worker.setDaemon(true);
+      worker.start();
+      workers.add(worker);
+    }
+    log.info("Graph write-behind queue started with " + workers.size() + " workers, capacity " +
+        settings.getQueueCapacity() + ", overflow " + settings.getOverflow());
+  }
+
+  private void openSpillDirectory() {
+    try {
+      spillDirectory = Files.createDirectories(Paths.get(settings.getSpillDirectory()));
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory, "*" + SUFFIX)) {
+        for (Path file : files) {
+          spillFiles.add(file);
+        }
+      }
+      if (!spillFiles.isEmpty()) {
+        log.info("Graph write spill directory " + spillDirectory + " has " + spillFiles.size() +
+            " batches to replay");
+      }
+    }
+    catch (IOException e) {
+      e.printStackTrace();
+      log.info("Caught exception when opening graph write spill directory, dropping on overflow instead " + e);
+      spillDirectory = null;
+    }
+  }
+
+  /**
+   * Queues the entries in the batch that aren't already in the graph to be written, or writes them now if
+   * write-behind is disabled
+   */
+  public void submit(ConceptMapBatch batch) {
+    if (batch == null) {
+      return;
+    }
+
+    // Nothing needs to be queued for entries that are already in the graph
+    batch = graphWriteFilter.unwritten(batch);
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    if (!running) {
+      writeNow(batch);
+      return;
+    }
+
+    submitted.incrementAndGet();
+    if (queue.offer(batch)) {
+      return;
+    }
+
+    switch (settings.getOverflow()) {
+      case BLOCK:
+        try {
+          if (queue.offer(batch, settings.getOfferTimeout(), TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        drop(batch);
+        break;
+      case SPILL:
+        spill(batch);
+        break;
+      default:
+        drop(batch);
+    }
+  }
+
+  private void writeNow(ConceptMapBatch batch) {
+    try {
+      write(batch);
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+      log.info("Caught exception when writing " + batch + " to the graph: " + e);
+    }
+  }
+
+  private void work() {
+    while (running || !queue.isEmpty()) {
+      try {
+        ConceptMapBatch first = queue.poll(isReplayDue() ? 0 : IDLE_POLL, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          if (isReplayDue()) {
+            replaySpilled();
+          }
+          continue;
+        }
+
+        List<ConceptMapBatch> waiting = new ArrayList<>();
+        waiting.add(first);
+        queue.drainTo(waiting, Math.max(0, settings.getMaxBatchesPerFlush() - 1));
+
+        ConceptMapBatch merged = new ConceptMapBatch();
+        int entries = 0;
+        for (ConceptMapBatch batch : waiting) {
+          merged.merge(batch);
+          entries += batch.size();
+        }
+        coalesced.addAndGet(entries - merged.size());
+
+        flush(merged);
+      }
+      catch (InterruptedException e) {
+        if (!running) {
+          break;
+        }
+      }
+      catch (Exception e) {
+        e.printStackTrace();
+        log.info("Caught exception in graph write worker " + e);
+      }
+    }
+  }
+
+  /**
+   * Writes the batch, retrying with a growing backoff, and spills or drops it if every attempt fails.  Giving up
+   * also pauses replaying spilled batches for the length of the retry backoff times the number of attempts.
+   */
+  private void flush(ConceptMapBatch batch) throws InterruptedException {
+    int maxAttempts = Math.max(1, settings.getMaxAttempts());
+    for (int attempt = 1; ; attempt++) {
+      try {
+        write(batch);
+        replayPausedUntil = 0;
+        return;
+      }
+      catch (RuntimeException e) {
+        failures.incrementAndGet();
+        if (attempt >= maxAttempts) {
+          log.info("Caught exception when writing " + batch + " to the graph, giving up after " + attempt +
+              " attempts: " + e);
+          replayPausedUntil = System.currentTimeMillis() + settings.getRetryBackoff() * maxAttempts;
+          if (spillDirectory != null) {
+            spill(batch);
+          }
+          else {
+            drop(batch);
+          }
+          return;
+        }
+        log.info("Caught exception when writing " + batch + " to the graph, retrying: " + e);
+        retries.incrementAndGet();
+        try {
+          Thread.sleep(settings.getRetryBackoff() * attempt);
+        }
+        catch (InterruptedException ie) {
+          spill(batch);
+          throw ie;
+        }
+      }
+    }
+  }
+
+  private void write(ConceptMapBatch batch) {
+    long start = System.currentTimeMillis();
+    itemService.write(batch);
+    flushLatency.record(System.currentTimeMillis() - start);
+    flushes.incrementAndGet();
+    flushedEntries.addAndGet(batch.size());
+  }
+
+  private void drop(ConceptMapBatch batch) {
+    dropped.incrementAndGet();
+    log.info("Dropped " + batch + " as the graph write queue is full");
+  }
+
+  private void spill(ConceptMapBatch batch) {
+    if (spillDirectory == null) {
+      drop(batch);
+      return;
+    }
+
+    Path file = spillDirectory.resolve(String.format("%016d-%08d%s", System.currentTimeMillis(),
+        spillSequence.incrementAndGet(), SUFFIX));
+    try {
+      Path tempFile = Files.createTempFile(spillDirectory, "batch", ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+        writeBatch(out, batch);
+      }
+      Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+      synchronized (spillFiles) {
+        spillFiles.add(file);
+      }
+      spilled.incrementAndGet();
+    }
+    catch (IOException e) {
+      log.info("Caught exception when spilling " + batch + " to " + file + " " + e);
+      drop(batch);
+    }
+  }
+
+  private boolean hasSpilled() {
+    synchronized (spillFiles) {
+      return !spillFiles.isEmpty();
+    }
+  }
+
+  private boolean isReplayDue() {
+    return hasSpilled() && System.currentTimeMillis() >= replayPausedUntil;
+  }
+
+  /**
+   * Writes the oldest spilled batches, merged into one, when nothing is waiting in the queue.  Their files are
+   * deleted only once the merged batch has been written, or spilled again under a new name, so that batches
+   * are never lost to a crash in between; replaying one twice merges it again, which changes nothing.
+   */
+  private void replaySpilled() throws InterruptedException {
+    ConceptMapBatch merged = new ConceptMapBatch();
+    List<Path> replayedFiles = new ArrayList<>();
+    while (replayedFiles.size() < Math.max(1, settings.getMaxBatchesPerFlush())) {
+      Path file;
+      synchronized (spillFiles) {
+        file = spillFiles.pollFirst();
+      }
+      if (file == null) {
+        break;
+      }
+
+      try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+          new GZIPInputStream(Files.newInputStream(file))))) {
+        merged.merge(readBatch(in));
+        replayedFiles.add(file);
+      }
+      catch (IOException e) {
+        log.info("Caught exception when reading spilled graph writes from " + file + ", discarding them " + e);
+        deleteSpillFile(file);
+      }
+    }
+
+    try {
+      if (!merged.isEmpty()) {
+        replayed.addAndGet(replayedFiles.size());
+        flush(merged);
+      }
+    }
+    finally {
+      for (Path file : replayedFiles) {
+        deleteSpillFile(file);
+      }
+    }
+  }
+
+  private void deleteSpillFile(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    }
+    catch (IOException e) {
+      log.info("Caught exception when deleting spilled graph writes " + file + " " + e);
+    }
+  }
+
+  private void writeBatch(DataOutputStream out, ConceptMapBatch batch) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+    out.writeInt(batch.getItems().size());
+    for (Map.Entry<String, String> item : batch.getItems().entrySet()) {
+      out.writeUTF(item.getKey());
+      writeNullable(out, item.getValue());
+    }
+    out.writeInt(batch.getRelationships().size());
+    for (ItemRelationship rel : batch.getRelationships()) {
+      out.writeUTF(rel.getItemIdA());
+      out.writeUTF(rel.getItemIdB());
+      out.writeUTF(rel.getPropId());
+      writeNullable(out, rel.getPropLabel());
+    }
+  }
+
+  private ConceptMapBatch readBatch(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+      throw new IOException("Unrecognized spill file format");
+    }
+    ConceptMapBatch batch = new ConceptMapBatch();
+    int itemCount = in.readInt();
+    for (int i = 0; i < itemCount; i++) {
+      batch.addItem(in.readUTF(), readNullable(in));
+    }
+    int relCount = in.readInt();
+    for (int i = 0; i < relCount; i++) {
+      batch.addRelationship(in.readUTF(), in.readUTF(), in.readUTF(), readNullable(in));
+    }
+    return batch;
+  }
+
+  private void writeNullable(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private String readNullable(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  /**
+   * Stops taking new batches onto the queue, and waits up to the drain timeout for the workers to write
+   * what is already there.  Anything left is spilled, if spilling is enabled, for the next start to replay.
+   */
+  @PreDestroy
+  public void close() {
+    if (!running) {
+      return;
+    }
+    running = false;
+
+    long deadline = System.currentTimeMillis() + settings.getDrainTimeout();
+    for (Thread worker : workers) {
+      try {
+        worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    workers.forEach(Thread::interrupt);
+
+    List<ConceptMapBatch> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    remaining.forEach(this::spill);
+    log.info("Graph write-behind queue stopped, " + remaining.size() + " batches left unwritten");
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    metrics.add(new Metric<>("graphwrite.queue.depth", queue.size()));
+    metrics.add(new Metric<>("graphwrite.queue.remaining", queue.remainingCapacity()));
+    metrics.add(new Metric<>("graphwrite.submitted", submitted.get()));
+    metrics.add(new Metric<>("graphwrite.coalesced", coalesced.get()));
+    metrics.add(new Metric<>("graphwrite.flushes", flushes.get()));
+    metrics.add(new Metric<>("graphwrite.flushed.entries", flushedEntries.get()));
+    metrics.add(new Metric<>("graphwrite.flush.latency.p50", flushLatency.percentile(0.5)));
+    metrics.add(new Metric<>("graphwrite.flush.latency.p95", flushLatency.percentile(0.95)));
+    metrics.add(new Metric<>("graphwrite.retries", retries.get()));
+    metrics.add(new Metric<>("graphwrite.failures", failures.get()));
+    metrics.add(new Metric<>("graphwrite.dropped", dropped.get()));
+    metrics.add(new Metric<>("graphwrite.spilled", spilled.get()));
+    metrics.add(new Metric<>("graphwrite.replayed", replayed.get()));
+    synchronized (spillFiles) {
+      metrics.add(new Metric<>("graphwrite.spill.files", spillFiles.size()));
+    }
+    return metrics;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import java.util.Objects;
+
+/**
+ * A relationship from one item to another by way of a Wikidata property, to be written to the graph
+ */
+public class ItemRelationship {
+  private final String itemIdA;
+  private final String itemIdB;
+  private final String propId;
+  private final String propLabel;
+
+  public ItemRelationship(String itemIdA, String itemIdB, String propId, String propLabel) {
+    this.itemIdA = itemIdA;
+    this.itemIdB = itemIdB;
+    this.propId = propId;
+    this.propLabel = propLabel;
+  }
+
+  public String getItemIdA() {
+    return itemIdA;
+  }
+
+  public String getItemIdB() {
+    return itemIdB;
+  }
+
+  public String getPropId() {
+    return propId;
+  }
+
+  public String getPropLabel() {
+    return propLabel;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ItemRelationship that = (ItemRelationship) o;
+    return itemIdA.equals(that.itemIdA) && itemIdB.equals(that.itemIdB) && propId.equals(that.propId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(itemIdA, itemIdB, propId);
+  }
+
+  @Override
+  public String toString() {
+    return "ItemRelationship{" +
+        "itemIdA='" + itemIdA + '\'' +
+        ", itemIdB='" + itemIdB + '\'' +
+        ", propId='" + propId + '\'' +
+        ", propLabel='" + propLabel + '\'' +
+        '}';
+  }
+}
@@ -19,4 +19,36 @@ package com.javafxpert.wikibrowser.model.conceptmap;
  * Created by jamesweaver on 12/28/15.
  */
 public interface ItemService {
+
+  /**
+   * Writes the items and relationships in the batch to the graph in one transaction, using a few
+   * UNWIND statements rather than one MERGE per item and relationship
+   * @param batch
+   */
+  void write(ConceptMapBatch batch);
+
+  /**
+   * Writes the batch like write does, but without recording its entries in the graph write filter, for bulk
+   * loads with far more entries than the filter is sized for.  The statements are MERGEs, so entries already
+   * in the graph are left as they are.
+   * @param batch
+   */
+  void load(ConceptMapBatch batch);
+
+  /**
+   * Adds one item to the repository, unless it is known to have been written with the same title already
+   * @param itemId
+   * @param itemTitle
+   */
+  void addItem(String itemId, String itemTitle);
+
+  /**
+   * Adds one relationship to the repository, with the relationship type for its property, or a generic
+   * type if the property doesn't have one, unless it is known to have been written already
+   * @param itemIdA
+   * @param itemIdB
+   * @param propId
+   * @param propLabel
+   */
+  void addRelationship(String itemIdA, String itemIdB, String propId, String propLabel);
 }
@@ -15,33 +15,212 @@
  */
 package com.javafxpert.wikibrowser.model.conceptmap;
 
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.graph.ConceptGraphIndex;
+import com.javafxpert.wikibrowser.graph.GraphAccess;
+import com.javafxpert.wikibrowser.graph.GraphStatement;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
 /**
  * Created by jamesweaver on 12/28/15.
  */
 @Service
 public class ItemServiceImpl implements ItemService {
-  private ItemRepository itemRepository;
+  private Log log = LogFactory.getLog(getClass());
+
+  // Adds an item, or sets the title of one already in the graph
+  private static final String MERGE_ITEM = "MERGE (a:Item {itemId:{itemId}}) SET a.title = {itemTitle}";
+
+  // Same semantics as MERGE_ITEM, except that an unknown (null) title leaves the existing one alone
+  private static final String MERGE_ITEMS =
+      "UNWIND {rows} AS row MERGE (a:Item {itemId: row.itemId}) SET a.title = coalesce(row.title, a.title)";
+
+  // Same semantics as PropertyCatalog.getStatement, for every relationship of one type
+  private static final String MERGE_RELATIONSHIPS =
+      "UNWIND {rows} AS row MATCH (a:Item {itemId: row.itemIdA}), (b:Item {itemId: row.itemIdB}) " +
+      "MERGE (a)-[:%s {propId: row.propId, label: row.propLabel}]->(b)";
+
+  // Items merged as relationship targets that never got a title.  There is no index on title, so they are
+  // looked for a range of node ids at a time, as the graph index loads them.
+  private static final String UNTITLED_ITEMS =
+      "MATCH (a:Item) WHERE id(a) IN range({from}, {to}) AND a.title IS NULL RETURN a";
+
+  private static final String DELETE_UNTITLED_ITEMS =
+      "MATCH (a:Item) WHERE a.itemId IN {itemIds} AND a.title IS NULL OPTIONAL MATCH (a)-[r]-() DELETE r, a";
+
+  private static final String LAST_ITEM = "MATCH (a:Item) WITH a ORDER BY id(a) DESC LIMIT 1 RETURN a";
+
+  // Makes concurrent MERGEs of the same item safe, and the itemId lookups of every statement above indexed
+  private static final String ITEM_CONSTRAINT = "CREATE CONSTRAINT ON (a:Item) ASSERT a.itemId IS UNIQUE";
+
+  private final GraphAccess graphAccess;
+
+  private final PropertyCatalog propertyCatalog;
+
+  private final GraphWriteFilter graphWriteFilter;
+
+  private final ConceptGraphIndex conceptGraphIndex;
+
+  private final int batchSize;
 
   @Autowired
-  public ItemServiceImpl(ItemRepository itemRepository) {
-    this.itemRepository = itemRepository;
+  public ItemServiceImpl(GraphAccess graphAccess, PropertyCatalog propertyCatalog, GraphWriteFilter graphWriteFilter,
+                         ConceptGraphIndex conceptGraphIndex, WikiBrowserProperties wikiBrowserProperties) {
+    this.graphAccess = graphAccess;
+    this.propertyCatalog = propertyCatalog;
+    this.graphWriteFilter = graphWriteFilter;
+    this.conceptGraphIndex = conceptGraphIndex;
+    this.batchSize = Math.max(1, wikiBrowserProperties.getGraphWrite().getBatchSize());
   };
 
-  public ItemRepository getItemRepository() {
-    return itemRepository;
+  @Override
+  public void write(ConceptMapBatch batch) {
+    write(batch, true);
+  }
+
+  @Override
+  public void load(ConceptMapBatch batch) {
+    write(batch, false);
+  }
+
+  private void write(ConceptMapBatch batch, boolean remember) {
+    if (batch == null || batch.isEmpty()) {
+      return;
+    }
+
+    List<Map<String, Object>> itemRows = new ArrayList<>(batch.getItems().size());
+    batch.getItems().forEach((itemId, title) -> {
+      Map<String, Object> row = new HashMap<>();
+      row.put("itemId", itemId);
+      row.put("title", title);
+      itemRows.add(row);
+    });
+
+    // Relationship types can't be parameters, so there is one statement per type
+    Map<String, List<Map<String, Object>>> relRowsByType = new LinkedHashMap<>();
+    for (ItemRelationship rel : batch.getRelationships()) {
+      Map<String, Object> row = new HashMap<>();
+      row.put("itemIdA", rel.getItemIdA());
+      row.put("itemIdB", rel.getItemIdB());
+      row.put("propId", rel.getPropId());
+
+      //TODO: Ascertain whether blank propLabel is OK, as it would avoid dups
+      row.put("propLabel", rel.getPropId().toLowerCase());
+      relRowsByType.computeIfAbsent(propertyCatalog.getType(rel.getPropId()), type -> new ArrayList<>()).add(row);
+    }
+
+    // Items first, as the relationship statements only MATCH their end nodes
+    List<GraphStatement> statements = new ArrayList<>();
+    addInChunks(statements, MERGE_ITEMS, itemRows);
+    for (Map.Entry<String, List<Map<String, Object>>> entry : relRowsByType.entrySet()) {
+      addInChunks(statements, String.format(MERGE_RELATIONSHIPS, entry.getKey()), entry.getValue());
+    }
+
+    graphAccess.write(statements);
+    if (remember) {
+      graphWriteFilter.markWritten(batch);
+    }
+    conceptGraphIndex.add(batch);
+  }
+
+  @Override
+  public void addItem(String itemId, String itemTitle) {
+    if (graphWriteFilter.isItemWritten(itemId, itemTitle)) {
+      return;
+    }
+    Map<String, Object> params = new HashMap<>();
+    params.put("itemId", itemId);
+    params.put("itemTitle", itemTitle);
+    graphAccess.write(MERGE_ITEM, params);
+    graphWriteFilter.markItemWritten(itemId, itemTitle);
+    conceptGraphIndex.addItem(itemId, itemTitle);
+  }
+
+  @Override
+  public void addRelationship(String itemIdA, String itemIdB, String propId, String propLabel) {
+    if (graphWriteFilter.isRelationshipWritten(itemIdA, itemIdB, propId)) {
+      return;
+    }
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("itemIdA", itemIdA);
+    params.put("itemIdB", itemIdB);
+    params.put("propId", propId);
+
+    //TODO: Ascertain whether blank propLabel is OK, as it would avoid dups
+    params.put("propLabel", propId.toLowerCase());
+    graphAccess.write(propertyCatalog.getStatement(propId), params);
+    graphWriteFilter.markRelationshipWritten(itemIdA, itemIdB, propId);
+    conceptGraphIndex.addRelationship(itemIdA, itemIdB, propId);
+  }
+
+  /**
+   * Ensures that there is one :Item node per itemId however many writers merge it at once.  Creating the
+   * constraint again once it exists does nothing.
+   */
+  public void createItemConstraint() {
+    graphAccess.write(ITEM_CONSTRAINT, Collections.emptyMap());
+  }
+
+  /**
+   * Deletes the items without a title, and their relationships, from the graph and the graph index.  A full
+   * dump load leaves one for every statement target without a label in the load's language, which an item by
+   * item load would never have linked to.
+   *
+   * @param cancelled checked between pages, to stop early
+   * @return the number of items deleted
+   */
+  public long removeUntitledItems(int pageSize, BooleanSupplier cancelled) {
+    List<GraphFar> last = graphAccess.queryGraph(LAST_ITEM, Collections.emptyMap());
+    if (last.isEmpty() || last.get(0).getGraphNodeFarList().isEmpty()) {
+      return 0;
+    }
+    long lastId = Long.parseLong(last.get(0).getGraphNodeFarList().get(0).getId());
+    pageSize = Math.max(1, pageSize);
+
+    long removed = 0;
+    for (long from = 0; from <= lastId && !cancelled.getAsBoolean(); from += pageSize) {
+      Map<String, Object> params = new HashMap<>();
+      params.put("from", from);
+      params.put("to", Math.min(from + pageSize - 1, lastId));
+      List<String> itemIds = new ArrayList<>();
+      for (GraphFar row : graphAccess.queryGraph(UNTITLED_ITEMS, params)) {
+        for (GraphNodeFar graphNodeFar : row.getGraphNodeFarList()) {
+          itemIds.add(graphNodeFar.getGraphNodePropsFar().getItemId());
+        }
+      }
+      if (!itemIds.isEmpty()) {
+        graphAccess.write(DELETE_UNTITLED_ITEMS, Collections.singletonMap("itemIds", itemIds));
+        conceptGraphIndex.removeItems(itemIds);
+        removed += itemIds.size();
+      }
+    }
+    log.info("Removed " + removed + " items without a title");
+    return removed;
   }
 
-  public void setItemRepository(ItemRepository itemRepository) {
-    this.itemRepository = itemRepository;
+  private void addInChunks(List<GraphStatement> statements, String statement, List<Map<String, Object>> rows) {
+    for (int from = 0; from < rows.size(); from += batchSize) {
+      List<Map<String, Object>> chunk = new ArrayList<>(rows.subList(from, Math.min(from + batchSize, rows.size())));
+      statements.add(new GraphStatement(statement, Collections.singletonMap("rows", chunk)));
+    }
   }
 
   @Override
   public String toString() {
     return "ItemServiceImpl{" +
-        "itemRepository=" + itemRepository +
+        "batchSize=" + batchSize +
         '}';
   }
 }
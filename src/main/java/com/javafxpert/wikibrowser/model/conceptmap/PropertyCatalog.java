@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Catalog of the Wikidata properties that have a relationship type of their own in the graph, loaded at startup
+ * from the tab separated file at conceptmap.graph-write.property-catalog (property ID, relationship type, label).
+ * Lookups are indexed by property number, so that finding the type or MERGE statement for a property is an
+ * array access.  Properties not in the catalog share the generic relationship type.
+ */
+@Component
+public class PropertyCatalog {
+  private Log log = LogFactory.getLog(getClass());
+
+  /**
+   * Relationship type for properties that aren't in the catalog
+   */
+  public static final String GENERIC_TYPE = "r";
+
+  private static final Pattern VALID_TYPE = Pattern.compile("[A-Za-z0-9_]+");
+
+  private static final String MERGE_RELATIONSHIP =
+      "MATCH (a:Item {itemId:{itemIdA}}), (b:Item {itemId:{itemIdB}}) MERGE (a)-[:%s {propId:{propId}, label:{propLabel}}]->(b)";
+
+  private static final String GENERIC_STATEMENT = String.format(MERGE_RELATIONSHIP, GENERIC_TYPE);
+
+  private String[] typesByPropNum = new String[0];
+  private String[] labelsByPropNum = new String[0];
+  private String[] statementsByPropNum = new String[0];
+  private int size;
+
+  // Properties already reported as missing from the catalog, so that each is logged once
+  private final Set<Integer> reportedUnknown = ConcurrentHashMap.newKeySet();
+
+  @Autowired
+  public PropertyCatalog(WikiBrowserProperties wikiBrowserProperties) {
+    String location = wikiBrowserProperties.getGraphWrite().getPropertyCatalog();
+    Resource resource = new DefaultResourceLoader().getResource(location);
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      int lineNum = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNum++;
+        if (line.trim().isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+
+        String[] fields = line.split("\t");
+        int propNum = fields.length == 3 ? propNumber(fields[0].trim()) : -1;
+        String type = fields.length == 3 ? fields[1].trim() : null;
+        if (propNum < 0 || !VALID_TYPE.matcher(type).matches()) {
+          throw new IllegalStateException("Invalid property catalog entry at " + location + " line " + lineNum +
+              ": " + line);
+        }
+        put(propNum, type, fields[2].trim());
+      }
+    }
+    catch (IOException e) {
+      throw new IllegalStateException("Could not read property catalog " + location, e);
+    }
+    log.info("Loaded " + size + " properties from " + location);
+  }
+
+  private void put(int propNum, String type, String label) {
+    if (propNum >= typesByPropNum.length) {
+      int length = Math.max(propNum + 1, typesByPropNum.length * 2);
+      typesByPropNum = grow(typesByPropNum, length);
+      labelsByPropNum = grow(labelsByPropNum, length);
+      statementsByPropNum = grow(statementsByPropNum, length);
+    }
+    if (typesByPropNum[propNum] == null) {
+      size++;
+    }
+    typesByPropNum[propNum] = type;
+    labelsByPropNum[propNum] = label;
+    statementsByPropNum[propNum] = String.format(MERGE_RELATIONSHIP, type);
+  }
+
+  private static String[] grow(String[] array, int length) {
+    String[] grown = new String[length];
+    System.arraycopy(array, 0, grown, 0, array.length);
+    return grown;
+  }
+
+  /**
+   * @return the number in a property ID such as P31, or -1 if it isn't a property ID
+   */
+  public static int propNumber(String propId) {
+    if (propId == null || propId.length() < 2 || propId.length() > 10 ||
+        (propId.charAt(0) != 'P' && propId.charAt(0) != 'p')) {
+      return -1;
+    }
+    int num = 0;
+    for (int i = 1; i < propId.length(); i++) {
+      char c = propId.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      num = num * 10 + (c - '0');
+    }
+    return num;
+  }
+
+  public boolean contains(int propNum) {
+    return propNum >= 0 && propNum < typesByPropNum.length && typesByPropNum[propNum] != null;
+  }
+
+  /**
+   * @return the relationship type for the property, or GENERIC_TYPE if it isn't in the catalog.  The result
+   * is always safe to splice into a Cypher statement.
+   */
+  public String getType(String propId) {
+    return getType(propNumber(propId));
+  }
+
+  public String getType(int propNum) {
+    if (!contains(propNum)) {
+      reportUnknown(propNum);
+      return GENERIC_TYPE;
+    }
+    return typesByPropNum[propNum];
+  }
+
+  /**
+   * @return the catalog's label for the property, or null if it isn't in the catalog
+   */
+  public String getLabel(String propId) {
+    int propNum = propNumber(propId);
+    return contains(propNum) ? labelsByPropNum[propNum] : null;
+  }
+
+  /**
+   * @return the statement that MERGEs one relationship for the property, taking itemIdA, itemIdB, propId and
+   * propLabel parameters
+   */
+  public String getStatement(String propId) {
+    int propNum = propNumber(propId);
+    if (!contains(propNum)) {
+      reportUnknown(propNum);
+      return GENERIC_STATEMENT;
+    }
+    return statementsByPropNum[propNum];
+  }
+
+  private void reportUnknown(int propNum) {
+    if (propNum >= 0 && reportedUnknown.add(propNum)) {
+      log.info("Property P" + propNum + " is not in the property catalog, writing it with relationship type " +
+          GENERIC_TYPE);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.idlocator;
+
+import com.javafxpert.wikibrowser.model.locator.ItemInfo;
+
+/**
+ * Locates the Wikidata item for a given Wikipedia article
+ */
+public interface IdLocatorService {
+
+  /**
+   * Look up the Wikidata item ID of an article in the given language
+   * @param articleName article name, e.g. Ada_Lovelace
+   * @param lang language code, e.g. en
+   * @return article information, which is empty if there is no such article
+   */
+  ItemInfo name2Id(String articleName, String lang);
+}
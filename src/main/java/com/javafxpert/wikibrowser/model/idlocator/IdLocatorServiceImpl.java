@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.idlocator;
+
+import com.javafxpert.wikibrowser.model.locator.ItemInfo;
+import com.javafxpert.wikibrowser.upstream.RequestCoalescer;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Locates Wikidata items with the Wikipedia pageprops API
+ */
+@Service
+public class IdLocatorServiceImpl implements IdLocatorService {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final RequestCoalescer requestCoalescer;
+
+  @Autowired
+  public IdLocatorServiceImpl(RequestCoalescer requestCoalescer) {
+    this.requestCoalescer = requestCoalescer;
+  }
+
+  @Override
+  public ItemInfo name2Id(String articleName, String lang) {
+
+    //TODO: Implement better way of creating the query represented by the following variables
+    String n2iqa = "https://";
+    String n2iqb = ""; // Some language code e.g. en
+    String n2iqc = ".wikipedia.org/w/api.php?action=query&prop=info%7Cpageprops&format=json&inprop=url&formatversion=2&redirects&titles=";
+    String n2iqd = ""; // Some article name e.g. Ada_Lovelace
+
+    n2iqb = lang;
+    n2iqd = articleName;
+
+    String wpQuery = n2iqa + n2iqb + n2iqc + n2iqd;
+
+    return queryProcessIdLocatorResponse(wpQuery, lang);
+  }
+
+  private ItemInfo queryProcessIdLocatorResponse(String query, String lang) {
+    query = query.replaceAll(" ", "%20");
+    log.info("QUERY: " + query);
+    IdLocatorResponse idLocatorResponse = null;
+    ItemInfo itemInfo = new ItemInfo();
+    try {
+      idLocatorResponse = requestCoalescer.getForObject(Upstream.WIKIPEDIA, new URI(query),
+          IdLocatorResponse.class);
+
+      log.info(idLocatorResponse.toString());
+
+      IdQueryFar idQueryFar = idLocatorResponse.getIdQueryFar();
+      List<PagesFar> pagesFarList = idQueryFar.getPagesFarList();
+      if (pagesFarList.size() > 0) {
+        PagesFar pageFar = pagesFarList.get(0);
+        PagePropsFar pagePropsFar = pageFar.getPagePropsFar();
+
+        String urlStr = pageFar.getFullUrl();
+        String titleStr = pageFar.getTitle();
+        String nameStr = urlStr.substring(urlStr.lastIndexOf("/") + 1);
+        itemInfo.setArticleUrl(urlStr);
+        itemInfo.setArticleTitle(titleStr);
+        itemInfo.setArticleName(nameStr);
+        itemInfo.setSite(lang + "wiki");
+        itemInfo.setLang(lang);
+
+        itemInfo.setItemId(pagePropsFar.getWikibaseItem());
+      }
+      else {
+        log.info("no pages in results");
+      }
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+      log.info("Caught exception when calling IdLocator service " + e);
+    }
+
+    return itemInfo;
+  }
+}
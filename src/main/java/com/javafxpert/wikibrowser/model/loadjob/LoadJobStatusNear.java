@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.loadjob;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import java.io.Serializable;
+
+/**
+ * Progress of a Wikidata dump load job.  Rates leave out the time the job spent paused, and etaSeconds is -1
+ * when it can't be estimated yet.
+ */
+@JsonRootName("loadJob")
+@JsonPropertyOrder({"jobId", "process", "lang", "state", "message", "startedAt", "elapsedSeconds", "startEntity",
+    "entitiesRead", "entitiesPerSecond", "bytesRead", "bytesPerSecond", "itemsWritten", "relationshipsWritten",
+    "errors", "lineQueueDepth", "lineQueueCapacity", "batchQueueDepth", "batchQueueCapacity", "etaSeconds"})
+public class LoadJobStatusNear implements Serializable {
+
+  private long jobId;
+  private String process;
+  private String lang;
+  private String state;
+  private String message;
+  private long startedAt;
+  private long elapsedSeconds;
+  private long startEntity;
+  private long entitiesRead;
+  private double entitiesPerSecond;
+  private long bytesRead;
+  private double bytesPerSecond;
+  private long itemsWritten;
+  private long relationshipsWritten;
+  private long errors;
+  private int lineQueueDepth;
+  private int lineQueueCapacity;
+  private int batchQueueDepth;
+  private int batchQueueCapacity;
+  private long etaSeconds = -1;
+
+  public LoadJobStatusNear() {
+  }
+
+  public long getJobId() {
+    return jobId;
+  }
+
+  public void setJobId(long jobId) {
+    this.jobId = jobId;
+  }
+
+  public String getProcess() {
+    return process;
+  }
+
+  public void setProcess(String process) {
+    this.process = process;
+  }
+
+  public String getLang() {
+    return lang;
+  }
+
+  public void setLang(String lang) {
+    this.lang = lang;
+  }
+
+  public String getState() {
+    return state;
+  }
+
+  public void setState(String state) {
+    this.state = state;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  public long getStartedAt() {
+    return startedAt;
+  }
+
+  public void setStartedAt(long startedAt) {
+    this.startedAt = startedAt;
+  }
+
+  public long getElapsedSeconds() {
+    return elapsedSeconds;
+  }
+
+  public void setElapsedSeconds(long elapsedSeconds) {
+    this.elapsedSeconds = elapsedSeconds;
+  }
+
+  public long getStartEntity() {
+    return startEntity;
+  }
+
+  public void setStartEntity(long startEntity) {
+    this.startEntity = startEntity;
+  }
+
+  public long getEntitiesRead() {
+    return entitiesRead;
+  }
+
+  public void setEntitiesRead(long entitiesRead) {
+    this.entitiesRead = entitiesRead;
+  }
+
+  public double getEntitiesPerSecond() {
+    return entitiesPerSecond;
+  }
+
+  public void setEntitiesPerSecond(double entitiesPerSecond) {
+    this.entitiesPerSecond = entitiesPerSecond;
+  }
+
+  public long getBytesRead() {
+    return bytesRead;
+  }
+
+  public void setBytesRead(long bytesRead) {
+    this.bytesRead = bytesRead;
+  }
+
+  public double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  public void setBytesPerSecond(double bytesPerSecond) {
+    this.bytesPerSecond = bytesPerSecond;
+  }
+
+  public long getItemsWritten() {
+    return itemsWritten;
+  }
+
+  public void setItemsWritten(long itemsWritten) {
+    this.itemsWritten = itemsWritten;
+  }
+
+  public long getRelationshipsWritten() {
+    return relationshipsWritten;
+  }
+
+  public void setRelationshipsWritten(long relationshipsWritten) {
+    this.relationshipsWritten = relationshipsWritten;
+  }
+
+  public long getErrors() {
+    return errors;
+  }
+
+  public void setErrors(long errors) {
+    this.errors = errors;
+  }
+
+  public int getLineQueueDepth() {
+    return lineQueueDepth;
+  }
+
+  public void setLineQueueDepth(int lineQueueDepth) {
+    this.lineQueueDepth = lineQueueDepth;
+  }
+
+  public int getLineQueueCapacity() {
+    return lineQueueCapacity;
+  }
+
+  public void setLineQueueCapacity(int lineQueueCapacity) {
+    this.lineQueueCapacity = lineQueueCapacity;
+  }
+
+  public int getBatchQueueDepth() {
+    return batchQueueDepth;
+  }
+
+  public void setBatchQueueDepth(int batchQueueDepth) {
+    this.batchQueueDepth = batchQueueDepth;
+  }
+
+  public int getBatchQueueCapacity() {
+    return batchQueueCapacity;
+  }
+
+  public void setBatchQueueCapacity(int batchQueueCapacity) {
+    this.batchQueueCapacity = batchQueueCapacity;
+  }
+
+  public long getEtaSeconds() {
+    return etaSeconds;
+  }
+
+  public void setEtaSeconds(long etaSeconds) {
+    this.etaSeconds = etaSeconds;
+  }
+
+  @Override
+  public String toString() {
+    return "LoadJobStatusNear{" +
+        "jobId=" + jobId +
+        ", process='" + process + '\'' +
+        ", state='" + state + '\'' +
+        ", entitiesRead=" + entitiesRead +
+        ", entitiesPerSecond=" + entitiesPerSecond +
+        ", itemsWritten=" + itemsWritten +
+        ", relationshipsWritten=" + relationshipsWritten +
+        ", errors=" + errors +
+        ", etaSeconds=" + etaSeconds +
+        '}';
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.locator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Locates the Wikipedia article for a given Wikidata item
+ */
+public interface LocatorService {
+
+  /**
+   * Look up the article title, name and URL of an item in the given language
+   * @param itemId Wikidata item ID, e.g. Q7259
+   * @param lang language code, e.g. en
+   * @return article information, with only the item ID and lang populated if there is no such article
+   */
+  ItemInfo id2Name(String itemId, String lang);
+
+  /**
+   * Look up many items at once, in as few upstream requests as possible
+   * @param itemIds Wikidata item IDs, e.g. Q7259
+   * @param lang language code, e.g. en
+   * @return article information by item ID, omitting any items that couldn't be looked up
+   */
+  Map<String, ItemInfo> id2Names(List<String> itemIds, String lang);
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.locator;
+
+import com.javafxpert.wikibrowser.upstream.RequestCoalescer;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Locates Wikipedia articles with the Wikidata wbgetentities API
+ */
+@Service
+public class LocatorServiceImpl implements LocatorService {
+  private Log log = LogFactory.getLog(getClass());
+
+  /**
+   * The most IDs that wbgetentities accepts in one request
+   */
+  private static final int MAX_IDS_PER_REQUEST = 50;
+
+  private final RequestCoalescer requestCoalescer;
+
+  @Autowired
+  public LocatorServiceImpl(RequestCoalescer requestCoalescer) {
+    this.requestCoalescer = requestCoalescer;
+  }
+
+  @Override
+  public ItemInfo id2Name(String itemId, String lang) {
+
+    //TODO: Implement better way of creating the query represented by the following variables
+    String i2nqa = "https://www.wikidata.org/w/api.php?action=wbgetentities&format=json&ids=";
+    String i2nqb = ""; // Some item ID e.g. Q7259
+    String i2nqc = "&props=sitelinks%7Csitelinks/urls&sitefilter=";
+    String i2nqd = ""; // Some language code e.g. en
+    String i2nqe = "wiki";
+
+    i2nqb = itemId;
+    i2nqd = lang;
+    String wdQuery = i2nqa + i2nqb + i2nqc + i2nqd + i2nqe;
+
+    return queryProcessLocatorResponse(wdQuery, lang);
+  }
+
+  private ItemInfo queryProcessLocatorResponse(String query, String lang) {
+    query = query.replaceAll(" ", "%20");
+    log.info("query: " + query);
+    LocatorResponse locatorResponse = null;
+    ItemInfo itemInfo = new ItemInfo();
+
+    try {
+      locatorResponse = requestCoalescer.getForObject(Upstream.WIKIDATA_API, new URI(query),
+          LocatorResponse.class);
+
+      log.info(locatorResponse.toString());
+
+      Map<String, Item> itemMap = locatorResponse.getEntities();
+      Item item = itemMap.get(itemMap.keySet().toArray()[0]);
+
+      String itemId = item.getId();
+      Item itemRef = itemMap.get(itemId);
+
+      //TODO: Investigate why this is occasionally null and handle it better
+      if (itemRef != null) {
+        setSitelink(itemInfo, itemRef);
+      }
+      else {
+        log.info("item is null");
+      }
+      itemInfo.setLang(lang);
+      itemInfo.setItemId(item.getId());
+    }
+    catch (Exception e) { //TODO: Consider moving catch down further in simlar method for all Controller classes
+      e.printStackTrace();
+      log.info("Caught exception when calling wikidata name to ID service " + e);
+    }
+
+    return itemInfo;
+  }
+
+  @Override
+  public Map<String, ItemInfo> id2Names(List<String> itemIds, String lang) {
+    Map<String, ItemInfo> itemInfoMap = new HashMap<>();
+
+    for (int start = 0; start < itemIds.size(); start += MAX_IDS_PER_REQUEST) {
+      List<String> chunk = itemIds.subList(start, Math.min(start + MAX_IDS_PER_REQUEST, itemIds.size()));
+
+      String wdQuery = "https://www.wikidata.org/w/api.php?action=wbgetentities&format=json&ids=" +
+          String.join("%7C", chunk) + "&props=sitelinks%7Csitelinks/urls&sitefilter=" + lang + "wiki";
+      log.info("query: " + wdQuery);
+
+      try {
+        LocatorResponse locatorResponse = requestCoalescer.getForObject(Upstream.WIKIDATA_API, new URI(wdQuery),
+            LocatorResponse.class);
+
+        Map<String, Item> itemMap = locatorResponse.getEntities();
+        for (String itemId : chunk) {
+          ItemInfo itemInfo = new ItemInfo();
+          Item itemRef = itemMap != null ? itemMap.get(itemId) : null;
+          if (itemRef != null) {
+            setSitelink(itemInfo, itemRef);
+          }
+          itemInfo.setLang(lang);
+          itemInfo.setItemId(itemId);
+          itemInfoMap.put(itemId, itemInfo);
+        }
+      }
+      catch (Exception e) {
+        e.printStackTrace();
+        log.info("Caught exception when calling wikidata name to ID service for " + chunk + " " + e);
+      }
+    }
+
+    return itemInfoMap;
+  }
+
+  private void setSitelink(ItemInfo itemInfo, Item itemRef) {
+    Map<String, Sitelinks> sitelinksMap = itemRef.getSitelinks();
+
+    if (sitelinksMap != null && !sitelinksMap.isEmpty() && !sitelinksMap.keySet().isEmpty()) {
+      Sitelinks sitelink = sitelinksMap.get(sitelinksMap.keySet().toArray()[0]);
+      String urlStr = sitelink.getUrl();
+      String titleStr = sitelink.getTitle();
+      String nameStr = urlStr.substring(urlStr.lastIndexOf("/") + 1);
+      itemInfo.setArticleUrl(urlStr);
+      itemInfo.setArticleTitle(titleStr);
+      itemInfo.setArticleName(nameStr);
+      itemInfo.setSite(sitelink.getSite());
+    }
+  }
+}
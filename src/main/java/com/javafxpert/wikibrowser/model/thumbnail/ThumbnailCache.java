@@ -16,17 +16,17 @@
 
 package com.javafxpert.wikibrowser.model.thumbnail;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Caches thumbnail image URLs.
+ * Caches thumbnail image URLs.  Safe for use from the concurrent upstream calls.
  * Created by jamesweaver on 4/4/16.
  */
 public class ThumbnailCache {
 
-  private static Map<String, String> thumbnailsByTitleAndLang = new HashMap<>();
-  private static Map<String, String> thumbnailsByIdAndLang = new HashMap<>();
+  private static Map<String, String> thumbnailsByTitleAndLang = new ConcurrentHashMap<>();
+  private static Map<String, String> thumbnailsByIdAndLang = new ConcurrentHashMap<>();
 
   public static String getThumbnailUrlByTitle(String articleTitle, String lang) {
     String thumbnailUrl = thumbnailsByTitleAndLang.get(articleTitle + "^" + lang);
@@ -41,7 +41,9 @@ public class ThumbnailCache {
   }
 
   public static void setThumbnailUrlByTitle(String articleTitle, String lang, String thumbnailUrl) {
-    thumbnailsByTitleAndLang.put(articleTitle + "^" + lang, thumbnailUrl);
+    if (thumbnailUrl != null) {
+      thumbnailsByTitleAndLang.put(articleTitle + "^" + lang, thumbnailUrl);
+    }
   }
 
 
@@ -58,7 +60,9 @@ public class ThumbnailCache {
   }
 
   public static void setThumbnailUrlById(String itemId, String lang, String thumbnailUrl) {
-    thumbnailsByIdAndLang.put(itemId + "^" + lang, thumbnailUrl);
+    if (thumbnailUrl != null) {
+      thumbnailsByIdAndLang.put(itemId + "^" + lang, thumbnailUrl);
+    }
   }
 
 }
@@ -31,6 +31,12 @@ public class ThumbnailQueryFar {
   @JsonProperty("pages")
   private List<ThumbnailPagesFar> thumbnailPagesFarList = new ArrayList<>();
 
+  @JsonProperty("normalized")
+  private List<ThumbnailRedirectFar> normalizedFarList = new ArrayList<>();
+
+  @JsonProperty("redirects")
+  private List<ThumbnailRedirectFar> redirectFarList = new ArrayList<>();
+
   public ThumbnailQueryFar() {
   }
 
@@ -46,10 +52,28 @@ public class ThumbnailQueryFar {
     this.thumbnailPagesFarList = thumbnailPagesFarList;
   }
 
+  public List<ThumbnailRedirectFar> getNormalizedFarList() {
+    return normalizedFarList;
+  }
+
+  public void setNormalizedFarList(List<ThumbnailRedirectFar> normalizedFarList) {
+    this.normalizedFarList = normalizedFarList;
+  }
+
+  public List<ThumbnailRedirectFar> getRedirectFarList() {
+    return redirectFarList;
+  }
+
+  public void setRedirectFarList(List<ThumbnailRedirectFar> redirectFarList) {
+    this.redirectFarList = redirectFarList;
+  }
+
   @Override
   public String toString() {
     return "ThumbnailQueryFar{" +
         "thumbnailPagesFarList=" + thumbnailPagesFarList +
+        ", normalizedFarList=" + normalizedFarList +
+        ", redirectFarList=" + redirectFarList +
         '}';
   }
 }
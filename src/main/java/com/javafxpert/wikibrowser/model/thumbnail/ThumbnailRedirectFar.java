@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.thumbnail;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A title as requested from the pageimages API and the title it was normalized or redirected to
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ThumbnailRedirectFar {
+  @JsonProperty("from")
+  private String from;
+
+  @JsonProperty("to")
+  private String to;
+
+  public ThumbnailRedirectFar() {
+  }
+
+  public ThumbnailRedirectFar(String from, String to) {
+    this.from = from;
+    this.to = to;
+  }
+
+  public String getFrom() {
+    return from;
+  }
+
+  public void setFrom(String from) {
+    this.from = from;
+  }
+
+  public String getTo() {
+    return to;
+  }
+
+  public void setTo(String to) {
+    this.to = to;
+  }
+
+  @Override
+  public String toString() {
+    return "ThumbnailRedirectFar{" +
+        "from='" + from + '\'' +
+        ", to='" + to + '\'' +
+        '}';
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.thumbnail;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides thumbnail image URLs for Wikipedia articles and Wikidata items, consulting the ThumbnailCache first
+ */
+public interface ThumbnailService {
+
+  /**
+   * @return URL of the article's thumbnail image, or an empty string if it has none
+   */
+  String getThumbnailUrlByTitle(String articleTitle, String lang);
+
+  /**
+   * @return URL of the thumbnail image of the item's article, an empty string if it has none,
+   *         or null if the item could not be located
+   */
+  String getThumbnailUrlById(String itemId, String lang);
+
+  /**
+   * Look up the thumbnails of many articles with a single pageimages request
+   * @param articleTitles at most MAX_TITLES_PER_REQUEST titles
+   * @return thumbnail URL by article title, an empty string for articles with none, omitting any articles
+   *         that couldn't be looked up
+   */
+  Map<String, String> getThumbnailUrlsByTitles(List<String> articleTitles, String lang);
+
+  /**
+   * Look up the thumbnails of many items, locating their articles with a single wbgetentities request and
+   * fetching the thumbnails with a single pageimages request
+   * @param itemIds at most MAX_TITLES_PER_REQUEST item IDs
+   * @param fallbackTitles article title to use for each item that can't be located
+   * @return thumbnail URL by item ID, an empty string for items with none, omitting any items that couldn't
+   *         be looked up
+   */
+  Map<String, String> getThumbnailUrlsByIds(List<String> itemIds, Map<String, String> fallbackTitles, String lang);
+
+  /**
+   * The most titles that pageimages returns thumbnails for in one request
+   */
+  int MAX_TITLES_PER_REQUEST = 50;
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.model.thumbnail;
+
+import com.javafxpert.wikibrowser.model.locator.ItemInfo;
+import com.javafxpert.wikibrowser.model.locator.LocatorService;
+import com.javafxpert.wikibrowser.upstream.RequestCoalescer;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retrieves thumbnail images with the Wikipedia pageimages API
+ */
+@Service
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+  // TODO: Move to configuration file
+  public static int THUMBNAIL_WIDTH = 100;
+
+  private Log log = LogFactory.getLog(getClass());
+
+  private final RequestCoalescer requestCoalescer;
+
+  private final LocatorService locatorService;
+
+  @Autowired
+  public ThumbnailServiceImpl(RequestCoalescer requestCoalescer, LocatorService locatorService) {
+    this.requestCoalescer = requestCoalescer;
+    this.locatorService = locatorService;
+  }
+
+  @Override
+  public String getThumbnailUrlByTitle(String articleTitle, String lang) {
+    // Check cache for thumbnail
+    String thumbnailUrlStr = ThumbnailCache.getThumbnailUrlByTitle(articleTitle, lang);
+
+    if (thumbnailUrlStr == null) {
+      log.info("Thumbnail NOT previously requested for articleTitle: " + articleTitle + ", lang: " + lang);
+
+      thumbnailUrlStr = title2Thumbnail(articleTitle, lang);
+      ThumbnailCache.setThumbnailUrlByTitle(articleTitle, lang, thumbnailUrlStr);
+    }
+    return thumbnailUrlStr;
+  }
+
+  @Override
+  public String getThumbnailUrlById(String itemId, String lang) {
+    // Check cache for thumbnail
+    String thumbnailUrlStr = ThumbnailCache.getThumbnailUrlById(itemId, lang);
+
+    if (thumbnailUrlStr == null) {
+      log.info("Thumbnail NOT previously requested for itemId: " + itemId + ", lang: " + lang);
+
+      try {
+        ItemInfo itemInfo = locatorService.id2Name(itemId, lang);
+
+        if (itemInfo.getArticleTitle() != null) {
+          thumbnailUrlStr = title2Thumbnail(itemInfo.getArticleTitle(), lang);
+        }
+        else {
+          thumbnailUrlStr = "";
+        }
+
+        ThumbnailCache.setThumbnailUrlById(itemId, lang, thumbnailUrlStr);
+      }
+      catch (Exception e) {
+        e.printStackTrace();
+        log.info("Caught exception when locating itemId " + itemId + " : " + e);
+      }
+    }
+    return thumbnailUrlStr;
+  }
+
+  @Override
+  public Map<String, String> getThumbnailUrlsByTitles(List<String> articleTitles, String lang) {
+    Map<String, String> thumbnailUrls = new HashMap<>();
+    List<String> uncachedTitles = new ArrayList<>();
+    for (String articleTitle : articleTitles) {
+      String thumbnailUrlStr = ThumbnailCache.getThumbnailUrlByTitle(articleTitle, lang);
+      if (thumbnailUrlStr != null) {
+        thumbnailUrls.put(articleTitle, thumbnailUrlStr);
+      }
+      else if (!uncachedTitles.contains(articleTitle)) {
+        uncachedTitles.add(articleTitle);
+      }
+    }
+    if (uncachedTitles.isEmpty()) {
+      return thumbnailUrls;
+    }
+
+    try {
+      StringBuilder titles = new StringBuilder();
+      for (String articleTitle : uncachedTitles) {
+        titles.append(titles.length() > 0 ? "%7C" : "").append(URLEncoder.encode(articleTitle, "UTF-8"));
+      }
+      String wpQuery = "https://" + lang + ".wikipedia.org/w/api.php?action=query&format=json&prop=pageimages" +
+          "&formatversion=2&piprop=thumbnail&pithumbsize=" + THUMBNAIL_WIDTH + "&pilimit=" + MAX_TITLES_PER_REQUEST +
+          "&redirects&titles=" + titles;
+      log.info("QUERY: " + wpQuery);
+
+      ThumbnailResponse thumbnailResponse = requestCoalescer.getForObject(Upstream.WIKIPEDIA, new URI(wpQuery),
+          ThumbnailResponse.class);
+      ThumbnailQueryFar thumbnailQueryFar = thumbnailResponse.getThumbnailQueryFar();
+
+      // Titles come back normalized and redirects resolved, so follow each requested title to its page
+      Map<String, String> pageTitles = new HashMap<>();
+      thumbnailQueryFar.getNormalizedFarList().forEach(n -> pageTitles.put(n.getFrom(), n.getTo()));
+      Map<String, String> redirects = new HashMap<>();
+      thumbnailQueryFar.getRedirectFarList().forEach(r -> redirects.put(r.getFrom(), r.getTo()));
+      Map<String, String> pageThumbnails = new HashMap<>();
+      for (ThumbnailPagesFar thumbnailPagesFar : thumbnailQueryFar.getThumbnailPagesFarList()) {
+        ThumbnailFar thumbnailFar = thumbnailPagesFar.getThumbnailFar();
+        pageThumbnails.put(thumbnailPagesFar.getTitle(), thumbnailFar != null ? thumbnailFar.getSource() : "");
+      }
+
+      for (String articleTitle : uncachedTitles) {
+        String pageTitle = pageTitles.getOrDefault(articleTitle, articleTitle);
+        pageTitle = redirects.getOrDefault(pageTitle, pageTitle);
+        String thumbnailUrlStr = pageThumbnails.getOrDefault(pageTitle, "");
+        ThumbnailCache.setThumbnailUrlByTitle(articleTitle, lang, thumbnailUrlStr);
+        thumbnailUrls.put(articleTitle, thumbnailUrlStr);
+      }
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+      log.info("Caught exception when calling Thumbnail service for " + uncachedTitles + " " + e);
+    }
+
+    return thumbnailUrls;
+  }
+
+  @Override
+  public Map<String, String> getThumbnailUrlsByIds(List<String> itemIds, Map<String, String> fallbackTitles,
+                                                   String lang) {
+    Map<String, String> thumbnailUrls = new HashMap<>();
+    List<String> uncachedIds = new ArrayList<>();
+    for (String itemId : itemIds) {
+      String thumbnailUrlStr = ThumbnailCache.getThumbnailUrlById(itemId, lang);
+      if (thumbnailUrlStr != null) {
+        thumbnailUrls.put(itemId, thumbnailUrlStr);
+      }
+      else {
+        uncachedIds.add(itemId);
+      }
+    }
+    if (uncachedIds.isEmpty()) {
+      return thumbnailUrls;
+    }
+
+    // As with getThumbnailUrlById, an item without an article has no thumbnail, and the fallback title is only
+    // for items that couldn't be located at all
+    Map<String, ItemInfo> itemInfoMap = locatorService.id2Names(uncachedIds, lang);
+    Map<String, String> articleTitles = new HashMap<>();
+    for (String itemId : uncachedIds) {
+      ItemInfo itemInfo = itemInfoMap.get(itemId);
+      if (itemInfo == null) {
+        String fallbackTitle = fallbackTitles.get(itemId);
+        if (fallbackTitle != null) {
+          articleTitles.put(itemId, fallbackTitle);
+        }
+      }
+      else if (itemInfo.getArticleTitle() != null) {
+        articleTitles.put(itemId, itemInfo.getArticleTitle());
+      }
+      else {
+        ThumbnailCache.setThumbnailUrlById(itemId, lang, "");
+        thumbnailUrls.put(itemId, "");
+      }
+    }
+
+    Map<String, String> thumbnailUrlsByTitle = getThumbnailUrlsByTitles(new ArrayList<>(articleTitles.values()), lang);
+    articleTitles.forEach((itemId, articleTitle) -> {
+      String thumbnailUrlStr = thumbnailUrlsByTitle.get(articleTitle);
+      if (thumbnailUrlStr != null) {
+        if (itemInfoMap.containsKey(itemId)) {
+          ThumbnailCache.setThumbnailUrlById(itemId, lang, thumbnailUrlStr);
+        }
+        thumbnailUrls.put(itemId, thumbnailUrlStr);
+      }
+    });
+
+    return thumbnailUrls;
+  }
+
+  private String title2Thumbnail(String articleTitle, String lang) {
+
+    //TODO: Implement better way of creating the query represented by the following variables
+    String n2iqa = "https://";
+    String n2iqb = ""; // Some language code e.g. en
+    String n2iqc = ".wikipedia.org/w/api.php?action=query&format=json&prop=pageimages&formatversion=2&piprop=thumbnail&pithumbsize=" + THUMBNAIL_WIDTH + "&redirects&titles=";
+    String n2iqd = ""; // Some article name e.g. Ada Lovelace
+
+    n2iqb = lang;
+    n2iqd = articleTitle;
+
+    String wpQuery = n2iqa + n2iqb + n2iqc + n2iqd;
+
+    return queryProcessThumbnailResponse(wpQuery, lang);
+  }
+
+  private String queryProcessThumbnailResponse(String query, String lang) {
+    query = query.replaceAll(" ", "%20");
+    log.info("QUERY: " + query);
+    ThumbnailResponse thumbnailResponse = null;
+    String thumbnailUrlStr = "";
+    try {
+      thumbnailResponse = requestCoalescer.getForObject(Upstream.WIKIPEDIA, new URI(query),
+          ThumbnailResponse.class);
+
+      log.info(thumbnailResponse.toString());
+
+      ThumbnailQueryFar thumbnailQueryFar = thumbnailResponse.getThumbnailQueryFar();
+      List<ThumbnailPagesFar> thumbnailPagesFarList = thumbnailQueryFar.getThumbnailPagesFarList();
+      if (thumbnailPagesFarList.size() > 0) {
+        ThumbnailPagesFar thumbnailPageFar = thumbnailPagesFarList.get(0);
+        ThumbnailFar thumbnailFar = thumbnailPageFar.getThumbnailFar();
+
+        if (thumbnailFar != null) {
+          thumbnailUrlStr = thumbnailFar.getSource();
+        }
+      }
+      else {
+        log.info("no pages in results");
+      }
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+      log.info("Caught exception when calling Thumbnail service " + e);
+    }
+
+    return thumbnailUrlStr;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+import com.javafxpert.wikibrowser.upstream.RequestCoalescer;
+import com.javafxpert.wikibrowser.upstream.Upstream;
+import com.javafxpert.wikibrowser.upstream.UpstreamClients;
+import com.javafxpert.wikibrowser.upstream.UpstreamGuard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Collections;
+
+/**
+ * Runs SELECT queries against the Wikidata Query Service, streaming the bindings into SparqlRows.
+ * Identical concurrent queries are coalesced, and each distinct query goes through the UpstreamGuard.
+ */
+@Component
+public class SparqlClient {
+
+  private static final MediaType SPARQL_RESULTS_JSON = MediaType.parseMediaType("application/sparql-results+json");
+
+  private final UpstreamClients upstreamClients;
+
+  private final RequestCoalescer requestCoalescer;
+
+  private final UpstreamGuard upstreamGuard;
+
+  @Autowired
+  public SparqlClient(UpstreamClients upstreamClients, RequestCoalescer requestCoalescer,
+                      UpstreamGuard upstreamGuard) {
+    this.upstreamClients = upstreamClients;
+    this.requestCoalescer = requestCoalescer;
+    this.upstreamGuard = upstreamGuard;
+  }
+
+  /**
+   * @param uri the complete query URL
+   * @param vars the variables to keep from each binding, which become the columns of the result
+   */
+  public SparqlRows select(URI uri, String[] vars) {
+    String key = String.join(",", vars) + " " + uri.normalize().toASCIIString();
+
+    return requestCoalescer.execute(Upstream.WIKIDATA_SPARQL, key, () ->
+        upstreamGuard.call(Upstream.WIKIDATA_SPARQL, () ->
+            upstreamClients.getRestTemplate(Upstream.WIKIDATA_SPARQL).execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(Collections.singletonList(SPARQL_RESULTS_JSON)),
+                response -> {
+                  SparqlRows sparqlRows = new SparqlRows(vars);
+                  new SparqlRowReader(vars).read(response.getBody(), sparqlRows);
+                  return sparqlRows;
+                })));
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+import java.util.regex.Pattern;
+
+/**
+ * The types of value that may be substituted into a SparqlQueryTemplate.  Each type only accepts values
+ * that can't change the structure of the query, and which need no further encoding in a URI.
+ * An ITEM_ID_LIST is bound to a list of item IDs, each validated on its own, and expands to
+ * space-separated wd: prefixed names, so a template using it must declare the wd: prefix.
+ */
+public enum SparqlParam {
+  ITEM_ID("Q[1-9][0-9]{0,11}"),
+  PROP_ID("P[1-9][0-9]{0,11}"),
+  ITEM_ID_LIST("Q[1-9][0-9]{0,11}"),
+  LANG("[a-z]{2,12}(-[a-z0-9]{1,12}){0,3}"),
+  DIRECTION("Forward|Reverse|Undirected"),
+  DEPTH(1, 1000),
+  LIMIT(1, 10000);
+
+  private final Pattern pattern;
+  private final int min;
+  private final int max;
+
+  SparqlParam(String regex) {
+    this.pattern = Pattern.compile(regex);
+    this.min = 0;
+    this.max = 0;
+  }
+
+  SparqlParam(int min, int max) {
+    this.pattern = Pattern.compile("[0-9]{1,9}");
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * @return the value, if it is valid for this type
+   * @throws InvalidSparqlParameterException if it isn't
+   */
+  public String validate(String name, String value) {
+    if (value == null || !pattern.matcher(value).matches()) {
+      throw new InvalidSparqlParameterException("Invalid " + name + ": " + value);
+    }
+    if (max > 0) {
+      int intValue = Integer.parseInt(value);
+      if (intValue < min || intValue > max) {
+        throw new InvalidSparqlParameterException("Invalid " + name + ": " + value + ", must be between " + min +
+            " and " + max);
+      }
+    }
+    return value;
+  }
+}
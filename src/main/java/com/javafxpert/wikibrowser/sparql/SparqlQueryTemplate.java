@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A SPARQL query with typed parameter slots, written as ${name:TYPE} where TYPE is a SparqlParam.
+ * The text around the slots is URL-encoded once, when the template is created, so expanding a query
+ * only validates the parameter values and copies them and the encoded text into a single buffer.
+ */
+public class SparqlQueryTemplate {
+
+  public static final String WIKIDATA_SPARQL_ENDPOINT =
+      "https://query.wikidata.org/bigdata/namespace/wdq/sparql?format=json&query=";
+
+  private static final Pattern SLOT = Pattern.compile("\\$\\{(\\w+):(\\w+)\\}");
+
+  private final String[] encodedSegments;
+  private final int[] slotParams;
+  private final String[] paramNames;
+  private final SparqlParam[] paramTypes;
+  private final int encodedLength;
+
+  public SparqlQueryTemplate(String sparql) {
+    List<String> segments = new ArrayList<>();
+    List<Integer> slots = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    List<SparqlParam> types = new ArrayList<>();
+
+    String query = sparql.trim().replaceAll("\\s+", " ");
+    Matcher matcher = SLOT.matcher(query);
+    int start = 0;
+    while (matcher.find()) {
+      segments.add(encode(query.substring(start, matcher.start())));
+
+      String name = matcher.group(1);
+      SparqlParam type = SparqlParam.valueOf(matcher.group(2));
+      int param = names.indexOf(name);
+      if (param < 0) {
+        param = names.size();
+        names.add(name);
+        types.add(type);
+      }
+      else if (types.get(param) != type) {
+        throw new IllegalArgumentException("Slot " + name + " is declared with more than one type");
+      }
+      slots.add(param);
+      start = matcher.end();
+    }
+    segments.add(encode(query.substring(start)));
+    segments.set(0, WIKIDATA_SPARQL_ENDPOINT + segments.get(0));
+
+    this.encodedSegments = segments.toArray(new String[segments.size()]);
+    this.slotParams = slots.stream().mapToInt(Integer::intValue).toArray();
+    this.paramNames = names.toArray(new String[names.size()]);
+    this.paramTypes = types.toArray(new SparqlParam[types.size()]);
+    this.encodedLength = segments.stream().mapToInt(String::length).sum();
+  }
+
+  public Query query() {
+    return new Query();
+  }
+
+  private static String encode(String text) {
+    try {
+      return URLEncoder.encode(text, "UTF-8").replace("+", "%20");
+    }
+    catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The parameter values for one expansion of the template
+   */
+  public class Query {
+    private final String[] values = new String[paramNames.length];
+
+    private Query() {
+    }
+
+    /**
+     * @throws InvalidSparqlParameterException if the value isn't valid for the slot's type
+     */
+    public Query with(String name, String value) {
+      int param = indexOf(name);
+      if (paramTypes[param] == SparqlParam.ITEM_ID_LIST) {
+        return with(name, Collections.singletonList(value));
+      }
+      values[param] = paramTypes[param].validate(name, value);
+      return this;
+    }
+
+    public Query with(String name, int value) {
+      return with(name, Integer.toString(value));
+    }
+
+    public Query with(String name, List<String> itemIds) {
+      int param = indexOf(name);
+      if (paramTypes[param] != SparqlParam.ITEM_ID_LIST) {
+        throw new IllegalArgumentException("Slot " + name + " is not an " + SparqlParam.ITEM_ID_LIST);
+      }
+      if (itemIds.isEmpty()) {
+        throw new InvalidSparqlParameterException("No " + name + " given");
+      }
+
+      StringBuilder names = new StringBuilder(itemIds.size() * 16);
+      for (String itemId : itemIds) {
+        if (names.length() > 0) {
+          names.append("%20");
+        }
+        names.append("wd:").append(paramTypes[param].validate(name, itemId));
+      }
+      values[param] = names.toString();
+      return this;
+    }
+
+    public URI toUri() {
+      for (int param = 0; param < values.length; param++) {
+        if (values[param] == null) {
+          throw new IllegalStateException("No value for " + paramNames[param]);
+        }
+      }
+
+      int length = encodedLength;
+      for (int slot = 0; slot < slotParams.length; slot++) {
+        length += values[slotParams[slot]].length();
+      }
+
+      StringBuilder uri = new StringBuilder(length);
+      uri.append(encodedSegments[0]);
+      for (int slot = 0; slot < slotParams.length; slot++) {
+        uri.append(values[slotParams[slot]]).append(encodedSegments[slot + 1]);
+      }
+      return URI.create(uri.toString());
+    }
+
+    private int indexOf(String name) {
+      for (int param = 0; param < paramNames.length; param++) {
+        if (paramNames[param].equals(name)) {
+          return param;
+        }
+      }
+      throw new IllegalArgumentException("No slot named " + name);
+    }
+  }
+}
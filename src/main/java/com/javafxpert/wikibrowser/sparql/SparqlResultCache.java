@@ -0,0 +1,408 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Disk-backed cache of SPARQL results, keyed by query kind and a key such as item ID and language.
+ * Each entry is a small gzipped file in which repeated strings (property URLs and labels, for example)
+ * are written once and then referenced by index.  Entries expire after the configured TTL, and the oldest
+ * entries are evicted when the directory grows past the configured size.  The directory is re-indexed
+ * on startup, so cached results survive a restart.
+ */
+@Component
+public class SparqlResultCache implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  public static final String CLAIMS = "claims";
+  public static final String RELATED_CLAIMS = "relatedclaims";
+  public static final String TRAVERSAL = "traversal";
+
+  private static final int MAGIC = 0x57425351;
+  private static final int VERSION = 1;
+  private static final String SUFFIX = ".bin";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final WikiBrowserProperties.SparqlCache settings;
+
+  private final Map<Path, CacheEntry> index = new ConcurrentHashMap<>();
+  private final AtomicLong totalBytes = new AtomicLong();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong expired = new AtomicLong();
+  private final AtomicLong staleHits = new AtomicLong();
+  private final AtomicLong writes = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong errors = new AtomicLong();
+
+  private Path directory;
+
+  @Autowired
+  public SparqlResultCache(WikiBrowserProperties wikiBrowserProperties) {
+    this.settings = wikiBrowserProperties.getSparqlCache();
+  }
+
+  @PostConstruct
+  public void init() {
+    if (!settings.isEnabled()) {
+      return;
+    }
+
+    try {
+      directory = Files.createDirectories(Paths.get(settings.getDirectory()));
+
+      // Left behind by writes that were under way when the service stopped
+      try (DirectoryStream<Path> tempFiles = Files.newDirectoryStream(directory, "*" + TEMP_SUFFIX)) {
+        for (Path tempFile : tempFiles) {
+          deleteTempFile(tempFile);
+        }
+      }
+
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+        for (Path file : files) {
+          CacheEntry cacheEntry = new CacheEntry(Files.size(file), Files.getLastModifiedTime(file).toMillis());
+          index.put(file, cacheEntry);
+          totalBytes.addAndGet(cacheEntry.size);
+        }
+      }
+      log.info("SPARQL result cache at " + directory + " has " + index.size() + " entries, " + totalBytes.get() +
+          " bytes");
+    }
+    catch (IOException e) {
+      e.printStackTrace();
+      log.info("Caught exception when opening SPARQL result cache, disabling it " + e);
+      directory = null;
+    }
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * @return the cached rows, or null if there is no entry or it is older than the TTL
+   */
+  public SparqlRows get(String kind, String key) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    Path file = fileFor(kind, key);
+    CacheEntry cacheEntry = index.get(file);
+    if (cacheEntry == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    if (System.currentTimeMillis() - cacheEntry.writtenAt > settings.getTtl()) {
+      expired.incrementAndGet();
+      return null;
+    }
+
+    SparqlRows sparqlRows = read(file, kind, key);
+    if (sparqlRows == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return sparqlRows;
+  }
+
+  /**
+   * @return the cached rows regardless of their age, or null if there is no entry.  This is for use
+   * when the upstream service is unavailable, when stale results are better than none.
+   */
+  public SparqlRows getStale(String kind, String key) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    Path file = fileFor(kind, key);
+    if (!index.containsKey(file)) {
+      return null;
+    }
+
+    SparqlRows sparqlRows = read(file, kind, key);
+    if (sparqlRows != null) {
+      staleHits.incrementAndGet();
+    }
+    return sparqlRows;
+  }
+
+  public void put(String kind, String key, SparqlRows sparqlRows) {
+    if (!isEnabled() || sparqlRows == null) {
+      return;
+    }
+
+    Path file = fileFor(kind, key);
+    long writtenAt = System.currentTimeMillis();
+    Path tempFile = null;
+    try {
+      tempFile = Files.createTempFile(directory, kind, TEMP_SUFFIX);
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+        write(out, kind, key, writtenAt, sparqlRows);
+      }
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      tempFile = null;
+
+      CacheEntry cacheEntry = new CacheEntry(Files.size(file), writtenAt);
+      CacheEntry previous = index.put(file, cacheEntry);
+      totalBytes.addAndGet(cacheEntry.size - (previous != null ? previous.size : 0));
+      writes.incrementAndGet();
+    }
+    catch (IOException e) {
+      errors.incrementAndGet();
+      log.info("Caught exception when writing SPARQL result cache entry " + kind + " " + key + " " + e);
+    }
+    finally {
+      if (tempFile != null) {
+        deleteTempFile(tempFile);
+      }
+    }
+
+    if (totalBytes.get() > settings.getMaxSize()) {
+      evict();
+    }
+  }
+
+  /**
+   * Removes the oldest entries until the cache is back under 90% of its maximum size
+   */
+  private synchronized void evict() {
+    long target = settings.getMaxSize() * 9 / 10;
+    if (totalBytes.get() <= target) {
+      return;
+    }
+
+    List<Map.Entry<Path, CacheEntry>> entries = new ArrayList<>(index.entrySet());
+    entries.sort((a, b) -> Long.compare(a.getValue().writtenAt, b.getValue().writtenAt));
+
+    for (Map.Entry<Path, CacheEntry> entry : entries) {
+      if (totalBytes.get() <= target) {
+        break;
+      }
+      remove(entry.getKey());
+      evictions.incrementAndGet();
+    }
+  }
+
+  private void deleteTempFile(Path tempFile) {
+    try {
+      Files.deleteIfExists(tempFile);
+    }
+    catch (IOException e) {
+      log.info("Caught exception when deleting SPARQL result cache temp file " + tempFile + " " + e);
+    }
+  }
+
+  private void remove(Path file) {
+    CacheEntry cacheEntry = index.remove(file);
+    if (cacheEntry != null) {
+      totalBytes.addAndGet(-cacheEntry.size);
+    }
+    try {
+      Files.deleteIfExists(file);
+    }
+    catch (IOException e) {
+      log.info("Caught exception when deleting SPARQL result cache entry " + file + " " + e);
+    }
+  }
+
+  private SparqlRows read(Path file, String kind, String key) {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(Files.newInputStream(file))))) {
+      if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+        throw new IOException("Unrecognized cache file format");
+      }
+      in.readLong();
+      if (!kind.equals(in.readUTF()) || !key.equals(in.readUTF())) {
+        // Hash collision, which is vanishingly unlikely; treat it as a miss
+        return null;
+      }
+
+      List<String> strings = new ArrayList<>();
+      String[] vars = new String[in.readUnsignedShort()];
+      for (int i = 0; i < vars.length; i++) {
+        vars[i] = in.readUTF();
+      }
+
+      int rowCount = in.readInt();
+      SparqlRows sparqlRows = new SparqlRows(vars, new ArrayList<>(rowCount));
+      for (int r = 0; r < rowCount; r++) {
+        String[] row = new String[vars.length];
+        for (int c = 0; c < vars.length; c++) {
+          row[c] = readString(in, strings);
+        }
+        sparqlRows.addRow(row);
+      }
+      return sparqlRows;
+    }
+    catch (IOException e) {
+      errors.incrementAndGet();
+      log.info("Caught exception when reading SPARQL result cache entry " + kind + " " + key + " " + e);
+      remove(file);
+      return null;
+    }
+  }
+
+  private void write(DataOutputStream out, String kind, String key, long writtenAt, SparqlRows sparqlRows)
+      throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+    out.writeLong(writtenAt);
+    out.writeUTF(kind);
+    out.writeUTF(key);
+
+    String[] vars = sparqlRows.getVars();
+    out.writeShort(vars.length);
+    for (String var : vars) {
+      out.writeUTF(var);
+    }
+
+    Map<String, Integer> strings = new HashMap<>();
+    out.writeInt(sparqlRows.size());
+    for (String[] row : sparqlRows.getRows()) {
+      for (String value : row) {
+        writeString(out, value, strings);
+      }
+    }
+  }
+
+  /**
+   * Strings are written as a varint tag: 0 for null, 1 for a new string (which follows and is assigned the
+   * next index), or 2 + the index of a string already written
+   */
+  private void writeString(DataOutputStream out, String value, Map<String, Integer> strings) throws IOException {
+    if (value == null) {
+      writeVarInt(out, 0);
+      return;
+    }
+
+    Integer ref = strings.get(value);
+    if (ref != null) {
+      writeVarInt(out, ref + 2);
+    }
+    else {
+      strings.put(value, strings.size());
+      writeVarInt(out, 1);
+      out.writeUTF(value);
+    }
+  }
+
+  private String readString(DataInputStream in, List<String> strings) throws IOException {
+    int tag = readVarInt(in);
+    if (tag == 0) {
+      return null;
+    }
+    if (tag == 1) {
+      String value = in.readUTF();
+      strings.add(value);
+      return value;
+    }
+    return strings.get(tag - 2);
+  }
+
+  private void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private int readVarInt(DataInputStream in) throws IOException {
+    int value = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  private Path fileFor(String kind, String key) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-1").digest((kind + "\u0000" + key).getBytes(StandardCharsets.UTF_8));
+      StringBuilder name = new StringBuilder(kind).append('-');
+      for (byte b : digest) {
+        name.append(String.format("%02x", b));
+      }
+      return directory.resolve(name.append(SUFFIX).toString());
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    metrics.add(new Metric<>("sparqlcache.hits", hits.get()));
+    metrics.add(new Metric<>("sparqlcache.misses", misses.get()));
+    metrics.add(new Metric<>("sparqlcache.expired", expired.get()));
+    metrics.add(new Metric<>("sparqlcache.stalehits", staleHits.get()));
+    metrics.add(new Metric<>("sparqlcache.writes", writes.get()));
+    metrics.add(new Metric<>("sparqlcache.evictions", evictions.get()));
+    metrics.add(new Metric<>("sparqlcache.errors", errors.get()));
+    metrics.add(new Metric<>("sparqlcache.entries", index.size()));
+    metrics.add(new Metric<>("sparqlcache.bytes", totalBytes.get()));
+    return metrics;
+  }
+
+  private static class CacheEntry {
+    private final long size;
+    private final long writtenAt;
+
+    private CacheEntry(long size, long writtenAt) {
+      this.size = size;
+      this.writtenAt = writtenAt;
+    }
+  }
+}
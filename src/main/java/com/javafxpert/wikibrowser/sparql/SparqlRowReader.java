@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a SPARQL JSON result set (application/sparql-results+json) from the Jackson token stream,
+ * handing each binding to a SparqlRowHandler as soon as it has been read.  Only the value of each
+ * requested variable is kept; everything else in the document is skipped without being materialized.
+ */
+public class SparqlRowReader {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final String[] vars;
+
+  public SparqlRowReader(String[] vars) {
+    this.vars = vars;
+  }
+
+  /**
+   * @return the number of rows read
+   */
+  public int read(InputStream in, SparqlRowHandler handler) throws IOException {
+    int rowCount = 0;
+
+    try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+      expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+
+        if (!"results".equals(field)) {
+          parser.skipChildren();
+          continue;
+        }
+
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String resultsField = parser.getCurrentName();
+          parser.nextToken();
+
+          if (!"bindings".equals(resultsField)) {
+            parser.skipChildren();
+            continue;
+          }
+
+          expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            handler.row(readRow(parser));
+            rowCount++;
+          }
+        }
+      }
+    }
+    return rowCount;
+  }
+
+  /**
+   * Reads one binding object, e.g. {"propUrl": {"type": "uri", "value": "..."}, ...}
+   */
+  private String[] readRow(JsonParser parser) throws IOException {
+    String[] row = new String[vars.length];
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      int column = column(parser.getCurrentName());
+      parser.nextToken();
+
+      if (column < 0) {
+        parser.skipChildren();
+        continue;
+      }
+
+      expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String termField = parser.getCurrentName();
+        parser.nextToken();
+
+        if ("value".equals(termField)) {
+          row[column] = parser.getText();
+        }
+        else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return row;
+  }
+
+  private int column(String var) {
+    for (int i = 0; i < vars.length; i++) {
+      if (vars[i].equals(var)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void expect(JsonToken actual, JsonToken expected) throws IOException {
+    if (actual != expected) {
+      throw new IOException("Malformed SPARQL result: expected " + expected + " but found " + actual);
+    }
+  }
+}
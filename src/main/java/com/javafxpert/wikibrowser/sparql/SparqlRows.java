@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A flat table of SPARQL result bindings: one String per variable per row, with null for an unbound variable.
+ * This is the form in which SPARQL results are parsed, cached and then grouped into responses.
+ */
+public class SparqlRows implements SparqlRowHandler {
+
+  public static final String[] CLAIMS_VARS = {"propUrl", "propLabel", "valUrl", "valLabel", "picture"};
+  public static final String[] CLAIMS_BATCH_VARS = {"item", "propUrl", "propLabel", "valUrl", "valLabel", "picture"};
+  public static final String[] TRAVERSAL_VARS = {"item", "itemLabel", "picture"};
+
+  private final String[] vars;
+  private final List<String[]> rows;
+
+  public SparqlRows(String[] vars) {
+    this(vars, new ArrayList<>());
+  }
+
+  public SparqlRows(String[] vars, List<String[]> rows) {
+    this.vars = vars;
+    this.rows = rows;
+  }
+
+  public String[] getVars() {
+    return vars;
+  }
+
+  public List<String[]> getRows() {
+    return rows;
+  }
+
+  public int size() {
+    return rows.size();
+  }
+
+  public void addRow(String[] row) {
+    rows.add(row);
+  }
+
+  @Override
+  public void row(String[] row) {
+    addRow(row);
+  }
+
+  /**
+   * @return the column of the given variable, or -1 if it isn't one of this table's variables
+   */
+  public int column(String var) {
+    return Arrays.asList(vars).indexOf(var);
+  }
+
+  @Override
+  public String toString() {
+    return "SparqlRows{" +
+        "vars=" + Arrays.toString(vars) +
+        ", rows=" + rows.size() +
+        '}';
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+/**
+ * The SPARQL queries issued against the Wikidata Query Service
+ */
+public final class WikidataQueries {
+
+  /**
+   * Claims about an item, plus an "identity" row for the item itself
+   */
+  public static final SparqlQueryTemplate CLAIMS = new SparqlQueryTemplate(
+      "PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#> " +
+      "PREFIX wikibase: <http://wikiba.se/ontology#> " +
+      "PREFIX entity: <http://www.wikidata.org/entity/> " +
+      "PREFIX p: <http://www.wikidata.org/prop/direct/> " +
+      "SELECT ?propUrl ?propLabel ?valUrl ?valLabel ?picture " +
+      "WHERE { " +
+      "  hint:Query hint:optimizer 'None' . " +
+      "  { BIND(entity:${item:ITEM_ID} AS ?valUrl) . " +
+      "    BIND('N/A' AS ?propUrl ) . " +
+      "    BIND('identity'@${lang:LANG} AS ?propLabel ) . " +
+      "  } " +
+      "  UNION " +
+      "  { entity:${item:ITEM_ID} ?propUrl ?valUrl . " +
+      "    ?property ?ref ?propUrl . " +
+      "    ?property a wikibase:Property . " +
+      "    ?property rdfs:label ?propLabel " +
+      "  } " +
+      "  ?valUrl rdfs:label ?valLabel " +
+      "  FILTER (lang(?valLabel) = '${lang:LANG}' ) . " +
+      "  OPTIONAL { " +
+      "    ?valUrl p:P18 ?picture . " +
+      "  } " +
+      "  FILTER (lang(?propLabel) = '${lang:LANG}' ) " +
+      "} " +
+      "ORDER BY ?propLabel ?valLabel LIMIT 500");
+
+  /**
+   * Claims about each of several items, as for CLAIMS, with an extra ?item column saying which item a row is for
+   */
+  public static final SparqlQueryTemplate CLAIMS_BATCH = new SparqlQueryTemplate(
+      "PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#> " +
+      "PREFIX wikibase: <http://wikiba.se/ontology#> " +
+      "PREFIX wd: <http://www.wikidata.org/entity/> " +
+      "PREFIX p: <http://www.wikidata.org/prop/direct/> " +
+      "SELECT ?item ?propUrl ?propLabel ?valUrl ?valLabel ?picture " +
+      "WHERE { " +
+      "  hint:Query hint:optimizer 'None' . " +
+      "  VALUES ?item { ${items:ITEM_ID_LIST} } " +
+      "  { BIND(?item AS ?valUrl) . " +
+      "    BIND('N/A' AS ?propUrl ) . " +
+      "    BIND('identity'@${lang:LANG} AS ?propLabel ) . " +
+      "  } " +
+      "  UNION " +
+      "  { ?item ?propUrl ?valUrl . " +
+      "    ?property ?ref ?propUrl . " +
+      "    ?property a wikibase:Property . " +
+      "    ?property rdfs:label ?propLabel " +
+      "  } " +
+      "  ?valUrl rdfs:label ?valLabel " +
+      "  FILTER (lang(?valLabel) = '${lang:LANG}' ) . " +
+      "  OPTIONAL { " +
+      "    ?valUrl p:P18 ?picture . " +
+      "  } " +
+      "  FILTER (lang(?propLabel) = '${lang:LANG}' ) " +
+      "} " +
+      "ORDER BY ?item ?propLabel ?valLabel LIMIT ${limit:LIMIT}");
+
+  /**
+   * Claims made by other items about an item
+   */
+  public static final SparqlQueryTemplate RELATED_CLAIMS = new SparqlQueryTemplate(
+      "PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#> " +
+      "PREFIX wikibase: <http://wikiba.se/ontology#> " +
+      "PREFIX entity: <http://www.wikidata.org/entity/> " +
+      "PREFIX p: <http://www.wikidata.org/prop/direct/> " +
+      "SELECT ?propUrl ?propLabel ?valUrl ?valLabel ?picture " +
+      "WHERE { " +
+      "  hint:Query hint:optimizer 'None' . " +
+      "  ?valUrl ?propUrl entity:${item:ITEM_ID} . " +
+      "  ?valUrl rdfs:label ?valLabel . " +
+      "  FILTER (LANG(?valLabel) = '${lang:LANG}') . " +
+      "  ?property ?ref ?propUrl . " +
+      "  ?property a wikibase:Property . " +
+      "  ?property rdfs:label ?propLabel " +
+      "  OPTIONAL { " +
+      "    ?valUrl p:P18 ?picture . " +
+      "  } " +
+      "  FILTER (lang(?propLabel) = '${lang:LANG}' ) " +
+      "} " +
+      "ORDER BY ?propLabel ?valLabel LIMIT 500");
+
+  /**
+   * Breadth-first traversal from an item along one property
+   */
+  public static final SparqlQueryTemplate TRAVERSAL = new SparqlQueryTemplate(traversal(""));
+
+  /**
+   * Shortest path traversal from an item to a target item along one property
+   */
+  public static final SparqlQueryTemplate TRAVERSAL_TO_TARGET =
+      new SparqlQueryTemplate(traversal("gas:target wd:${target:ITEM_ID}; "));
+
+  private WikidataQueries() {
+  }
+
+  private static String traversal(String target) {
+    return
+      "PREFIX wd: <http://www.wikidata.org/entity/> " +
+      "PREFIX wdt: <http://www.wikidata.org/prop/direct/> " +
+      "PREFIX wikibase: <http://wikiba.se/ontology#> " +
+      "PREFIX gas: <http://www.bigdata.com/rdf/gas#> " +
+      "SELECT ?item ?itemLabel ?picture { " +
+      "  { SERVICE gas:service { " +
+      "      gas:program gas:gasClass 'com.bigdata.rdf.graph.analytics.SSSP'; " +
+      "        gas:in wd:${item:ITEM_ID}; " +
+      "        " + target +
+      "        gas:traversalDirection '${direction:DIRECTION}'; " +
+      "        gas:out ?item; " +
+      "        gas:out1 ?depth; " +
+      "        gas:maxIterations ${depth:DEPTH}; " +
+      "        gas:linkType wdt:${prop:PROP_ID} . " +
+      "    } " +
+      "  } " +
+      "  OPTIONAL { " +
+      "    ?item wdt:P18 ?picture . " +
+      "  } " +
+      "  SERVICE wikibase:label { bd:serviceParam wikibase:language \"${lang:LANG}\" } " +
+      "} " +
+      "LIMIT ${limit:LIMIT}";
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.upstream;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opens after a run of consecutive failures, so that calls fail fast instead of waiting on a service
+ * that is down or overloaded.  Once the open duration has passed, a single trial call is let through;
+ * if it succeeds the breaker closes, and if it fails the breaker opens again.
+ */
+public class CircuitBreaker {
+
+  public enum State { CLOSED, HALF_OPEN, OPEN }
+
+  private final int failureThreshold;
+  private final long openDuration;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+
+  private final AtomicLong timesOpened = new AtomicLong();
+  private final AtomicLong shortCircuited = new AtomicLong();
+
+  public CircuitBreaker(int failureThreshold, long openDuration) {
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+  }
+
+  /**
+   * @return whether a call may be made now
+   */
+  public synchronized boolean allowRequest() {
+    if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDuration) {
+      state = State.HALF_OPEN;
+      return true;
+    }
+    if (state != State.CLOSED) {
+      shortCircuited.incrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  public synchronized void recordSuccess() {
+    consecutiveFailures = 0;
+    state = State.CLOSED;
+  }
+
+  public synchronized void recordFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+      state = State.OPEN;
+      openedAt = System.currentTimeMillis();
+      timesOpened.incrementAndGet();
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public long getTimesOpened() {
+    return timesOpened.get();
+  }
+
+  public long getShortCircuited() {
+    return shortCircuited.get();
+  }
+}
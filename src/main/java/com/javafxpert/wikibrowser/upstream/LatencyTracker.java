@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.upstream;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent call latencies in a ring buffer, from which percentiles are computed on demand
+ */
+public class LatencyTracker {
+
+  private final long[] samples;
+  private int next;
+  private int count;
+
+  public LatencyTracker(int size) {
+    this.samples = new long[size];
+  }
+
+  public synchronized void record(long millis) {
+    samples[next] = millis;
+    next = (next + 1) % samples.length;
+    if (count < samples.length) {
+      count++;
+    }
+  }
+
+  /**
+   * @param percentile e.g. 0.95
+   * @return the latency at that percentile, or -1 if nothing has been recorded yet
+   */
+  public long percentile(double percentile) {
+    long[] sorted;
+    synchronized (this) {
+      if (count == 0) {
+        return -1;
+      }
+      sorted = Arrays.copyOf(samples, count);
+    }
+    Arrays.sort(sorted);
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.upstream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical upstream requests into a single call.  The first caller for a given key
+ * performs the request, and any caller arriving while it is in flight waits for and shares its result.
+ * Nothing is retained once the call completes, so this is not a cache.
+ */
+@Component
+public class RequestCoalescer implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final UpstreamClients upstreamClients;
+
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  private final Map<Upstream, AtomicLong> calls = new EnumMap<>(Upstream.class);
+  private final Map<Upstream, AtomicLong> coalesced = new EnumMap<>(Upstream.class);
+
+  @Autowired
+  public RequestCoalescer(UpstreamClients upstreamClients) {
+    this.upstreamClients = upstreamClients;
+
+    for (Upstream upstream : Upstream.values()) {
+      calls.put(upstream, new AtomicLong());
+      coalesced.put(upstream, new AtomicLong());
+    }
+  }
+
+  /**
+   * Performs a GET against the given upstream, sharing the response with concurrent requests for the same URI
+   */
+  public <T> T getForObject(Upstream upstream, URI uri, Class<T> responseType) {
+    String key = responseType.getName() + " " + uri.normalize().toASCIIString();
+    return execute(upstream, key, () -> upstreamClients.getRestTemplate(upstream).getForObject(uri, responseType));
+  }
+
+  /**
+   * Runs the call unless an identical one (same upstream and key) is already in flight, in which case
+   * the caller blocks until that call completes and receives its result or exception
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Upstream upstream, String key, Supplier<T> call) {
+    String flightKey = upstream.getMetricName() + " " + key;
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, future);
+
+    if (existing != null) {
+      coalesced.get(upstream).incrementAndGet();
+      log.info("Coalesced request: " + flightKey);
+      try {
+        return (T) existing.join();
+      }
+      catch (CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw e;
+      }
+    }
+
+    calls.get(upstream).incrementAndGet();
+    try {
+      T result = call.get();
+      future.complete(result);
+      return result;
+    }
+    catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      inFlight.remove(flightKey, future);
+    }
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    for (Upstream upstream : Upstream.values()) {
+      String prefix = "coalescer." + upstream.getMetricName() + ".";
+      metrics.add(new Metric<>(prefix + "calls", calls.get(upstream).get()));
+      metrics.add(new Metric<>(prefix + "coalesced", coalesced.get(upstream).get()));
+    }
+    metrics.add(new Metric<>("coalescer.inflight", inFlight.size()));
+    return metrics;
+  }
+}
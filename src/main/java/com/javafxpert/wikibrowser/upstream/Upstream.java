@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.upstream;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+
+/**
+ * The external services that this service calls, each of which gets its own pooled HTTP client
+ */
+public enum Upstream {
+  WIKIDATA_SPARQL("wikidata-sparql"),   // query.wikidata.org
+  WIKIDATA_API("wikidata-api"),         // www.wikidata.org/w/api.php
+  WIKIPEDIA("wikipedia"),               // *.wikipedia.org/w/api.php
+  NEO4J("neo4j"),                       // Neo4j Transactional Cypher HTTP endpoint
+  BITLY("bitly");                       // api-ssl.bitly.com
+
+  private final String metricName;
+
+  Upstream(String metricName) {
+    this.metricName = metricName;
+  }
+
+  public String getMetricName() {
+    return metricName;
+  }
+
+  /**
+   * Provide the connect and read timeouts configured for this upstream
+   */
+  public WikiBrowserProperties.Endpoint endpoint(WikiBrowserProperties.Http http) {
+    switch (this) {
+      case WIKIDATA_SPARQL:
+        return http.getWikidataSparql();
+      case WIKIDATA_API:
+        return http.getWikidataApi();
+      case WIKIPEDIA:
+        return http.getWikipedia();
+      case NEO4J:
+        return http.getNeo4j();
+      default:
+        return http.getBitly();
+    }
+  }
+}
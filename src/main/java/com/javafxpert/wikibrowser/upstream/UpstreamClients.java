@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.upstream;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds one pooled, keep-alive HTTP client per upstream service, and the RestTemplate that wraps it.
+ * RestTemplate instances are thread-safe, so controllers share them rather than creating one per call.
+ */
+@Component
+public class UpstreamClients implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final Map<Upstream, PoolingHttpClientConnectionManager> connectionManagers = new EnumMap<>(Upstream.class);
+  private final Map<Upstream, CloseableHttpClient> httpClients = new EnumMap<>(Upstream.class);
+  private final Map<Upstream, RestTemplate> restTemplates = new EnumMap<>(Upstream.class);
+
+  @Autowired
+  public UpstreamClients(WikiBrowserProperties wikiBrowserProperties) {
+    WikiBrowserProperties.Http http = wikiBrowserProperties.getHttp();
+
+    for (Upstream upstream : Upstream.values()) {
+      WikiBrowserProperties.Endpoint endpoint = upstream.endpoint(http);
+
+      // Each host (e.g. en.wikipedia.org, fr.wikipedia.org) is a separate route with its own pool of connections
+      PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+      connectionManager.setMaxTotal(http.getMaxTotal());
+      connectionManager.setDefaultMaxPerRoute(http.getMaxPerRoute());
+      connectionManager.setValidateAfterInactivity(http.getValidateAfterInactivity());
+
+      RequestConfig requestConfig = RequestConfig.custom()
+          .setConnectTimeout(endpoint.getConnectTimeout())
+          .setSocketTimeout(endpoint.getReadTimeout())
+          .setConnectionRequestTimeout(http.getConnectionRequestTimeout())
+          .build();
+
+      CloseableHttpClient httpClient = HttpClients.custom()
+          .setConnectionManager(connectionManager)
+          .setDefaultRequestConfig(requestConfig)
+          .setKeepAliveStrategy(keepAliveStrategy(http.getKeepAlive()))
+          .evictExpiredConnections()
+          .evictIdleConnections(http.getKeepAlive(), TimeUnit.MILLISECONDS)
+          .build();
+
+      connectionManagers.put(upstream, connectionManager);
+      httpClients.put(upstream, httpClient);
+      restTemplates.put(upstream, new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient)));
+
+      log.info("Created HTTP client for " + upstream.getMetricName() + ", connectTimeout: " +
+          endpoint.getConnectTimeout() + ", readTimeout: " + endpoint.getReadTimeout());
+    }
+  }
+
+  public RestTemplate getRestTemplate(Upstream upstream) {
+    return restTemplates.get(upstream);
+  }
+
+  /**
+   * Keep connections alive for as long as the server allows, falling back to the configured duration
+   * when the server doesn't send a Keep-Alive header
+   */
+  private ConnectionKeepAliveStrategy keepAliveStrategy(int keepAlive) {
+    return (response, context) -> {
+      long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+      return duration > 0 ? duration : keepAlive;
+    };
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    connectionManagers.forEach((upstream, connectionManager) -> {
+      PoolStats poolStats = connectionManager.getTotalStats();
+      String prefix = "httpclient." + upstream.getMetricName() + ".";
+      metrics.add(new Metric<>(prefix + "leased", poolStats.getLeased()));
+      metrics.add(new Metric<>(prefix + "available", poolStats.getAvailable()));
+      metrics.add(new Metric<>(prefix + "pending", poolStats.getPending()));
+      metrics.add(new Metric<>(prefix + "max", poolStats.getMax()));
+      metrics.add(new Metric<>(prefix + "routes", connectionManager.getRoutes().size()));
+    });
+    return metrics;
+  }
+
+  @PreDestroy
+  public void close() {
+    httpClients.forEach((upstream, httpClient) -> {
+      try {
+        httpClient.close();
+      }
+      catch (IOException e) {
+        log.info("Caught exception when closing HTTP client for " + upstream.getMetricName() + " " + e);
+      }
+    });
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.upstream;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Protects callers from a slow or failing upstream service with, per upstream:
+ * a bulkhead that limits concurrent calls, a circuit breaker that fails fast after repeated failures
+ * (5xx responses, timeouts and other I/O errors),
+ * and optionally a hedged second request when the first hasn't answered within the recent p95 latency.
+ */
+@Component
+public class UpstreamGuard implements PublicMetrics {
+  private Log log = LogFactory.getLog(getClass());
+
+  private final WikiBrowserProperties.Resilience settings;
+
+  private final Map<Upstream, Guard> guards = new EnumMap<>(Upstream.class);
+
+  private final ExecutorService hedgeExecutor;
+
+  @Autowired
+  public UpstreamGuard(WikiBrowserProperties wikiBrowserProperties) {
+    this.settings = wikiBrowserProperties.getResilience();
+
+    for (Upstream upstream : Upstream.values()) {
+      guards.put(upstream, new Guard());
+    }
+
+    AtomicInteger threadCount = new AtomicInteger();
+    hedgeExecutor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "hedge-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Makes the call, subject to the upstream's bulkhead and circuit breaker
+   * @throws UpstreamUnavailableException if the call was refused without being attempted
+   */
+  public <T> T call(Upstream upstream, Supplier<T> call) {
+    Guard guard = guards.get(upstream);
+
+    try {
+      if (!guard.bulkhead.tryAcquire(settings.getMaxWait(), TimeUnit.MILLISECONDS)) {
+        guard.rejected.incrementAndGet();
+        throw new UpstreamUnavailableException(upstream.getMetricName() + " has too many calls in progress");
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UpstreamUnavailableException("Interrupted waiting to call " + upstream.getMetricName());
+    }
+
+    if (!guard.circuitBreaker.allowRequest()) {
+      guard.bulkhead.release();
+      throw new UpstreamUnavailableException(upstream.getMetricName() + " circuit breaker is open");
+    }
+
+    try {
+      T result;
+      long hedgeDelay = settings.isHedging() ? guard.latency.percentile(0.95) : -1;
+      if (hedgeDelay >= 0) {
+        result = hedged(guard, call, Math.max(hedgeDelay, settings.getMinHedgeDelay()));
+      }
+      else {
+        try {
+          result = attempt(guard, call);
+        }
+        finally {
+          guard.bulkhead.release();
+        }
+      }
+      guard.circuitBreaker.recordSuccess();
+      return result;
+    }
+    catch (RuntimeException e) {
+      guard.failures.incrementAndGet();
+      if (isUpstreamFailure(e)) {
+        guard.circuitBreaker.recordFailure();
+      }
+      else {
+        // The upstream answered, so it is up even though the call failed
+        guard.circuitBreaker.recordSuccess();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return whether the exception shows the upstream to be failing: a 5xx response, or a timeout or other
+   * I/O error.  A 4xx response is a fault in the request, not the upstream.
+   */
+  private boolean isUpstreamFailure(RuntimeException e) {
+    return e instanceof HttpServerErrorException || e instanceof ResourceAccessException;
+  }
+
+  private <T> T attempt(Guard guard, Supplier<T> call) {
+    long start = System.currentTimeMillis();
+    T result = call.get();
+    guard.latency.record(System.currentTimeMillis() - start);
+    guard.successes.incrementAndGet();
+    return result;
+  }
+
+  /**
+   * Runs the call in the background, and if it hasn't completed after the delay, runs it again
+   * (if the bulkhead has room), returning whichever succeeds first.  The caller's bulkhead permit is
+   * released when the first call completes, and the hedge takes a permit of its own.
+   */
+  private <T> T hedged(Guard guard, Supplier<T> call, long delay) {
+    CompletableFuture<T> primary = CompletableFuture.supplyAsync(() -> attempt(guard, call), hedgeExecutor);
+    primary.whenComplete((result, e) -> guard.bulkhead.release());
+
+    try {
+      return primary.get(delay, TimeUnit.MILLISECONDS);
+    }
+    catch (TimeoutException e) {
+      if (!guard.bulkhead.tryAcquire()) {
+        return join(primary);
+      }
+
+      guard.hedges.incrementAndGet();
+      CompletableFuture<T> hedge = CompletableFuture.supplyAsync(() -> attempt(guard, call), hedgeExecutor);
+      hedge.whenComplete((result, t) -> guard.bulkhead.release());
+
+      T result = join(firstSuccessful(primary, hedge));
+      if (!primary.isDone() || primary.isCompletedExceptionally()) {
+        guard.hedgeWins.incrementAndGet();
+      }
+      return result;
+    }
+    catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UpstreamUnavailableException("Interrupted waiting for upstream call");
+    }
+  }
+
+  private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+    CompletableFuture<T> winner = new CompletableFuture<>();
+    AtomicInteger failures = new AtomicInteger();
+    first.whenComplete((result, e) -> completeWinner(winner, result, e, failures));
+    second.whenComplete((result, e) -> completeWinner(winner, result, e, failures));
+    return winner;
+  }
+
+  private <T> void completeWinner(CompletableFuture<T> winner, T result, Throwable e, AtomicInteger failures) {
+    if (e == null) {
+      winner.complete(result);
+    }
+    else if (failures.incrementAndGet() == 2) {
+      winner.completeExceptionally(e);
+    }
+  }
+
+  private <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    }
+    catch (CompletionException e) {
+      throw unwrap(e.getCause());
+    }
+  }
+
+  private RuntimeException unwrap(Throwable e) {
+    if (e instanceof CompletionException && e.getCause() != null) {
+      e = e.getCause();
+    }
+    return e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException(e);
+  }
+
+  @Override
+  public Collection<Metric<?>> metrics() {
+    List<Metric<?>> metrics = new ArrayList<>();
+    guards.forEach((upstream, guard) -> {
+      String prefix = "upstream." + upstream.getMetricName() + ".";
+      metrics.add(new Metric<>(prefix + "successes", guard.successes.get()));
+      metrics.add(new Metric<>(prefix + "failures", guard.failures.get()));
+      metrics.add(new Metric<>(prefix + "latency.p95", guard.latency.percentile(0.95)));
+      metrics.add(new Metric<>(prefix + "bulkhead.available", guard.bulkhead.availablePermits()));
+      metrics.add(new Metric<>(prefix + "bulkhead.rejected", guard.rejected.get()));
+      metrics.add(new Metric<>(prefix + "circuit.state", guard.circuitBreaker.getState().ordinal()));
+      metrics.add(new Metric<>(prefix + "circuit.opened", guard.circuitBreaker.getTimesOpened()));
+      metrics.add(new Metric<>(prefix + "circuit.shortcircuited", guard.circuitBreaker.getShortCircuited()));
+      metrics.add(new Metric<>(prefix + "hedge.issued", guard.hedges.get()));
+      metrics.add(new Metric<>(prefix + "hedge.won", guard.hedgeWins.get()));
+    });
+    return metrics;
+  }
+
+  @PreDestroy
+  public void close() {
+    hedgeExecutor.shutdownNow();
+  }
+
+  /**
+   * The bulkhead, circuit breaker, latency history and counters for one upstream
+   */
+  private class Guard {
+    private final Semaphore bulkhead = new Semaphore(settings.getMaxConcurrent());
+    private final CircuitBreaker circuitBreaker =
+        new CircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration());
+    private final LatencyTracker latency = new LatencyTracker(settings.getLatencyWindow());
+
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+  }
+}
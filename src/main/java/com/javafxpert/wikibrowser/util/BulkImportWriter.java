@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.util;
+
+import com.javafxpert.wikibrowser.model.conceptmap.ConceptMapBatch;
+import com.javafxpert.wikibrowser.model.conceptmap.ItemRelationship;
+import com.javafxpert.wikibrowser.model.conceptmap.PropertyCatalog;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the :Item graph as gzipped CSV files for the offline neo4j-import tool, which loads a full dump far
+ * faster than MERGE statements can.  Each writing thread has its own pair of node and relationship shards,
+ * started afresh every shard-rows rows, and the headers are written to files of their own so that every shard
+ * can be passed after them.
+ *
+ * Node ids must be unique for the importer, so items are tracked by Q number: an item is written the first
+ * time it is seen with a title.  Items that are only ever the target of a statement have no label in the
+ * language and aren't written at all, and the importer is told to skip the relationships to them.  Each entity
+ * appears once in the dump, so its relationships need no tracking beyond the batch they arrive in.
+ */
+public class BulkImportWriter {
+  private Log log = LogFactory.getLog(getClass());
+
+  private static final String NODES_HEADER = "itemId:ID(Item),title,:LABEL";
+  private static final String RELATIONSHIPS_HEADER = ":START_ID(Item),:END_ID(Item),:TYPE,propId,label";
+  private static final String ITEM_LABEL = "Item";
+
+  private final Path directory;
+
+  private final PropertyCatalog propertyCatalog;
+
+  private final long shardRows;
+
+  private final BitSet titled = new BitSet();
+
+  private final List<Shard> shards = new ArrayList<>();
+
+  private final ThreadLocal<Shard> currentShard = new ThreadLocal<>();
+
+  private final AtomicInteger shardSequence = new AtomicInteger();
+
+  private final AtomicLong nodesWritten = new AtomicLong();
+  private final AtomicLong relationshipsWritten = new AtomicLong();
+
+  public BulkImportWriter(String directory, PropertyCatalog propertyCatalog, long shardRows) throws IOException {
+    this.directory = Files.createDirectories(Paths.get(directory));
+    this.propertyCatalog = propertyCatalog;
+    this.shardRows = Math.max(1, shardRows);
+  }
+
+  public void write(ConceptMapBatch batch) throws IOException {
+    Shard shard = currentShard.get();
+    if (shard == null || shard.rows >= shardRows) {
+      if (shard != null) {
+        shard.close();
+      }
+      shard = openShard();
+      currentShard.set(shard);
+    }
+
+    for (Map.Entry<String, String> item : batch.getItems().entrySet()) {
+      if (claim(item.getKey(), item.getValue())) {
+        shard.writeNode(item.getKey(), item.getValue());
+      }
+    }
+    for (ItemRelationship rel : batch.getRelationships()) {
+      shard.writeRelationship(rel);
+    }
+  }
+
+  /**
+   * @return true if the item should be written now, which is the first time it is seen with a title
+   */
+  private boolean claim(String itemId, String itemTitle) {
+    int qNum = Integer.parseInt(itemId.substring(1));
+    synchronized (titled) {
+      if (itemTitle == null || titled.get(qNum)) {
+        return false;
+      }
+      titled.set(qNum);
+      return true;
+    }
+  }
+
+  private Shard openShard() throws IOException {
+    Shard shard = new Shard(shardSequence.incrementAndGet());
+    synchronized (shards) {
+      shards.add(shard);
+    }
+    return shard;
+  }
+
+  /**
+   * Closes every shard and writes the header files.  Must only be called once all writing threads are done.
+   */
+  public void close() throws IOException {
+    closeShards();
+    Files.write(directory.resolve("nodes-header.csv"), (NODES_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+    Files.write(directory.resolve("relationships-header.csv"),
+        (RELATIONSHIPS_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+
+    log.info("Bulk import files written to " + directory + " with " + nodesWritten.get() + " nodes and " +
+        relationshipsWritten.get() + " relationships, import them with: " + importCommand());
+  }
+
+  /**
+   * Closes every shard without writing the header files, which leaves the files of a load that didn't finish
+   * unusable for an import.  Shards already closed are skipped, so this can follow close.
+   */
+  public void closeShards() throws IOException {
+    synchronized (shards) {
+      for (Shard shard : shards) {
+        shard.close();
+      }
+    }
+  }
+
+  /**
+   * @return a neo4j-import command line for the files written
+   */
+  public String importCommand() {
+    StringBuilder nodes = new StringBuilder(directory.resolve("nodes-header.csv").toString());
+    StringBuilder relationships = new StringBuilder(directory.resolve("relationships-header.csv").toString());
+    for (Shard shard : shards) {
+      nodes.append(',').append(shard.nodesFile);
+      relationships.append(',').append(shard.relationshipsFile);
+    }
+    // Relationships to items without a title have no node to end at, so they are skipped however many there are
+    return "neo4j-import --into <store> --id-type string --skip-bad-relationships true --bad-tolerance " +
+        Long.MAX_VALUE + " --nodes \"" + nodes + "\" --relationships \"" + relationships + "\"";
+  }
+
+  public long getNodesWritten() {
+    return nodesWritten.get();
+  }
+
+  public long getRelationshipsWritten() {
+    return relationshipsWritten.get();
+  }
+
+  /**
+   * Quotes a field if needed, doubling any quotes in it
+   */
+  static String csvField(String value) {
+    if (value == null) {
+      return "";
+    }
+    String field = value.replace('\n', ' ').replace('\r', ' ');
+    if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+      return field;
+    }
+    return '"' + field.replace("\"", "\"\"") + '"';
+  }
+
+  /**
+   * One gzipped node file and relationship file, written by a single thread
+   */
+  private class Shard {
+
+    private final Path nodesFile;
+    private final Path relationshipsFile;
+    private final Writer nodes;
+    private final Writer relationships;
+    private long rows;
+    private boolean closed;
+
+    Shard(int sequence) throws IOException {
+      nodesFile = directory.resolve(String.format("nodes-%05d.csv.gz", sequence));
+      relationshipsFile = directory.resolve(String.format("relationships-%05d.csv.gz", sequence));
+      nodes = open(nodesFile);
+      relationships = open(relationshipsFile);
+    }
+
+    private Writer open(Path file) throws IOException {
+      return new BufferedWriter(new OutputStreamWriter(
+          new GZIPOutputStream(Files.newOutputStream(file), 1 << 16), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    void writeNode(String itemId, String itemTitle) throws IOException {
+      nodes.write(itemId);
+      nodes.write(',');
+      nodes.write(csvField(itemTitle));
+      nodes.write(',');
+      nodes.write(ITEM_LABEL);
+      nodes.write('\n');
+      rows++;
+      nodesWritten.incrementAndGet();
+    }
+
+    void writeRelationship(ItemRelationship rel) throws IOException {
+      relationships.write(rel.getItemIdA());
+      relationships.write(',');
+      relationships.write(rel.getItemIdB());
+      relationships.write(',');
+      relationships.write(propertyCatalog.getType(rel.getPropId()));
+      relationships.write(',');
+      relationships.write(rel.getPropId());
+      relationships.write(',');
+      relationships.write(csvField(rel.getPropLabel()));
+      relationships.write('\n');
+      rows++;
+      relationshipsWritten.incrementAndGet();
+    }
+
+    synchronized void close() throws IOException {
+      if (!closed) {
+        closed = true;
+        nodes.close();
+        relationships.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * How far a dump load has got: every entity before the given ordinal, and every byte of the decompressed dump
+ * before the given offset, has been written to the graph.  Only applies to the dump and language it was taken
+ * for.
+ */
+public class DumpCheckpoint {
+  private static Log log = LogFactory.getLog(DumpCheckpoint.class);
+
+  private static final int MAGIC = 0x57424443; // "WBDC"
+  private static final int VERSION = 1;
+
+  private final String dumpName;
+  private final String language;
+  private final long ordinal;
+  private final long byteOffset;
+
+  public DumpCheckpoint(String dumpName, String language, long ordinal, long byteOffset) {
+    this.dumpName = dumpName;
+    this.language = language;
+    this.ordinal = ordinal;
+    this.byteOffset = byteOffset;
+  }
+
+  public String getDumpName() {
+    return dumpName;
+  }
+
+  public String getLanguage() {
+    return language;
+  }
+
+  public long getOrdinal() {
+    return ordinal;
+  }
+
+  public long getByteOffset() {
+    return byteOffset;
+  }
+
+  public boolean appliesTo(String dumpName, String language) {
+    return this.dumpName.equals(dumpName) && this.language.equals(language);
+  }
+
+  /**
+   * @return the checkpoint in the file, or null if there is none that can be read
+   */
+  public static DumpCheckpoint load(Path file) {
+    if (!Files.exists(file)) {
+      return null;
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+        log.info("Ignoring dump checkpoint " + file + " in an unknown format");
+        return null;
+      }
+      return new DumpCheckpoint(in.readUTF(), in.readUTF(), in.readLong(), in.readLong());
+    }
+    catch (IOException e) {
+      e.printStackTrace();
+      log.info("Caught exception when reading dump checkpoint " + file + " " + e);
+      return null;
+    }
+  }
+
+  /**
+   * Replaces the checkpoint in the file, so that a crash leaves either the old checkpoint or the new one
+   */
+  public void save(Path file) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path tempFile = Files.createTempFile(directory, "dump-checkpoint", ".tmp");
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      out.writeUTF(dumpName);
+      out.writeUTF(language);
+      out.writeLong(ordinal);
+      out.writeLong(byteOffset);
+    }
+    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  @Override
+  public String toString() {
+    return dumpName + " (" + language + ") at entity " + ordinal + ", byte " + byteOffset;
+  }
+}
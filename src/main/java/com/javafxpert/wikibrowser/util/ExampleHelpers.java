@@ -30,9 +30,11 @@ import org.wikidata.wdtk.dumpfiles.DumpProcessingController;
 import org.wikidata.wdtk.dumpfiles.EntityTimerProcessor;
 import org.wikidata.wdtk.dumpfiles.EntityTimerProcessor.TimeoutException;
 import org.wikidata.wdtk.dumpfiles.MwDumpFile;
+import org.wikidata.wdtk.dumpfiles.MwLocalDumpFile;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -198,6 +200,36 @@ public class ExampleHelpers {
 		entityTimerProcessor.close();
 	}
 
+	/**
+	 * Opens a Wikidata JSON dump for reading line by line. By default, the
+	 * most recent JSON dump will be used, downloading it if needed unless in
+	 * offline mode.
+	 *
+	 * @param dumpFilePath
+	 *            a JSON dump on local disk to use instead, or an empty string
+	 * @return the decompressed dump, or null if there is no dump to read
+	 */
+	public static InputStream openWikidataJsonDump(String dumpFilePath)
+			throws IOException {
+		MwDumpFile dumpFile;
+		if (dumpFilePath != null && dumpFilePath.length() > 0) {
+			dumpFile = new MwLocalDumpFile(dumpFilePath);
+		} else {
+			DumpProcessingController dumpProcessingController = new DumpProcessingController(
+					"wikidatawiki");
+			dumpProcessingController.setOfflineMode(OFFLINE_MODE);
+			dumpFile = dumpProcessingController
+					.getMostRecentDump(DumpContentType.JSON);
+		}
+
+		if (dumpFile == null || !dumpFile.isAvailable()) {
+			return null;
+		}
+		lastDumpFileName = dumpFile.getProjectName() + "-"
+				+ dumpFile.getDateStamp();
+		return dumpFile.getDumpFileStream();
+	}
+
 	/**
 	 * Opens a new FileOutputStream for a file of the given name in the example
 	 * output directory ({@link ExampleHelpers#EXAMPLE_OUTPUT_DIRECTORY}). Any
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.util;
+
+/**
+ * Thrown instead of starting a load job while another one is still active
+ */
+public class LoadJobConflictException extends RuntimeException {
+
+  private final WikidataLoadJob activeJob;
+
+  public LoadJobConflictException(WikidataLoadJob activeJob) {
+    super("Wikidata load job " + activeJob.getJobId() + " is already running");
+    this.activeJob = activeJob;
+  }
+
+  public WikidataLoadJob getActiveJob() {
+    return activeJob;
+  }
+}
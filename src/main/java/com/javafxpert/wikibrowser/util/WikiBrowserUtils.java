@@ -19,6 +19,8 @@ import org.apache.commons.codec.binary.Base64;
 import org.springframework.http.HttpHeaders;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created by jamesweaver on 1/4/16.
@@ -73,4 +75,19 @@ public class WikiBrowserUtils {
     }
     return argStr;
   }
+
+  /**
+   * Scrub the list of item IDs input in the same way as scrubItemIds, for passing as a query parameter
+   * @return the distinct item IDs, in the order given
+   */
+  public static List<String> scrubItemIdList(String items) {
+    List<String> itemIds = new ArrayList<>();
+    for (String itemStr : items.split(",")) {
+      itemStr = itemStr.trim().toUpperCase();
+      if (itemStr.length() > 0 && itemStr.substring(0, 1).equals("Q") && !itemIds.contains(itemStr)) {
+        itemIds.add(itemStr);
+      }
+    }
+    return itemIds;
+  }
 }
@@ -0,0 +1,664 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.ConceptMapBatch;
+import com.javafxpert.wikibrowser.model.conceptmap.ItemService;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wikidata.wdtk.datamodel.helpers.Datamodel;
+import org.wikidata.wdtk.datamodel.interfaces.ItemDocument;
+import org.wikidata.wdtk.datamodel.interfaces.ItemIdValue;
+import org.wikidata.wdtk.datamodel.interfaces.Snak;
+import org.wikidata.wdtk.datamodel.interfaces.Statement;
+import org.wikidata.wdtk.datamodel.interfaces.Value;
+import org.wikidata.wdtk.datamodel.json.jackson.JacksonItemDocument;
+import org.wikidata.wdtk.datamodel.json.jackson.JacksonTermedStatementDocument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a Wikidata JSON dump into the graph in a single pass.  A reader thread splits the decompressed dump
+ * into one entity per line, a pool of transform workers parses the lines and extracts items, labels and
+ * item-valued statements, and writer threads merge the extracted entries into large batches for ItemService.
+ * The stages are joined by bounded queues, so a slow graph holds back parsing and a slow parse holds back
+ * reading instead of either piling up in memory.  Given a BulkImportWriter instead of ItemService, the writers
+ * produce files for the offline importer rather than writing to the graph.
+ *
+ * With checkpoints enabled, the ordinal and byte offset up to which every entity has been written are saved
+ * at intervals.  A restarted load skips straight to that offset without parsing anything before it, and the
+ * few entities after it that were written before the restart are merged again, which changes nothing.  A batch
+ * that still fails after its retries doesn't hold the load up: its entities are counted as done so that the
+ * ones after them can be, and the checkpoint is held at the earliest of them, so a restart writes them again.
+ */
+public class WikidataDumpPipeline {
+  private Log log = LogFactory.getLog(getClass());
+
+  private static final DumpEntity END_OF_LINES = new DumpEntity(-1, -1, -1, null);
+  private static final DumpEntity END_OF_BATCHES = new DumpEntity(-1, -1, -1, null);
+  private static final long POLL = 200;
+
+  private final ItemService itemService;
+
+  private final BulkImportWriter bulkImportWriter;
+
+  private final WikiBrowserProperties.DumpLoad settings;
+
+  private final int maxAttempts;
+
+  private final long retryBackoff;
+
+  private final String language;
+
+  private final ObjectReader documentReader;
+
+  private final BlockingQueue<DumpEntity> lineQueue;
+
+  private final BlockingQueue<DumpEntity> batchQueue;
+
+  // Entities completed out of order, by ordinal, until every entity before them is complete as well
+  private final Map<Long, Long> completedAhead = new HashMap<>();
+
+  private long completedOrdinal;
+
+  private long completedOffset;
+
+  // The earliest entity whose batch couldn't be written, and the offset it starts at, or -1 if none
+  private long failedOrdinal = -1;
+
+  private long failedOffset;
+
+  private Path checkpointFile;
+
+  private String dumpName;
+
+  private long lastCheckpoint;
+
+  // The number of entities in the dump, once it has been read to the end
+  private volatile long endOrdinal = -1;
+
+  private final AtomicLong bytesRead = new AtomicLong();
+  private final AtomicLong entitiesRead = new AtomicLong();
+  private final AtomicLong itemsWritten = new AtomicLong();
+  private final AtomicLong relationshipsWritten = new AtomicLong();
+  private final AtomicLong errors = new AtomicLong();
+  private final AtomicLong failedBatches = new AtomicLong();
+  private final AtomicLong failedEntities = new AtomicLong();
+
+  private volatile boolean cancelled;
+
+  private volatile boolean paused;
+
+  private long startOrdinal;
+
+  private long startOffset;
+
+  /**
+   * Writes the dump to the graph.  The writes bypass the graph write filter, which is sized for the items the
+   * service comes across rather than the whole dump, and would only be saturated by it.
+   */
+  public WikidataDumpPipeline(ItemService itemService, WikiBrowserProperties wikiBrowserProperties,
+                              String language) {
+    this(itemService, null, wikiBrowserProperties,
+        wikiBrowserProperties.getGraphWrite().getMaxAttempts(), language);
+  }
+
+  /**
+   * Writes the dump to bulk import files, which are complete once the writer is closed after run returns
+   */
+  public WikidataDumpPipeline(BulkImportWriter bulkImportWriter, WikiBrowserProperties wikiBrowserProperties,
+                              String language) {
+    // A failed write may have left part of a batch in the files, so it is never retried
+    this(null, bulkImportWriter, wikiBrowserProperties, 1, language);
+  }
+
+  private WikidataDumpPipeline(ItemService itemService, BulkImportWriter bulkImportWriter,
+                               WikiBrowserProperties wikiBrowserProperties, int maxAttempts, String language) {
+    this.itemService = itemService;
+    this.bulkImportWriter = bulkImportWriter;
+    this.settings = wikiBrowserProperties.getDumpLoad();
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryBackoff = wikiBrowserProperties.getGraphWrite().getRetryBackoff();
+    this.language = language;
+    this.documentReader = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .readerFor(JacksonTermedStatementDocument.class);
+    this.lineQueue = new ArrayBlockingQueue<>(Math.max(1, settings.getLineQueueCapacity()));
+    this.batchQueue = new ArrayBlockingQueue<>(Math.max(1, settings.getBatchQueueCapacity()));
+  }
+
+  /**
+   * Saves progress to the given file as the load goes, and starts from the progress already saved there if it
+   * was saved for the same dump and language
+   *
+   * @param dumpName identifies the dump, so that a checkpoint isn't applied to a different one
+   * @param resume false to start from the beginning whatever the file holds
+   * @return the checkpoint the load will start from, or null if it starts from the beginning
+   */
+  public DumpCheckpoint enableCheckpoints(Path checkpointFile, String dumpName, boolean resume) {
+    this.checkpointFile = checkpointFile;
+    this.dumpName = dumpName;
+    this.lastCheckpoint = System.currentTimeMillis();
+
+    DumpCheckpoint checkpoint = resume ? DumpCheckpoint.load(checkpointFile) : null;
+    if (checkpoint == null || !checkpoint.appliesTo(dumpName, language)) {
+      return null;
+    }
+    completedOrdinal = checkpoint.getOrdinal();
+    completedOffset = checkpoint.getByteOffset();
+    startOrdinal = completedOrdinal;
+    startOffset = completedOffset;
+    log.info("Dump pipeline resuming from " + checkpoint);
+    return checkpoint;
+  }
+
+  /**
+   * Runs every stage over the dump and returns once all of it has been written, or the load was cancelled
+   *
+   * @param dumpStream the decompressed JSON dump, which is closed when reading finishes
+   */
+  public void run(InputStream dumpStream) throws InterruptedException {
+    int transformCount = Math.max(1, settings.getTransformWorkers());
+    int writerCount = Math.max(1, settings.getWriterThreads());
+    log.info("Dump pipeline starting with " + transformCount + " transform workers and " + writerCount +
+        " writer threads");
+
+    List<Thread> transformers = new ArrayList<>();
+    for (int i = 1; i <= transformCount; i++) {
+      transformers.add(start(this::transform, "dump-transform-" + i));
+    }
+    List<Thread> writers = new ArrayList<>();
+    for (int i = 1; i <= writerCount; i++) {
+      writers.add(start(this::write, "dump-write-" + i));
+    }
+
+    try {
+      read(dumpStream);
+    }
+    finally {
+      // Each worker of a stage stops at its own end marker, then the next stage is told to stop
+      for (int i = 0; i < transformCount; i++) {
+        putUnlessCancelled(lineQueue, END_OF_LINES);
+      }
+      for (Thread transformer : transformers) {
+        transformer.join();
+      }
+      for (int i = 0; i < writerCount; i++) {
+        putUnlessCancelled(batchQueue, END_OF_BATCHES);
+      }
+      for (Thread writer : writers) {
+        writer.join();
+      }
+      if (checkpointFile != null) {
+        finishCheckpoints();
+      }
+    }
+
+    log.info("Dump pipeline " + (cancelled ? "cancelled" : "finished") + " after " + entitiesRead.get() +
+        " entities, " + getItemsWritten() + " items and " + getRelationshipsWritten() + " relationships written, " +
+        errors.get() + " errors" + (failedBatches.get() > 0 ? ", " + failedBatches.get() + " batches of " +
+        failedEntities.get() + " entities not written" : ""));
+  }
+
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Stops reading the dump until resumed.  Entities already read carry on through the other stages.
+   */
+  public void pause() {
+    paused = true;
+  }
+
+  public void resume() {
+    paused = false;
+  }
+
+  public boolean isPaused() {
+    return paused;
+  }
+
+  private Thread start(Runnable stage, String name) {
+    Thread thread = new Thread(stage, name);
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  /**
+   * Splits the dump into lines itself rather than through a Reader, so that the byte offset at the end of each
+   * entity is known exactly
+   */
+  private void read(InputStream dumpStream) throws InterruptedException {
+    long ordinal = completedOrdinal;
+    long position = completedOffset;
+    long lineStart = position;
+    try (InputStream in = dumpStream) {
+      skipFully(in, position);
+      bytesRead.set(position);
+
+      byte[] buffer = new byte[1 << 16];
+      byte[] line = new byte[1 << 16];
+      int lineLength = 0;
+      int n;
+      while (!cancelled && (n = in.read(buffer)) > 0) {
+        int start = 0;
+        for (int i = 0; i < n; i++) {
+          if (buffer[i] != '\n') {
+            continue;
+          }
+          line = append(line, lineLength, buffer, start, i - start);
+          lineLength += i - start;
+          start = i + 1;
+          String json = entityJson(line, lineLength);
+          lineLength = 0;
+          while (paused && !cancelled) {
+            Thread.sleep(POLL);
+          }
+          if (json != null &&
+              !putUnlessCancelled(lineQueue, new DumpEntity(ordinal++, lineStart, position + start, json))) {
+            return;
+          }
+          lineStart = position + start;
+        }
+        line = append(line, lineLength, buffer, start, n - start);
+        lineLength += n - start;
+        position += n;
+        bytesRead.set(position);
+      }
+
+      String json = entityJson(line, lineLength);
+      if (json != null && !putUnlessCancelled(lineQueue, new DumpEntity(ordinal++, lineStart, position, json))) {
+        return;
+      }
+      if (!cancelled) {
+        endOrdinal = ordinal;
+      }
+    }
+    catch (IOException e) {
+      e.printStackTrace();
+      log.info("Caught exception when reading Wikidata dump " + e);
+      errors.incrementAndGet();
+    }
+  }
+
+  private void skipFully(InputStream in, long count) throws IOException {
+    while (count > 0) {
+      long skipped = in.skip(count);
+      if (skipped <= 0) {
+        if (in.read() < 0) {
+          throw new IOException("Wikidata dump ends before checkpoint offset");
+        }
+        skipped = 1;
+      }
+      count -= skipped;
+    }
+  }
+
+  private static byte[] append(byte[] line, int lineLength, byte[] buffer, int start, int length) {
+    if (lineLength + length > line.length) {
+      line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+    }
+    System.arraycopy(buffer, start, line, lineLength, length);
+    return line;
+  }
+
+  /**
+   * The dump is one JSON array with one entity per line, each but the last followed by a comma
+   *
+   * @return the entity on the line, or null for the lines that open and close the array
+   */
+  private static String entityJson(byte[] line, int length) {
+    while (length > 0 && (line[length - 1] == ',' || Character.isWhitespace(line[length - 1]))) {
+      length--;
+    }
+    return length <= 1 ? null : new String(line, 0, length, StandardCharsets.UTF_8);
+  }
+
+  private void transform() {
+    try {
+      while (!cancelled) {
+        DumpEntity entity = lineQueue.poll(POLL, TimeUnit.MILLISECONDS);
+        if (entity == null) {
+          continue;
+        }
+        if (entity == END_OF_LINES) {
+          return;
+        }
+        entitiesRead.incrementAndGet();
+
+        try {
+          JacksonTermedStatementDocument document = documentReader.readValue(entity.json);
+          if (document instanceof JacksonItemDocument) {
+            document.setSiteIri(Datamodel.SITE_WIKIDATA);
+            entity.batch = extract((ItemDocument) document, language);
+          }
+        }
+        catch (Exception e) {
+          log.info("Caught exception when parsing Wikidata dump entity " + e);
+          errors.incrementAndGet();
+        }
+        entity.json = null;
+
+        if (entity.batch == null) {
+          complete(entity);
+        }
+        else if (!putUnlessCancelled(batchQueue, entity)) {
+          return;
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Extracts an item with a label in the given language along with its item-valued statements.  The targets
+   * of the statements are included without a title so that each relationship has both ends in the graph
+   * however the dump happens to be ordered; their titles are filled in when their own entities are read.
+   * Targets that never get a title have no label in the language, and are removed once the whole dump has
+   * been loaded, see ItemServiceImpl.removeUntitledItems.
+   *
+   * @return null if the item has no label in the language
+   */
+  static ConceptMapBatch extract(ItemDocument itemDocument, String language) {
+    String itemId = itemDocument.getItemId().getId();
+    String itemLabel = itemDocument.findLabel(language);
+    if (itemId == null || itemId.length() < 2 || !itemId.substring(0, 1).equalsIgnoreCase("Q") ||
+        itemLabel == null || itemLabel.length() == 0) {
+      return null;
+    }
+
+    ConceptMapBatch batch = new ConceptMapBatch();
+    batch.addItem(itemId, itemLabel);
+
+    Iterator<Statement> statementsIterator = itemDocument.getAllStatements();
+    while (statementsIterator.hasNext()) {
+      Snak snak = statementsIterator.next().getClaim().getMainSnak();
+      String propId = snak.getPropertyId().getId();
+      Value value = snak.getValue();
+      if (value instanceof ItemIdValue && propId != null && propId.length() > 0) {
+        String valueItemId = ((ItemIdValue) value).getId();
+        if (valueItemId != null && valueItemId.length() >= 2) {
+          batch.addItem(valueItemId);
+          batch.addRelationship(itemId, valueItemId, propId, propId.toLowerCase());
+        }
+      }
+    }
+    return batch;
+  }
+
+  private void write() {
+    ConceptMapBatch pending = new ConceptMapBatch();
+    List<DumpEntity> pendingEntities = new ArrayList<>();
+    try {
+      while (!cancelled) {
+        DumpEntity entity = batchQueue.poll(POLL, TimeUnit.MILLISECONDS);
+        if (entity == null) {
+          continue;
+        }
+        if (entity == END_OF_BATCHES) {
+          break;
+        }
+        pending.merge(entity.batch);
+        entity.batch = null;
+        pendingEntities.add(entity);
+        if (pending.size() >= settings.getFlushEntries()) {
+          flush(pending, pendingEntities);
+          pending = new ConceptMapBatch();
+          pendingEntities = new ArrayList<>();
+        }
+      }
+      if (!cancelled) {
+        flush(pending, pendingEntities);
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Writes the merged batch and marks its entities complete.  Entities whose batch couldn't be written are
+   * recorded as failed, so the checkpoint stays before them and a restart writes them again.
+   */
+  private void flush(ConceptMapBatch pending, List<DumpEntity> entities) throws InterruptedException {
+    if (!write(pending)) {
+      fail(entities);
+    }
+    for (DumpEntity entity : entities) {
+      complete(entity);
+    }
+    maybeCheckpoint();
+  }
+
+  private void fail(List<DumpEntity> entities) {
+    failedBatches.incrementAndGet();
+    failedEntities.addAndGet(entities.size());
+    synchronized (completedAhead) {
+      for (DumpEntity entity : entities) {
+        if (failedOrdinal < 0 || entity.ordinal < failedOrdinal) {
+          failedOrdinal = entity.ordinal;
+          failedOffset = entity.startOffset;
+        }
+      }
+    }
+  }
+
+  private boolean write(ConceptMapBatch batch) throws InterruptedException {
+    if (batch.isEmpty()) {
+      return true;
+    }
+
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      try {
+        if (bulkImportWriter != null) {
+          bulkImportWriter.write(batch);
+        }
+        else {
+          itemService.load(batch);
+          itemsWritten.addAndGet(batch.getItems().size());
+          relationshipsWritten.addAndGet(batch.getRelationships().size());
+        }
+        return true;
+      }
+      catch (Exception e) {
+        log.info("Caught exception when writing " + batch + " from the Wikidata dump, attempt " + attempt + ": " + e);
+        if (attempt < maxAttempts) {
+          Thread.sleep(retryBackoff * attempt);
+        }
+      }
+    }
+    errors.incrementAndGet();
+    return false;
+  }
+
+  private void complete(DumpEntity entity) {
+    synchronized (completedAhead) {
+      if (entity.ordinal != completedOrdinal) {
+        completedAhead.put(entity.ordinal, entity.endOffset);
+        return;
+      }
+      completedOrdinal++;
+      completedOffset = entity.endOffset;
+      Long endOffset;
+      while ((endOffset = completedAhead.remove(completedOrdinal)) != null) {
+        completedOrdinal++;
+        completedOffset = endOffset;
+      }
+    }
+  }
+
+  private void maybeCheckpoint() {
+    if (checkpointFile == null) {
+      return;
+    }
+    synchronized (completedAhead) {
+      long now = System.currentTimeMillis();
+      if (now - lastCheckpoint < settings.getCheckpointInterval()) {
+        return;
+      }
+      lastCheckpoint = now;
+      saveCheckpoint();
+    }
+  }
+
+  /**
+   * Removes the checkpoint once the whole dump has been written, otherwise saves where the load got to
+   */
+  private void finishCheckpoints() {
+    synchronized (completedAhead) {
+      if (!cancelled && completedOrdinal == endOrdinal && failedOrdinal < 0) {
+        try {
+          Files.deleteIfExists(checkpointFile);
+        }
+        catch (IOException e) {
+          e.printStackTrace();
+          log.info("Caught exception when removing dump checkpoint " + e);
+        }
+      }
+      else {
+        saveCheckpoint();
+      }
+    }
+  }
+
+  private void saveCheckpoint() {
+    DumpCheckpoint checkpoint = failedOrdinal >= 0 ?
+        new DumpCheckpoint(dumpName, language, failedOrdinal, failedOffset) :
+        new DumpCheckpoint(dumpName, language, completedOrdinal, completedOffset);
+    try {
+      checkpoint.save(checkpointFile);
+      log.info("Dump pipeline checkpoint saved, " + checkpoint);
+    }
+    catch (IOException e) {
+      e.printStackTrace();
+      log.info("Caught exception when saving dump checkpoint " + e);
+    }
+  }
+
+  /**
+   * Waits for room in the queue, giving up if the load is cancelled meanwhile
+   */
+  private <T> boolean putUnlessCancelled(BlockingQueue<T> queue, T entry) throws InterruptedException {
+    while (!cancelled) {
+      if (queue.offer(entry, POLL, TimeUnit.MILLISECONDS)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public long getBytesRead() {
+    return bytesRead.get();
+  }
+
+  public long getEntitiesRead() {
+    return entitiesRead.get();
+  }
+
+  /**
+   * @return the ordinal of the first entity read, which is past the start of the dump when resuming
+   */
+  public long getStartOrdinal() {
+    return startOrdinal;
+  }
+
+  /**
+   * @return the byte offset reading started at, which bytesRead includes
+   */
+  public long getStartOffset() {
+    return startOffset;
+  }
+
+  public long getItemsWritten() {
+    return bulkImportWriter != null ? bulkImportWriter.getNodesWritten() : itemsWritten.get();
+  }
+
+  public long getRelationshipsWritten() {
+    return bulkImportWriter != null ? bulkImportWriter.getRelationshipsWritten() : relationshipsWritten.get();
+  }
+
+  public long getErrors() {
+    return errors.get();
+  }
+
+  /**
+   * @return true if the dump was read to its end, rather than the pass stopping at a read error or a cancel
+   */
+  public boolean hasReachedEnd() {
+    return endOrdinal >= 0;
+  }
+
+  /**
+   * @return the number of batches that couldn't be written even after retrying
+   */
+  public long getFailedBatches() {
+    return failedBatches.get();
+  }
+
+  public long getFailedEntities() {
+    return failedEntities.get();
+  }
+
+  public int getLineQueueDepth() {
+    return lineQueue.size();
+  }
+
+  public int getBatchQueueDepth() {
+    return batchQueue.size();
+  }
+
+  /**
+   * An entity on its way through the pipeline, as JSON and then as the batch extracted from it
+   */
+  private static class DumpEntity {
+
+    private final long ordinal;
+    private final long startOffset;
+    private final long endOffset;
+    private String json;
+    private ConceptMapBatch batch;
+
+    DumpEntity(long ordinal, long startOffset, long endOffset, String json) {
+      this.ordinal = ordinal;
+      this.startOffset = startOffset;
+      this.endOffset = endOffset;
+      this.json = json;
+    }
+  }
+}
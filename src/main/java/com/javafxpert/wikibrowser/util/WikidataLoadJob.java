@@ -0,0 +1,292 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.util;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.ItemServiceImpl;
+import com.javafxpert.wikibrowser.model.conceptmap.PropertyCatalog;
+import com.javafxpert.wikibrowser.model.loadjob.LoadJobStatusNear;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+
+/**
+ * One run of a WikidataDumpPipeline over the Wikidata dump, either into the graph or into bulk import files,
+ * which can be paused, resumed and cancelled while it runs on its own thread
+ */
+public class WikidataLoadJob implements Runnable {
+  private Log log = LogFactory.getLog(getClass());
+
+  public enum State {
+    STARTING,
+    RUNNING,
+    PAUSED,
+    CANCELLED,
+    FINISHED,
+    FAILED
+  }
+
+  private final long jobId;
+
+  private final String language;
+
+  private final boolean bulkImport;
+
+  private final boolean resume;
+
+  private final ItemServiceImpl itemService;
+
+  private final PropertyCatalog propertyCatalog;
+
+  private final WikiBrowserProperties wikiBrowserProperties;
+
+  private final long startedAt = System.currentTimeMillis();
+
+  private volatile WikidataDumpPipeline pipeline;
+
+  private volatile State state = State.STARTING;
+
+  private volatile String message = "Opening Wikidata dump";
+
+  private volatile boolean cancelRequested;
+
+  private long pausedSince;
+
+  private long pausedMillis;
+
+  private long finishedAt;
+
+  public WikidataLoadJob(long jobId, String language, boolean bulkImport, boolean resume,
+                         ItemServiceImpl itemService, PropertyCatalog propertyCatalog,
+                         WikiBrowserProperties wikiBrowserProperties) {
+    this.jobId = jobId;
+    this.language = language;
+    this.bulkImport = bulkImport;
+    this.resume = resume;
+    this.itemService = itemService;
+    this.propertyCatalog = propertyCatalog;
+    this.wikiBrowserProperties = wikiBrowserProperties;
+  }
+
+  @Override
+  public void run() {
+    log.info("********* Load job " + jobId + " will begin processing all items and relationships, language=" +
+        language + ", bulkImport=" + bulkImport + " **********");
+    WikiBrowserProperties.DumpLoad dumpLoad = wikiBrowserProperties.getDumpLoad();
+    BulkImportWriter bulkImportWriter = null;
+    try (InputStream dumpStream = ExampleHelpers.openWikidataJsonDump(dumpLoad.getDumpFile())) {
+      if (dumpStream == null) {
+        finish(State.FAILED, "No Wikidata JSON dump available");
+        return;
+      }
+
+      WikidataDumpPipeline pipeline;
+      if (bulkImport) {
+        bulkImportWriter = new BulkImportWriter(dumpLoad.getBulkImportDirectory(), propertyCatalog,
+            dumpLoad.getBulkImportShardRows());
+        pipeline = new WikidataDumpPipeline(bulkImportWriter, wikiBrowserProperties, language);
+      }
+      else {
+        itemService.createItemConstraint();
+        pipeline = new WikidataDumpPipeline(itemService, wikiBrowserProperties, language);
+        pipeline.enableCheckpoints(Paths.get(dumpLoad.getCheckpointFile()), ExampleHelpers.getLastDumpFileName(),
+            resume);
+      }
+
+      synchronized (this) {
+        this.pipeline = pipeline;
+        if (cancelRequested) {
+          pipeline.cancel();
+        }
+        else {
+          state = State.RUNNING;
+          message = "Loading " + ExampleHelpers.getLastDumpFileName();
+        }
+      }
+      pipeline.run(dumpStream);
+
+      if (cancelRequested) {
+        finish(State.CANCELLED, "Cancelled");
+        return;
+      }
+      if (bulkImportWriter != null) {
+        bulkImportWriter.close();
+      }
+      String counts = pipeline.getEntitiesRead() + " entities read, " + pipeline.getItemsWritten() + " items and " +
+          pipeline.getRelationshipsWritten() + " relationships written";
+      if (!pipeline.hasReachedEnd()) {
+        finish(State.FAILED, "Failed, the dump couldn't be read to the end, " + counts);
+      }
+      else if (pipeline.getFailedBatches() > 0) {
+        finish(State.FAILED, "Failed, " + pipeline.getFailedBatches() + " batches of " +
+            pipeline.getFailedEntities() + " entities couldn't be written, " + counts +
+            (bulkImport ? "" : "; resume the load to write them"));
+      }
+      else if (bulkImportWriter != null) {
+        finish(State.FINISHED, "Finished, " + counts + ", import with: " + bulkImportWriter.importCommand());
+      }
+      else {
+        message = "Removing items without a title";
+        long removed = itemService.removeUntitledItems(dumpLoad.getCleanupPageSize(), () -> cancelRequested);
+        if (cancelRequested) {
+          finish(State.CANCELLED, "Cancelled while removing items without a title, " + counts);
+          return;
+        }
+        finish(State.FINISHED, "Finished, " + counts + ", " + removed + " items without a title removed");
+      }
+    }
+    catch (IOException e) {
+      e.printStackTrace();
+      log.info("Caught exception when loading Wikidata dump " + e);
+      finish(State.FAILED, "Failed: " + e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      finish(State.CANCELLED, "Interrupted");
+    }
+    catch (RuntimeException e) {
+      e.printStackTrace();
+      log.info("Caught exception when loading Wikidata dump " + e);
+      finish(State.FAILED, "Failed: " + e);
+    }
+    finally {
+      // A load that was cancelled or failed still has its shards open
+      if (bulkImportWriter != null) {
+        try {
+          bulkImportWriter.closeShards();
+        }
+        catch (IOException e) {
+          log.info("Caught exception when closing bulk import files " + e);
+        }
+      }
+    }
+  }
+
+  private synchronized void finish(State state, String message) {
+    if (this.state == State.PAUSED) {
+      pausedMillis += System.currentTimeMillis() - pausedSince;
+    }
+    finishedAt = System.currentTimeMillis();
+    this.state = state;
+    this.message = message;
+    log.info("Load job " + jobId + " " + message);
+  }
+
+  /**
+   * @return false if the job isn't running
+   */
+  public synchronized boolean pause() {
+    if (state != State.RUNNING) {
+      return false;
+    }
+    pipeline.pause();
+    pausedSince = System.currentTimeMillis();
+    state = State.PAUSED;
+    return true;
+  }
+
+  /**
+   * @return false if the job isn't paused
+   */
+  public synchronized boolean resume() {
+    if (state != State.PAUSED) {
+      return false;
+    }
+    pipeline.resume();
+    pausedMillis += System.currentTimeMillis() - pausedSince;
+    state = State.RUNNING;
+    return true;
+  }
+
+  /**
+   * Stops the job, saving a checkpoint of a graph load so that a later job can resume it
+   *
+   * @return false if the job has already ended
+   */
+  public synchronized boolean cancel() {
+    if (!isActive()) {
+      return false;
+    }
+    cancelRequested = true;
+    message = "Cancelling";
+    if (pipeline != null) {
+      pipeline.cancel();
+    }
+    return true;
+  }
+
+  public boolean isActive() {
+    State current = state;
+    return current == State.STARTING || current == State.RUNNING || current == State.PAUSED;
+  }
+
+  public long getJobId() {
+    return jobId;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public synchronized LoadJobStatusNear getStatus() {
+    WikiBrowserProperties.DumpLoad dumpLoad = wikiBrowserProperties.getDumpLoad();
+    long now = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+    long activeMillis = now - startedAt - pausedMillis - (state == State.PAUSED ? now - pausedSince : 0);
+    double activeSeconds = Math.max(activeMillis, 1) / 1000.0;
+
+    LoadJobStatusNear status = new LoadJobStatusNear();
+    status.setJobId(jobId);
+    status.setProcess(bulkImport ? "bulkimport" : "all");
+    status.setLang(language);
+    status.setState(state.name());
+    status.setMessage(message);
+    status.setStartedAt(startedAt);
+    status.setElapsedSeconds((now - startedAt) / 1000);
+    status.setLineQueueCapacity(dumpLoad.getLineQueueCapacity());
+    status.setBatchQueueCapacity(dumpLoad.getBatchQueueCapacity());
+
+    WikidataDumpPipeline pipeline = this.pipeline;
+    if (pipeline == null) {
+      return status;
+    }
+    long entitiesRead = pipeline.getEntitiesRead();
+    status.setStartEntity(pipeline.getStartOrdinal());
+    status.setEntitiesRead(entitiesRead);
+    status.setEntitiesPerSecond(entitiesRead / activeSeconds);
+    status.setBytesRead(pipeline.getBytesRead());
+    // A resumed load starts reading at its checkpoint's offset, which this job didn't spend any time reading
+    status.setBytesPerSecond((pipeline.getBytesRead() - pipeline.getStartOffset()) / activeSeconds);
+    status.setItemsWritten(pipeline.getItemsWritten());
+    status.setRelationshipsWritten(pipeline.getRelationshipsWritten());
+    status.setErrors(pipeline.getErrors());
+    status.setLineQueueDepth(pipeline.getLineQueueDepth());
+    status.setBatchQueueDepth(pipeline.getBatchQueueDepth());
+
+    // The decompressed size of the dump isn't known up front, so the estimate goes by its expected entity count
+    long remaining = dumpLoad.getExpectedEntities() - pipeline.getStartOrdinal() - entitiesRead;
+    if (state == State.FINISHED) {
+      status.setEtaSeconds(0);
+    }
+    else if (isActive() && entitiesRead > 0 && remaining > 0) {
+      status.setEtaSeconds((long) (remaining / status.getEntitiesPerSecond()));
+    }
+    return status;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.javafxpert.wikibrowser.util;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.ItemServiceImpl;
+import com.javafxpert.wikibrowser.model.conceptmap.PropertyCatalog;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs Wikidata dump loads as background jobs, one at a time, and keeps the most recent ones around so that
+ * their outcome can still be looked up once they have ended
+ */
+@Component
+public class WikidataLoadJobs {
+  private Log log = LogFactory.getLog(getClass());
+
+  private static final int MAX_ENDED_JOBS = 20;
+  private static final long SHUTDOWN_WAIT = 30000;
+
+  private final WikiBrowserProperties wikiBrowserProperties;
+
+  private final ItemServiceImpl itemService;
+
+  private final PropertyCatalog propertyCatalog;
+
+  private final Map<Long, WikidataLoadJob> jobs = new LinkedHashMap<>();
+
+  private final Map<Long, Thread> threads = new LinkedHashMap<>();
+
+  private long jobSequence;
+
+  @Autowired
+  public WikidataLoadJobs(WikiBrowserProperties wikiBrowserProperties, ItemServiceImpl itemService,
+                          PropertyCatalog propertyCatalog) {
+    this.wikiBrowserProperties = wikiBrowserProperties;
+    this.itemService = itemService;
+    this.propertyCatalog = propertyCatalog;
+  }
+
+  /**
+   * @return the job started
+   * @throws LoadJobConflictException if another job is still active
+   */
+  public synchronized WikidataLoadJob start(String language, boolean bulkImport, boolean resume) {
+    WikidataLoadJob active = getActive();
+    if (active != null) {
+      throw new LoadJobConflictException(active);
+    }
+    removeEndedJobs();
+
+    WikidataLoadJob job = new WikidataLoadJob(++jobSequence, language, bulkImport, resume, itemService,
+        propertyCatalog, wikiBrowserProperties);
+    Thread thread = new Thread(job, "wikidata-load-" + job.getJobId());
+    thread.setDaemon(true);
+    jobs.put(job.getJobId(), job);
+    threads.put(job.getJobId(), thread);
+    thread.start();
+    return job;
+  }
+
+  private void removeEndedJobs() {
+    int ended = 0;
+    for (WikidataLoadJob job : jobs.values()) {
+      if (!job.isActive()) {
+        ended++;
+      }
+    }
+    Iterator<WikidataLoadJob> iterator = jobs.values().iterator();
+    while (ended >= MAX_ENDED_JOBS && iterator.hasNext()) {
+      WikidataLoadJob job = iterator.next();
+      if (!job.isActive()) {
+        iterator.remove();
+        threads.remove(job.getJobId());
+        ended--;
+      }
+    }
+  }
+
+  public synchronized WikidataLoadJob get(long jobId) {
+    return jobs.get(jobId);
+  }
+
+  public synchronized WikidataLoadJob getActive() {
+    for (WikidataLoadJob job : jobs.values()) {
+      if (job.isActive()) {
+        return job;
+      }
+    }
+    return null;
+  }
+
+  public synchronized List<WikidataLoadJob> list() {
+    return new ArrayList<>(jobs.values());
+  }
+
+  /**
+   * Cancels the active job, giving it a moment to save its checkpoint
+   */
+  @PreDestroy
+  public void close() {
+    WikidataLoadJob job = getActive();
+    if (job == null || !job.cancel()) {
+      return;
+    }
+
+    Thread thread;
+    synchronized (this) {
+      thread = threads.get(job.getJobId());
+    }
+    try {
+      thread.join(SHUTDOWN_WAIT);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.info("Load job " + job.getJobId() + " " + job.getState() + " at shutdown");
+  }
+}
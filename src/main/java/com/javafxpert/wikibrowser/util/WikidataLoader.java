@@ -24,8 +24,8 @@ import com.javafxpert.wikibrowser.model.claimsresponse.WikidataProperty;
 import com.javafxpert.wikibrowser.model.claimssparqlresponse.Bindings;
 import com.javafxpert.wikibrowser.model.claimssparqlresponse.ClaimsSparqlResponse;
 import com.javafxpert.wikibrowser.model.claimssparqlresponse.Results;
-import com.javafxpert.wikibrowser.model.conceptmap.ItemRepository;
 import com.javafxpert.wikibrowser.model.conceptmap.ItemServiceImpl;
+import com.javafxpert.wikibrowser.model.loadjob.LoadJobStatusNear;
 import com.javafxpert.wikibrowser.model.locator.ItemInfoResponse;
 import com.javafxpert.wikibrowser.model.traversalresponse.TraversalBindingsFar;
 import com.javafxpert.wikibrowser.model.traversalresponse.TraversalResponse;
@@ -37,6 +37,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -45,7 +46,10 @@ import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Created by jamesweaver on 10/13/15.
@@ -60,13 +64,14 @@ public class WikidataLoader {
 
   private final ItemServiceImpl itemService;
 
-  private ItemRepository itemRepository;
+  private final WikidataLoadJobs wikidataLoadJobs;
 
   @Autowired
-  public WikidataLoader(WikiBrowserProperties wikiBrowserProperties, ItemServiceImpl itemService) {
+  public WikidataLoader(WikiBrowserProperties wikiBrowserProperties, ItemServiceImpl itemService,
+                        WikidataLoadJobs wikidataLoadJobs) {
     this.wikiBrowserProperties = wikiBrowserProperties;
     this.itemService = itemService;
-    itemRepository = itemService.getItemRepository();
+    this.wikidataLoadJobs = wikidataLoadJobs;
   }
 
   /*
@@ -76,15 +81,40 @@ public class WikidataLoader {
    * @param onesdigit Subset (ending in a given digit) of the Wikidata items to be processed
    * @param startnum ID number (without the leading Q) of the item to begin processing
    *     IMPORTANT NOTE: The item are *not* in numeric order in the dump file
-   * @param process Either "items" or "relationships".  Items must be processed successfully before processing relationships
+   * @param process Either "items" or "relationships".  Items must be processed successfully before processing relationships.
+   *     Alternatively "all" loads items and relationships of every item in one parallel pass over the dump, ignoring
+   *     onesdigit and startnum, and "bulkimport" makes the same pass but writes gzipped CSV files for neo4j-import
+   *     to conceptmap.dump-load.bulk-import-directory instead of writing to the graph.  Both run as a background job
+   *     whose id is returned, see /wikidataload/jobs, and only when conceptmap.dump-load.enabled is set
+   * @param resume For process "all", whether to carry on from the checkpoint left by an unfinished load of the same dump
    */
   @RequestMapping(value = "/wikidataload", method = RequestMethod.GET, produces = MediaType.TEXT_PLAIN_VALUE)
-  public ResponseEntity<Object> loadWikidata(@RequestParam(value = "onesdigit") String onesDigit,
+  public ResponseEntity<Object> loadWikidata(@RequestParam(value = "onesdigit", defaultValue="0") String onesDigit,
                                              @RequestParam(value = "startnum", defaultValue="1") String startNum,
                                              @RequestParam(value = "process", defaultValue="items") String processType,
-                                             @RequestParam(value = "lang", defaultValue="en") String lang) {
+                                             @RequestParam(value = "lang", defaultValue="en") String lang,
+                                             @RequestParam(value = "resume", defaultValue="true") boolean resume) {
 
     String language = wikiBrowserProperties.computeLang(lang);
+
+    if (processType.equalsIgnoreCase("all") || processType.equalsIgnoreCase("bulkimport")) {
+      if (!wikiBrowserProperties.getDumpLoad().isEnabled()) {
+        log.info("Rejected Wikidata load, conceptmap.dump-load.enabled is not set");
+        return new ResponseEntity<>("Wikidata dump loads are disabled", HttpStatus.FORBIDDEN);
+      }
+
+      WikidataLoadJob job;
+      try {
+        job = wikidataLoadJobs.start(language, processType.equalsIgnoreCase("bulkimport"), resume);
+      }
+      catch (LoadJobConflictException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+      }
+      String status = "Started Wikidata load job " + job.getJobId();
+      log.info(status);
+      return new ResponseEntity<>(status, HttpStatus.OK);
+    }
+
     String status = "OK";
     String userDir = System.getProperty("user.dir");
 
@@ -100,7 +130,7 @@ public class WikidataLoader {
       if (userDir.equals("/Users/jamesweaver/wikidata-stuff/wikidata-loader")) {
       //if (userDir.equals("/Users/jamesweaver/spring-guides/wikibrowser-service")) {
         log.info("********* Will begin processing, onesDigit=" + onesDigit + ", onesDigitInt =" + onesDigitInt + ", startNumInt =" + startNumInt + ", processType =" + processType + "**********");
-        WikidataNeo4jProcessor wikidataNeo4jProcessor = new WikidataNeo4jProcessor(itemRepository, language, onesDigitInt, startNumInt, processType);
+        WikidataNeo4jProcessor wikidataNeo4jProcessor = new WikidataNeo4jProcessor(itemService, language, onesDigitInt, startNumInt, processType);
         ExampleHelpers
             .processEntitiesFromWikidataDump(wikidataNeo4jProcessor);
       }
@@ -118,5 +148,57 @@ public class WikidataLoader {
         .orElse(new ResponseEntity<>("Wikidata load unsuccessful", HttpStatus.INTERNAL_SERVER_ERROR));
 
   }
-}
 
+  /**
+   * Reports the progress of the load jobs that are running or have recently ended
+   */
+  @RequestMapping(value = "/wikidataload/jobs", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Object> listLoadJobs() {
+    List<LoadJobStatusNear> statuses = wikidataLoadJobs.list().stream()
+        .map(WikidataLoadJob::getStatus)
+        .collect(Collectors.toList());
+    return new ResponseEntity<>((Object) statuses, HttpStatus.OK);
+  }
+
+  @RequestMapping(value = "/wikidataload/jobs/{jobId}", method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Object> getLoadJob(@PathVariable("jobId") long jobId) {
+    return controlLoadJob(jobId, job -> true);
+  }
+
+  /**
+   * Stops reading the dump until the job is resumed
+   */
+  @RequestMapping(value = "/wikidataload/jobs/{jobId}/pause", method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Object> pauseLoadJob(@PathVariable("jobId") long jobId) {
+    return controlLoadJob(jobId, WikidataLoadJob::pause);
+  }
+
+  @RequestMapping(value = "/wikidataload/jobs/{jobId}/resume", method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Object> resumeLoadJob(@PathVariable("jobId") long jobId) {
+    return controlLoadJob(jobId, WikidataLoadJob::resume);
+  }
+
+  /**
+   * Cancels the job.  A load into the graph leaves a checkpoint that a later job with resume=true carries on from.
+   */
+  @RequestMapping(value = "/wikidataload/jobs/{jobId}/cancel", method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Object> cancelLoadJob(@PathVariable("jobId") long jobId) {
+    return controlLoadJob(jobId, WikidataLoadJob::cancel);
+  }
+
+  /**
+   * @param action applied to the job, returning false if the job isn't in a state it applies to
+   */
+  private ResponseEntity<Object> controlLoadJob(long jobId, Predicate<WikidataLoadJob> action) {
+    WikidataLoadJob job = wikidataLoadJobs.get(jobId);
+    if (job == null) {
+      return new ResponseEntity<>("No Wikidata load job " + jobId, HttpStatus.NOT_FOUND);
+    }
+    HttpStatus httpStatus = action.test(job) ? HttpStatus.OK : HttpStatus.CONFLICT;
+    return new ResponseEntity<>((Object) job.getStatus(), httpStatus);
+  }
+}
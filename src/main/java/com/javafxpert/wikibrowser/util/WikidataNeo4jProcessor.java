@@ -21,7 +21,7 @@ package com.javafxpert.wikibrowser.util;
  */
 
 import com.javafxpert.wikibrowser.WikiBrowserProperties;
-import com.javafxpert.wikibrowser.model.conceptmap.ItemRepository;
+import com.javafxpert.wikibrowser.model.conceptmap.ItemService;
 import com.javafxpert.wikibrowser.model.conceptmap.ItemServiceImpl;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -43,7 +43,7 @@ import java.util.Map.Entry;
 class WikidataNeo4jProcessor implements EntityDocumentProcessor {
 
 	private Log log = LogFactory.getLog(getClass());
-	private ItemRepository itemRepository;
+	private ItemService itemService;
 	private String language;
 	private int onesDigitInt;
 	private int startNum;
@@ -52,8 +52,8 @@ class WikidataNeo4jProcessor implements EntityDocumentProcessor {
 	private boolean startNumReached = false;
 
 
-	public WikidataNeo4jProcessor(ItemRepository itemRepository, String language, int onesDigitInt, int startNum, String processType) {
-		this.itemRepository = itemRepository;
+	public WikidataNeo4jProcessor(ItemService itemService, String language, int onesDigitInt, int startNum, String processType) {
+		this.itemService = itemService;
 		this.language = language;
 		this.onesDigitInt = onesDigitInt;
 		this.startNum = startNum;
@@ -81,12 +81,13 @@ class WikidataNeo4jProcessor implements EntityDocumentProcessor {
 					//log.info("itemId: " + itemId);
 					if (!processType.equalsIgnoreCase("relationships")) {
 
-						log.info("====== itemRepository.addItem: " + itemId);
+						log.info("====== itemService.addItem: " + itemId);
 
+						// Skips items already written, e.g. by an earlier run over the same dump
 						try {
-							itemRepository.addItem(itemId, itemLabel);
+							itemService.addItem(itemId, itemLabel);
 						} catch (Exception e) {
-							log.error("!!!!!!!!! itemRepository.addItem: " + itemId + ", " + itemLabel + "FAILED!!!!!!");
+							log.error("!!!!!!!!! itemService.addItem: " + itemId + ", " + itemLabel + "FAILED!!!!!!");
 						}
 					}
 					else {
@@ -104,22 +105,24 @@ class WikidataNeo4jProcessor implements EntityDocumentProcessor {
 										propId != null && propId.length() > 0 &&
 										propLabel != null && propLabel.length() > 0) {
 
-									//TODO: Comment next five lines if all items already exist in DB. Also when using, investigate if item label is available
+									//TODO: Comment next seven lines if all items already exist in DB. Also when using, investigate if item label is available
 									/*
 									try {
-										itemRepository.addItem(valueItemId);
+										ConceptMapBatch itemBatch = new ConceptMapBatch();
+										itemBatch.addItem(valueItemId);
+										itemService.write(itemBatch);
 									}
 									catch (Exception e) {
-										log.error("!!!!!!!!! itemRepository.addItem: " + valueItemId + "FAILED!!!!!!");
+										log.error("!!!!!!!!! itemService.write: " + valueItemId + "FAILED!!!!!!");
 									}
 									*/
 
-									log.info("------ itemRepository.addRelationship: " + itemId + ", " +
+									log.info("------ itemService.addRelationship: " + itemId + ", " +
 											valueItemId + ", " + propId + ", " + propLabel);
 									try {
-										itemRepository.addRelationship(itemId, valueItemId, propId,	propLabel);
+										itemService.addRelationship(itemId, valueItemId, propId,	propLabel);
 									} catch (Exception e) {
-										log.error("!!!!!!!!! itemRepository.addRelationship: " + itemId + ", " + valueItemId + ", " +
+										log.error("!!!!!!!!! itemService.addRelationship: " + itemId + ", " + valueItemId + ", " +
 												propId + ", " + propLabel + "FAILED!!!!!!");
 									}
 
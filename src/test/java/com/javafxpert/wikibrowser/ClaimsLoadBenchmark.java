@@ -0,0 +1,259 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.javafxpert.wikibrowser.config.AsyncConfiguration;
+import com.javafxpert.wikibrowser.config.VirtualThreads;
+import com.javafxpert.wikibrowser.model.conceptmap.ConceptMapBatch;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphWriteQueue;
+import com.javafxpert.wikibrowser.model.locator.ItemInfo;
+import com.javafxpert.wikibrowser.model.locator.LocatorService;
+import com.javafxpert.wikibrowser.sparql.SparqlClient;
+import com.javafxpert.wikibrowser.sparql.SparqlResultCache;
+import com.javafxpert.wikibrowser.sparql.SparqlRows;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.boot.bind.RelaxedDataBinder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives /claims in process at a fixed concurrency, with stub upstreams that answer the SPARQL query and the
+ * locator lookup after a fixed delay.  It reports the throughput and latency percentiles of the requests answered
+ * with a 200, and how many weren't, such as the 503s of a saturated upstream executor.  The upstream executor is
+ * the one AsyncConfiguration builds from the conceptmap.async settings, so running it once with
+ * conceptmap.async.virtual-threads=true and once without compares the two modes.  It isn't run by the build:
+ * <pre>
+ * java -Dconceptmap.async.virtual-threads=true -Dbenchmark.concurrency=200
+ *     -cp target/test-classes:target/classes:... com.javafxpert.wikibrowser.ClaimsLoadBenchmark
+ * </pre>
+ * Properties under conceptmap are bound as they are for the service; the SPARQL result cache is always off.
+ * benchmark.concurrency sets the number of clients, each making one request after another, 200 by default.
+ * benchmark.sparqlLatency and benchmark.locatorLatency set the stub delays in milliseconds, 150 and 80 by default.
+ * benchmark.warmup and benchmark.duration set how long to run before and while measuring, in seconds, 10 and 30
+ * by default.
+ * <p>
+ * Tomcat isn't involved: the clients call the controller and wait for its response, as a servlet thread would
+ * before releasing the request, so the figures cover the upstream executor and not the connector's threads.
+ */
+public class ClaimsLoadBenchmark {
+
+	private static final String[][] CLAIMS_ROWS = {
+			{"http://www.wikidata.org/prop/direct/P31", "instance of", "http://www.wikidata.org/entity/Q5", "human", null},
+			{"http://www.wikidata.org/prop/direct/P27", "country of citizenship", "http://www.wikidata.org/entity/Q145",
+					"United Kingdom", null},
+			{"http://www.wikidata.org/prop/direct/P106", "occupation", "http://www.wikidata.org/entity/Q36180", "writer",
+					null},
+			{"http://www.wikidata.org/prop/direct/P106", "occupation", "http://www.wikidata.org/entity/Q28389",
+					"screenwriter", null},
+			{"http://www.wikidata.org/prop/direct/P19", "place of birth", "http://www.wikidata.org/entity/Q350",
+					"Cambridge", null}};
+
+	private final WikiClaimsController wikiClaimsController;
+
+	private final List<long[]> latencies = Collections.synchronizedList(new ArrayList<>());
+
+	private final AtomicLong failures = new AtomicLong();
+
+	private final AtomicLong nextItem = new AtomicLong();
+
+	public ClaimsLoadBenchmark(WikiBrowserProperties wikiBrowserProperties, Executor upstreamExecutor,
+			long sparqlLatency, long locatorLatency) {
+		SparqlClient sparqlClient = new SparqlClient(null, null, null) {
+			@Override
+			public SparqlRows select(URI uri, String[] vars) {
+				pause(sparqlLatency);
+				SparqlRows sparqlRows = new SparqlRows(vars);
+				for (String[] row : CLAIMS_ROWS) {
+					sparqlRows.addRow(row.clone());
+				}
+				return sparqlRows;
+			}
+		};
+
+		LocatorService locatorService = new LocatorService() {
+			@Override
+			public ItemInfo id2Name(String itemId, String lang) {
+				pause(locatorLatency);
+				return new ItemInfo("Douglas_Adams", "Douglas Adams", lang + "wiki",
+						"https://" + lang + ".wikipedia.org/wiki/Douglas_Adams", itemId, lang);
+			}
+
+			@Override
+			public Map<String, ItemInfo> id2Names(List<String> itemIds, String lang) {
+				Map<String, ItemInfo> itemInfos = new HashMap<>();
+				for (String itemId : itemIds) {
+					itemInfos.put(itemId, id2Name(itemId, lang));
+				}
+				return itemInfos;
+			}
+		};
+
+		GraphWriteQueue graphWriteQueue = new GraphWriteQueue(null, null, wikiBrowserProperties) {
+			@Override
+			public void submit(ConceptMapBatch batch) {
+			}
+		};
+
+		wikiClaimsController = new WikiClaimsController(wikiBrowserProperties, graphWriteQueue, sparqlClient,
+				locatorService, upstreamExecutor, new SparqlResultCache(wikiBrowserProperties));
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		((Logger) LoggerFactory.getLogger("com.javafxpert")).setLevel(Level.WARN);
+
+		WikiBrowserProperties wikiBrowserProperties = new WikiBrowserProperties();
+		new RelaxedDataBinder(wikiBrowserProperties, "conceptmap").bind(new MutablePropertyValues(System.getProperties()));
+		wikiBrowserProperties.getSparqlCache().setEnabled(false);
+
+		AsyncConfiguration asyncConfiguration = new AsyncConfiguration();
+		Field field = ReflectionUtils.findField(AsyncConfiguration.class, "wikiBrowserProperties");
+		ReflectionUtils.makeAccessible(field);
+		ReflectionUtils.setField(field, asyncConfiguration, wikiBrowserProperties);
+		Executor upstreamExecutor = asyncConfiguration.upstreamExecutor();
+		if (upstreamExecutor instanceof ThreadPoolTaskExecutor) {
+			((ThreadPoolTaskExecutor) upstreamExecutor).initialize();
+		}
+
+		int concurrency = Integer.getInteger("benchmark.concurrency", 200);
+		ClaimsLoadBenchmark benchmark = new ClaimsLoadBenchmark(wikiBrowserProperties, upstreamExecutor,
+				Long.getLong("benchmark.sparqlLatency", 150), Long.getLong("benchmark.locatorLatency", 80));
+		try {
+			benchmark.run(concurrency, TimeUnit.SECONDS.toMillis(Long.getLong("benchmark.warmup", 10)), false);
+			long duration = TimeUnit.SECONDS.toMillis(Long.getLong("benchmark.duration", 30));
+			benchmark.run(concurrency, duration, true);
+			benchmark.report(wikiBrowserProperties.getAsync().isVirtualThreads() && VirtualThreads.isAvailable(),
+					concurrency, duration);
+		}
+		finally {
+			if (upstreamExecutor instanceof ExecutorService) {
+				((ExecutorService) upstreamExecutor).shutdownNow();
+			}
+			else if (upstreamExecutor instanceof ThreadPoolTaskExecutor) {
+				((ThreadPoolTaskExecutor) upstreamExecutor).shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Runs the clients for the duration, recording the latency of each successful request, and counting the
+	 * others, if measuring
+	 */
+	public void run(int concurrency, long duration, boolean measuring) throws InterruptedException {
+		long end = System.currentTimeMillis() + duration;
+		List<Thread> clients = new ArrayList<>();
+		for (int i = 0; i < concurrency; i++) {
+			Thread client = new Thread(() -> {
+				long[] samples = new long[1024];
+				int count = 0;
+				while (System.currentTimeMillis() < end) {
+					long start = System.nanoTime();
+					boolean ok = request("Q" + (nextItem.incrementAndGet() % 100000));
+					if (measuring && !ok) {
+						failures.incrementAndGet();
+					}
+					else if (measuring) {
+						if (count == samples.length) {
+							long[] grown = new long[count * 2];
+							System.arraycopy(samples, 0, grown, 0, count);
+							samples = grown;
+						}
+						samples[count++] = System.nanoTime() - start;
+					}
+				}
+				if (measuring) {
+					long[] measured = new long[count];
+					System.arraycopy(samples, 0, measured, 0, count);
+					latencies.add(measured);
+				}
+			}, "client-" + i);
+			client.start();
+			clients.add(client);
+		}
+		for (Thread client : clients) {
+			client.join();
+		}
+	}
+
+	private boolean request(String itemId) {
+		try {
+			ResponseEntity<Object> response = wikiClaimsController.renderClaims(itemId, "en").get(90, TimeUnit.SECONDS);
+			return response.getStatusCode() == HttpStatus.OK;
+		}
+		catch (Exception e) {
+			return false;
+		}
+	}
+
+	public void report(boolean virtualThreads, int concurrency, long duration) {
+		int total = 0;
+		for (long[] samples : latencies) {
+			total += samples.length;
+		}
+		long[] all = new long[total];
+		int offset = 0;
+		for (long[] samples : latencies) {
+			System.arraycopy(samples, 0, all, offset, samples.length);
+			offset += samples.length;
+		}
+		Arrays.sort(all);
+
+		System.out.println("java.version=" + System.getProperty("java.version"));
+		System.out.println("upstream.threads=" + (virtualThreads ? "virtual" : "platform"));
+		System.out.println("concurrency=" + concurrency);
+		System.out.println("ok=" + total + ", failed=" + failures.get());
+		System.out.println("throughput.ok=" + String.format("%.1f", total * 1000.0 / duration) + "/s");
+		System.out.println("latency.p50=" + percentile(all, 0.5) + "ms");
+		System.out.println("latency.p95=" + percentile(all, 0.95) + "ms");
+		System.out.println("latency.p99=" + percentile(all, 0.99) + "ms");
+		System.out.println("threads.peak=" + ManagementFactory.getThreadMXBean().getPeakThreadCount());
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return -1;
+		}
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+	}
+
+	private static void pause(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
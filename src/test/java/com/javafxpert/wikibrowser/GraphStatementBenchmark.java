@@ -0,0 +1,232 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser;
+
+import com.javafxpert.wikibrowser.graph.BoltGraphAccess;
+import com.javafxpert.wikibrowser.graph.GraphAccess;
+import com.javafxpert.wikibrowser.graph.GraphStatementRegistry;
+import com.javafxpert.wikibrowser.graph.HttpGraphAccess;
+import com.javafxpert.wikibrowser.graph.PreparedGraphStatement;
+import com.javafxpert.wikibrowser.upstream.LatencyTracker;
+import com.javafxpert.wikibrowser.upstream.UpstreamClients;
+import com.javafxpert.wikibrowser.util.WikiBrowserUtils;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.boot.bind.RelaxedDataBinder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays a mix of item sets through the /visgraph, /visshortpaths and /visrootpaths statements against a Neo4j
+ * server, once as the prepared statements the controller runs and once with the values spliced into the statement
+ * text as they were before, and reports the p50/p95 latency of each.  It isn't run by the build, as it needs a
+ * server holding the concept graph:
+ * <pre>
+ * java -Dconceptmap.cypherHost=... -Dconceptmap.neo4j.protocol=BOLT -Dbenchmark.itemSets=item-sets.txt
+ *     -cp target/test-classes:target/classes:... com.javafxpert.wikibrowser.GraphStatementBenchmark
+ * </pre>
+ * Properties under conceptmap are bound as they are for the service.  benchmark.itemSets names a file with one
+ * comma-separated item set per line, as passed to /visgraph; the first item of each set is also the start of a
+ * short paths and a root paths query, and the last item the end of the short paths query.  benchmark.rounds sets how
+ * many times the mix is replayed, 20 by default, and benchmark.rootItem the root item, Q35120 by default.  Latency
+ * percentiles are over the last 200 executions of each statement.  Every round after the first repeats the spliced
+ * texts of the first, which the server may then find already planned, so the spliced figures come closest to varied
+ * traffic with one round over a large mix.
+ */
+public class GraphStatementBenchmark {
+
+	private static final List<String> DEFAULT_ITEM_SETS = Arrays.asList(
+			"Q24, Q30, Q23, Q16, Q20",
+			"Q2, Q405, Q111, Q308, Q525",
+			"Q146, Q144, Q7377, Q729, Q5113",
+			"Q90, Q142, Q64, Q183, Q84, Q145",
+			"Q42, Q5, Q36180, Q6581097",
+			"Q1, Q323, Q336, Q395",
+			"Q11660, Q21198, Q2539, Q9143",
+			"Q7186, Q937, Q1035, Q11424");
+
+	private final GraphAccess graphAccess;
+
+	private final GraphStatementRegistry graphStatementRegistry;
+
+	private final Map<String, LatencyTracker> splicedLatency = new LinkedHashMap<>();
+
+	private long splicedExecutions;
+	private long splicedErrors;
+	private String firstError;
+
+	public GraphStatementBenchmark(GraphAccess graphAccess) {
+		this.graphAccess = graphAccess;
+		this.graphStatementRegistry = new GraphStatementRegistry(graphAccess);
+	}
+
+	public static void main(String[] args) throws IOException {
+		WikiBrowserProperties wikiBrowserProperties = new WikiBrowserProperties();
+		new RelaxedDataBinder(wikiBrowserProperties, "conceptmap").bind(new MutablePropertyValues(System.getProperties()));
+
+		List<List<String>> itemSets = new ArrayList<>();
+		String itemSetsFile = System.getProperty("benchmark.itemSets");
+		for (String line : itemSetsFile != null ?
+				Files.readAllLines(Paths.get(itemSetsFile), StandardCharsets.UTF_8) : DEFAULT_ITEM_SETS) {
+			List<String> itemIds = WikiBrowserUtils.scrubItemIdList(line);
+			if (!itemIds.isEmpty()) {
+				itemSets.add(itemIds);
+			}
+		}
+		int rounds = Integer.getInteger("benchmark.rounds", 20);
+
+		GraphAccess graphAccess;
+		WikiBrowserProperties.Neo4j neo4j = wikiBrowserProperties.getNeo4j();
+		if (neo4j.getProtocol() == WikiBrowserProperties.Neo4j.Protocol.BOLT) {
+			graphAccess = new BoltGraphAccess(wikiBrowserProperties.getNeoBoltUri(),
+					wikiBrowserProperties.getCypherUsername(), wikiBrowserProperties.getCypherPassword(),
+					neo4j.getMaxIdleSessions(), neo4j.isEncrypted());
+		}
+		else {
+			graphAccess = new HttpGraphAccess(wikiBrowserProperties, new UpstreamClients(wikiBrowserProperties));
+		}
+
+		try {
+			GraphStatementBenchmark benchmark = new GraphStatementBenchmark(graphAccess);
+			benchmark.replay(itemSets, rounds, System.getProperty("benchmark.rootItem", "Q35120"));
+			benchmark.report();
+		}
+		finally {
+			graphAccess.close();
+		}
+	}
+
+	public void replay(List<List<String>> itemSets, int rounds, String rootItemId) {
+		PreparedGraphStatement visGraph =
+				graphStatementRegistry.register("visgraph", WikiVisGraphController.VISGRAPH);
+		PreparedGraphStatement visShortPaths =
+				graphStatementRegistry.register("visshortpaths", WikiVisGraphController.VISSHORTPATHS);
+		PreparedGraphStatement visRootPaths =
+				graphStatementRegistry.register("visrootpaths", WikiVisGraphController.VISROOTPATHS);
+
+		for (int round = 0; round < rounds; round++) {
+			// Alternate which form goes first, so that neither always finds the other's pages in the server's cache
+			boolean preparedFirst = round % 2 == 0;
+			for (List<String> itemIds : itemSets) {
+				Map<String, Object> items = Collections.singletonMap("items", itemIds);
+				Map<String, Object> fromTo = new HashMap<>();
+				fromTo.put("from", itemIds.get(0));
+				fromTo.put("to", itemIds.get(itemIds.size() - 1));
+				Map<String, Object> fromRoot = new HashMap<>();
+				fromRoot.put("from", itemIds.get(0));
+				fromRoot.put("to", rootItemId);
+
+				run(visGraph, items, preparedFirst);
+				if (itemIds.size() > 1) {
+					run(visShortPaths, fromTo, preparedFirst);
+				}
+				run(visRootPaths, fromRoot, preparedFirst);
+			}
+		}
+	}
+
+	private void run(PreparedGraphStatement statement, Map<String, Object> parameters, boolean preparedFirst) {
+		if (preparedFirst) {
+			runPrepared(statement, parameters);
+			runSpliced(statement, parameters);
+		}
+		else {
+			runSpliced(statement, parameters);
+			runPrepared(statement, parameters);
+		}
+	}
+
+	private void runPrepared(PreparedGraphStatement statement, Map<String, Object> parameters) {
+		try {
+			statement.query(parameters);
+		}
+		catch (RuntimeException e) {
+			noteError(e);
+		}
+	}
+
+	private void runSpliced(PreparedGraphStatement statement, Map<String, Object> parameters) {
+		String text = splice(statement.getStatement(), parameters);
+		splicedExecutions++;
+		long start = System.currentTimeMillis();
+		try {
+			graphAccess.queryGraph(text, Collections.emptyMap());
+		}
+		catch (RuntimeException e) {
+			splicedErrors++;
+			noteError(e);
+		}
+		finally {
+			splicedLatency.computeIfAbsent(statement.getName(), name -> new LatencyTracker(200))
+					.record(System.currentTimeMillis() - start);
+		}
+	}
+
+	private void noteError(RuntimeException e) {
+		if (firstError == null) {
+			firstError = e.toString();
+		}
+	}
+
+	/**
+	 * @return the statement with each parameter replaced by its value as a literal, as the controller used to
+	 * build it
+	 */
+	static String splice(String statement, Map<String, Object> parameters) {
+		String spliced = statement;
+		for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+			String literal;
+			if (parameter.getValue() instanceof List) {
+				StringBuilder sb = new StringBuilder("[");
+				for (Object value : (List<?>) parameter.getValue()) {
+					sb.append(sb.length() > 1 ? "," : "").append('\'').append(value).append('\'');
+				}
+				literal = sb.append(']').toString();
+			}
+			else {
+				literal = "'" + parameter.getValue() + "'";
+			}
+			spliced = spliced.replace("{" + parameter.getKey() + "}", literal);
+		}
+		return spliced;
+	}
+
+	public void report() {
+		for (Metric<?> metric : graphStatementRegistry.metrics()) {
+			System.out.println(metric.getName() + "=" + metric.getValue());
+		}
+		for (Map.Entry<String, LatencyTracker> latency : splicedLatency.entrySet()) {
+			String prefix = "spliced." + latency.getKey();
+			System.out.println(prefix + ".latency.p50=" + latency.getValue().percentile(0.5));
+			System.out.println(prefix + ".latency.p95=" + latency.getValue().percentile(0.95));
+		}
+		System.out.println("spliced.executions=" + splicedExecutions);
+		System.out.println("spliced.errors=" + splicedErrors);
+		if (firstError != null) {
+			System.out.println("First error: " + firstError);
+		}
+	}
+}
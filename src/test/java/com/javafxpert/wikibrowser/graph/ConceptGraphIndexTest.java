@@ -0,0 +1,285 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.GraphFar;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.boot.actuate.metrics.Metric;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.javafxpert.wikibrowser.graph.GraphIndexFixture.batch;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Exercises the graph index without Neo4j: it is filled by the write path, or from a snapshot file
+ */
+public class ConceptGraphIndexTest {
+
+	private final List<ConceptGraphIndex> indexes = new ArrayList<>();
+
+	private File snapshotFile;
+
+	@After
+	public void tearDown() {
+		for (ConceptGraphIndex index : indexes) {
+			index.close();
+		}
+		if (snapshotFile != null) {
+			snapshotFile.delete();
+		}
+	}
+
+	@Test
+	public void itemNumber() {
+		assertEquals(42, ConceptGraphIndex.itemNumber("Q42"));
+		assertEquals(42, ConceptGraphIndex.itemNumber("q42"));
+		assertEquals(-1, ConceptGraphIndex.itemNumber("P31"));
+		assertEquals(-1, ConceptGraphIndex.itemNumber("Q"));
+		assertEquals(-1, ConceptGraphIndex.itemNumber("Q4x2"));
+		assertEquals(-1, ConceptGraphIndex.itemNumber(null));
+	}
+
+	@Test
+	public void itemsAndTitles() throws Exception {
+		ConceptGraphIndex index = readyIndex(1000, "");
+		index.addItem("Q1", "Universe");
+		index.addItem("Q2", "Earth");
+		index.addItem("Q2", null);
+		index.addRelationship("Q2", "Q3", "P361");
+
+		assertEquals(3, index.getNodeCount());
+		assertEquals("Q2", index.itemIdOf(index.nodeOf("Q2")));
+		assertEquals("Earth", index.titleOf(index.nodeOf("Q2")));
+		assertNull(index.titleOf(index.nodeOf("Q3")));
+		assertEquals(-1, index.nodeOf("Q4"));
+	}
+
+	@Test
+	public void deltaRelationships() throws Exception {
+		ConceptGraphIndex index = readyIndex(1000, "");
+		index.add(batch("Q1", "P31", "Q2", "Q1", "P279", "Q2", "Q3", "P31", "Q2", "Q1", "P31", "Q2"));
+
+		int q1 = index.nodeOf("Q1");
+		int q2 = index.nodeOf("Q2");
+		int q3 = index.nodeOf("Q3");
+		assertEquals(sorted(q2 + ":31", q2 + ":279"), outEdges(index, q1));
+		assertEquals(sorted(q1 + ":31", q1 + ":279", q3 + ":31"), inEdges(index, q2));
+		assertEquals(3L, metric(index, "graphindex.relationships.delta"));
+		assertEquals(0L, metric(index, "graphindex.compactions"));
+	}
+
+	@Test
+	public void compactionMergesDelta() throws Exception {
+		ConceptGraphIndex index = readyIndex(3, "");
+		index.add(batch("Q1", "P31", "Q2", "Q2", "P279", "Q3", "Q3", "P361", "Q1"));
+		awaitCompactions(index, 1);
+		assertEquals(0L, metric(index, "graphindex.relationships.delta"));
+
+		// Relationships already compacted aren't added again, and new ones are seen alongside them
+		index.add(batch("Q1", "P31", "Q2", "Q1", "P31", "Q3", "Q4", "P31", "Q1"));
+		int q1 = index.nodeOf("Q1");
+		int q2 = index.nodeOf("Q2");
+		int q3 = index.nodeOf("Q3");
+		int q4 = index.nodeOf("Q4");
+		assertEquals(2L, metric(index, "graphindex.relationships.delta"));
+		assertEquals(sorted(q2 + ":31", q3 + ":31"), outEdges(index, q1));
+		assertEquals(sorted(q3 + ":361", q4 + ":31"), inEdges(index, q1));
+
+		index.add(batch("Q4", "P279", "Q2"));
+		awaitCompactions(index, 2);
+		assertEquals(0L, metric(index, "graphindex.relationships.delta"));
+		assertEquals(6L, metric(index, "graphindex.relationships"));
+		assertEquals(sorted(q2 + ":31", q3 + ":31"), outEdges(index, q1));
+		assertEquals(sorted(q1 + ":31", q2 + ":279"), outEdges(index, q4));
+		assertEquals(sorted(q1 + ":31", q4 + ":279"), inEdges(index, q2));
+	}
+
+	@Test
+	public void edgesAmong() throws Exception {
+		ConceptGraphIndex index = readyIndex(3, "");
+		index.add(batch("Q1", "P31", "Q2", "Q2", "P279", "Q3", "Q3", "P361", "Q4"));
+		awaitCompactions(index, 1);
+		index.add(batch("Q3", "P31", "Q1", "Q4", "P31", "Q1"));
+
+		int q1 = index.nodeOf("Q1");
+		int q2 = index.nodeOf("Q2");
+		int q3 = index.nodeOf("Q3");
+		List<String> edges = new ArrayList<>();
+		for (int[] edge : index.edgesAmong(new int[] {q3, q1, q2})) {
+			edges.add(edge[0] + ">" + edge[1] + ":" + edge[2]);
+		}
+		Collections.sort(edges);
+		assertEquals(sorted(q1 + ">" + q2 + ":31", q2 + ">" + q3 + ":279", q3 + ">" + q1 + ":31"), edges);
+		assertTrue(index.edgesAmong(new int[] {q2, index.nodeOf("Q4")}).isEmpty());
+	}
+
+	@Test
+	public void removedItems() throws Exception {
+		ConceptGraphIndex index = readyIndex(1000, "");
+		index.add(batch("Q1", "P31", "Q2", "Q2", "P31", "Q3", "Q3", "P31", "Q1"));
+		int q1 = index.nodeOf("Q1");
+		int q3 = index.nodeOf("Q3");
+		index.removeItems(Collections.singletonList("Q2"));
+		awaitCompactions(index, 1);
+
+		assertEquals(-1, index.nodeOf("Q2"));
+		assertEquals(Collections.emptyList(), outEdges(index, q1));
+		assertEquals(Arrays.asList(q1 + ":31"), outEdges(index, q3));
+		assertEquals(2L, metric(index, "graphindex.items"));
+
+		// Relationships to a removed item are ignored until it is written again with its title
+		index.addRelationship("Q1", "Q2", "P31");
+		assertEquals(Collections.emptyList(), outEdges(index, q1));
+		index.addItem("Q2", "Restored");
+		index.addRelationship("Q1", "Q2", "P31");
+		assertEquals(Arrays.asList(index.nodeOf("Q2") + ":31"), outEdges(index, q1));
+	}
+
+	@Test
+	public void snapshotRoundTrip() throws Exception {
+		snapshotFile = File.createTempFile("graph-index", ".bin");
+		snapshotFile.delete();
+		ConceptGraphIndex index = readyIndex(3, snapshotFile.getPath());
+		index.addItem("Q1", "Universe");
+		index.addItem("Q3", "Plan\u00e8te");
+		index.add(batch("Q1", "P31", "Q2", "Q2", "P279", "Q3", "Q3", "P361", "Q1"));
+		awaitCompactions(index, 1);
+		index.add(batch("Q4", "P31", "Q1", "Q5", "P31", "Q4"));
+		index.removeItems(Collections.singletonList("Q5"));
+		awaitCompactions(index, 2);
+		index.saveSnapshot();
+		assertEquals(1L, metric(index, "graphindex.snapshots"));
+
+		ConceptGraphIndex loaded = readyIndex(1000, snapshotFile.getPath());
+		assertEquals(4, loaded.getNodeCount());
+		assertEquals(-1, loaded.nodeOf("Q5"));
+		assertEquals("Plan\u00e8te", loaded.titleOf(loaded.nodeOf("Q3")));
+		assertNull(loaded.titleOf(loaded.nodeOf("Q2")));
+		assertEquals(0L, metric(loaded, "graphindex.relationships.delta"));
+		assertEquals(4L, metric(loaded, "graphindex.relationships"));
+		for (String itemId : Arrays.asList("Q1", "Q2", "Q3", "Q4")) {
+			assertEquals(itemIds(index, outEdges(index, index.nodeOf(itemId))),
+					itemIds(loaded, outEdges(loaded, loaded.nodeOf(itemId))));
+			assertEquals(itemIds(index, inEdges(index, index.nodeOf(itemId))),
+					itemIds(loaded, inEdges(loaded, loaded.nodeOf(itemId))));
+		}
+	}
+
+	@Test
+	public void notReadyAfterAFailedLoad() {
+		WikiBrowserProperties properties = GraphIndexFixture.properties(1000, "");
+		properties.getGraphIndex().setLoadFromGraph(true);
+		boolean[] unavailable = {true};
+		GraphAccess graphAccess = new GraphAccess() {
+			@Override
+			public void write(List<GraphStatement> statements) {
+			}
+
+			@Override
+			public List<GraphFar> queryGraph(String statement, Map<String, Object> parameters) {
+				if (unavailable[0]) {
+					throw new GraphAccessException("Neo4j unavailable");
+				}
+				return Collections.emptyList();
+			}
+		};
+		ConceptGraphIndex index = new ConceptGraphIndex(properties, graphAccess);
+		assertFalse(index.load());
+		assertFalse(index.isReady());
+
+		unavailable[0] = false;
+		assertTrue(index.load());
+		assertTrue(index.isReady());
+	}
+
+	@Test
+	public void notReadyWithoutLoad() {
+		WikiBrowserProperties properties = new WikiBrowserProperties();
+		ConceptGraphIndex index = new ConceptGraphIndex(properties, null);
+		assertFalse(index.isEnabled());
+		index.addRelationship("Q1", "Q2", "P31");
+		assertEquals(0, index.getNodeCount());
+	}
+
+	private ConceptGraphIndex readyIndex(int compactionThreshold, String snapshotFile) throws InterruptedException {
+		ConceptGraphIndex index = GraphIndexFixture.readyIndex(GraphIndexFixture.properties(compactionThreshold, snapshotFile));
+		indexes.add(index);
+		return index;
+	}
+
+	private static List<String> sorted(String... edges) {
+		List<String> list = new ArrayList<>(Arrays.asList(edges));
+		Collections.sort(list);
+		return list;
+	}
+
+	private static void awaitCompactions(ConceptGraphIndex index, long compactions) throws InterruptedException {
+		for (int i = 0; i < 500 && metric(index, "graphindex.compactions") < compactions; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(compactions, metric(index, "graphindex.compactions"));
+	}
+
+	private static long metric(ConceptGraphIndex index, String name) {
+		for (Metric<?> metric : index.metrics()) {
+			if (metric.getName().equals(name)) {
+				return metric.getValue().longValue();
+			}
+		}
+		throw new AssertionError("No metric " + name);
+	}
+
+	/**
+	 * @return the relationships of the item as node:property, sorted
+	 */
+	private static List<String> outEdges(ConceptGraphIndex index, int node) {
+		List<String> edges = new ArrayList<>();
+		index.forEachOutEdge(node, (target, propNum) -> edges.add(target + ":" + propNum));
+		Collections.sort(edges);
+		return edges;
+	}
+
+	private static List<String> inEdges(ConceptGraphIndex index, int node) {
+		List<String> edges = new ArrayList<>();
+		index.forEachInEdge(node, (source, propNum) -> edges.add(source + ":" + propNum));
+		Collections.sort(edges);
+		return edges;
+	}
+
+	/**
+	 * @return the edges from outEdges or inEdges with item IDs in place of dense ids, which differ between indexes
+	 */
+	private static List<String> itemIds(ConceptGraphIndex index, List<String> edges) {
+		List<String> mapped = new ArrayList<>();
+		for (String edge : edges) {
+			String[] parts = edge.split(":");
+			mapped.add(index.itemIdOf(Integer.parseInt(parts[0])) + ":" + parts[1]);
+		}
+		Collections.sort(mapped);
+		return mapped;
+	}
+}
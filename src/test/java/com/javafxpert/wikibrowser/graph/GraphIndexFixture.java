@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import com.javafxpert.wikibrowser.model.conceptmap.ConceptMapBatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Graph indexes for tests, with nothing to load from Neo4j, filled by the write path
+ */
+class GraphIndexFixture {
+
+	private GraphIndexFixture() {
+	}
+
+	/**
+	 * @param snapshotFile empty for none
+	 */
+	static WikiBrowserProperties properties(int compactionThreshold, String snapshotFile) {
+		WikiBrowserProperties properties = new WikiBrowserProperties();
+		WikiBrowserProperties.GraphIndex settings = properties.getGraphIndex();
+		settings.setEnabled(true);
+		settings.setLoadFromGraph(false);
+		settings.setSnapshotFile(snapshotFile);
+		settings.setSnapshotInterval(0);
+		settings.setCompactionThreshold(compactionThreshold);
+		return properties;
+	}
+
+	/**
+	 * @return a started index, once it is ready; close it when done
+	 */
+	static ConceptGraphIndex readyIndex(WikiBrowserProperties properties) throws InterruptedException {
+		ConceptGraphIndex index = new ConceptGraphIndex(properties, null);
+		index.init();
+		for (int i = 0; i < 500 && !index.isReady(); i++) {
+			Thread.sleep(10);
+		}
+		assertTrue("Graph index not ready", index.isReady());
+		return index;
+	}
+
+	/**
+	 * @param rels start item, property and end item of each relationship in turn
+	 */
+	static ConceptMapBatch batch(String... rels) {
+		ConceptMapBatch batch = new ConceptMapBatch();
+		for (int i = 0; i < rels.length; i += 3) {
+			batch.addItem(rels[i]);
+			batch.addItem(rels[i + 2]);
+			batch.addRelationship(rels[i], rels[i + 2], rels[i + 1], rels[i + 1]);
+		}
+		return batch;
+	}
+
+	/**
+	 * @return each path as its relationships in order, such as "Q1-P31->Q2 Q3-P279->Q2", sorted
+	 */
+	static List<String> paths(ConceptGraphIndex index, List<int[][]> found) {
+		List<String> paths = new ArrayList<>();
+		for (int[][] path : found) {
+			StringBuilder sb = new StringBuilder();
+			for (int[] rel : path) {
+				if (sb.length() > 0) {
+					sb.append(' ');
+				}
+				sb.append(index.itemIdOf(rel[0])).append("-P").append(rel[2]).append("->").append(index.itemIdOf(rel[1]));
+			}
+			paths.add(sb.toString());
+		}
+		Collections.sort(paths);
+		return paths;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.actuate.metrics.Metric;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.javafxpert.wikibrowser.graph.GraphIndexFixture.batch;
+import static com.javafxpert.wikibrowser.graph.GraphIndexFixture.paths;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Walks root paths in a hierarchy index over a small graph index, filled by the write path
+ */
+public class HierarchyIndexTest {
+
+	private WikiBrowserProperties properties;
+
+	private ConceptGraphIndex index;
+
+	private HierarchyIndex hierarchyIndex;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		properties = GraphIndexFixture.properties(100000, "");
+		index = GraphIndexFixture.readyIndex(properties);
+
+		index.add(batch(
+				"Q2", "P279", "Q35120",
+				"Q3", "P279", "Q2",
+				"Q4", "P361", "Q2", "Q4", "P31", "Q3",
+				"Q5", "P31", "Q2", "Q5", "P279", "Q6", "Q6", "P279", "Q35120",
+				"Q7", "P17", "Q35120",
+				"Q8", "P279", "Q9"));
+		hierarchyIndex = new HierarchyIndex(index, properties);
+		hierarchyIndex.init();
+	}
+
+	@After
+	public void tearDown() {
+		index.close();
+	}
+
+	@Test
+	public void walksShortestPathsToTheRoot() {
+		assertTrue(hierarchyIndex.isAvailable("Q35120"));
+		assertFalse(hierarchyIndex.isAvailable("Q2"));
+		assertEquals(Collections.singletonList("Q2-P279->Q35120"), paths(index, hierarchyIndex.rootPaths("Q2")));
+		assertEquals(Collections.singletonList("Q4-P361->Q2 Q2-P279->Q35120"), paths(index, hierarchyIndex.rootPaths("Q4")));
+		assertEquals(Arrays.asList("Q5-P279->Q6 Q6-P279->Q35120", "Q5-P31->Q2 Q2-P279->Q35120"),
+				paths(index, hierarchyIndex.rootPaths("Q5")));
+	}
+
+	@Test
+	public void noPathsForItemsNotUnderTheRoot() {
+		assertEquals(Collections.emptyList(), paths(index, hierarchyIndex.rootPaths("Q7")));
+		assertEquals(Collections.emptyList(), paths(index, hierarchyIndex.rootPaths("Q8")));
+		assertEquals(Collections.emptyList(), paths(index, hierarchyIndex.rootPaths("Q35120")));
+		assertEquals(Collections.emptyList(), paths(index, hierarchyIndex.rootPaths("Q99")));
+	}
+
+	@Test
+	public void lowersDepthsAsRelationshipsAreAdded() {
+		// Brings Q9, and Q8 below it, under the root
+		index.add(batch("Q9", "P279", "Q35120"));
+		assertEquals(Collections.singletonList("Q8-P279->Q9 Q9-P279->Q35120"), paths(index, hierarchyIndex.rootPaths("Q8")));
+
+		// Brings Q3 closer to the root, which gives Q4 a second shortest path through it
+		index.add(batch("Q3", "P31", "Q35120"));
+		assertEquals(Collections.singletonList("Q3-P31->Q35120"), paths(index, hierarchyIndex.rootPaths("Q3")));
+		assertEquals(Arrays.asList("Q4-P31->Q3 Q3-P31->Q35120", "Q4-P361->Q2 Q2-P279->Q35120"),
+				paths(index, hierarchyIndex.rootPaths("Q4")));
+
+		// A longer way round changes nothing
+		index.add(batch("Q2", "P31", "Q8"));
+		assertEquals(Collections.singletonList("Q2-P279->Q35120"), paths(index, hierarchyIndex.rootPaths("Q2")));
+	}
+
+	@Test
+	public void rebuildsOnceRemovedItemsAreCompactedAway() throws InterruptedException {
+		// A longer way from Q3 to the root, which it only takes once Q2 is gone
+		index.add(batch("Q3", "P31", "Q5"));
+		assertEquals(Collections.singletonList("Q3-P279->Q2 Q2-P279->Q35120"), paths(index, hierarchyIndex.rootPaths("Q3")));
+
+		index.removeItems(Collections.singletonList("Q2"));
+		for (int i = 0; i < 500 && metric("hierarchy.rebuilds") < 2; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(2L, metric("hierarchy.rebuilds"));
+		assertEquals(Collections.singletonList("Q3-P31->Q5 Q5-P279->Q6 Q6-P279->Q35120"),
+				paths(index, hierarchyIndex.rootPaths("Q3")));
+		assertEquals(Collections.singletonList("Q5-P279->Q6 Q6-P279->Q35120"), paths(index, hierarchyIndex.rootPaths("Q5")));
+	}
+
+	@Test
+	public void limitsThePaths() {
+		properties.getRootPaths().setMaxPaths(1);
+		assertEquals(1, hierarchyIndex.rootPaths("Q5").size());
+	}
+
+	private long metric(String name) {
+		for (Metric<?> metric : hierarchyIndex.metrics()) {
+			if (metric.getName().equals(name)) {
+				return metric.getValue().longValue();
+			}
+		}
+		throw new AssertionError("No metric " + name);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.graph;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.javafxpert.wikibrowser.graph.GraphIndexFixture.batch;
+import static com.javafxpert.wikibrowser.graph.GraphIndexFixture.paths;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Searches a small graph index, filled by the write path, for the shortest paths between items
+ */
+public class ShortestPathSearchTest {
+
+	private WikiBrowserProperties properties;
+
+	private ConceptGraphIndex index;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		properties = GraphIndexFixture.properties(100000, "");
+		index = GraphIndexFixture.readyIndex(properties);
+
+		// Q1 reaches Q2 through Q10 along the relationships, and through Q11 against one of them; Q3 is one further
+		index.add(batch(
+				"Q1", "P31", "Q10", "Q10", "P279", "Q2",
+				"Q1", "P361", "Q11", "Q2", "P31", "Q11",
+				"Q2", "P279", "Q3",
+				"Q1", "P1343", "Q20", "Q4", "P1343", "Q20",
+				"Q1", "P31", "Q5", "Q6", "P31", "Q5"));
+	}
+
+	@After
+	public void tearDown() {
+		index.close();
+	}
+
+	@Test
+	public void joinsPathsWhereTheSidesMeet() {
+		ShortestPathSearch search = new ShortestPathSearch(index, properties);
+		assertTrue(search.isAvailable());
+		assertEquals(Arrays.asList("Q1-P31->Q10 Q10-P279->Q2", "Q1-P361->Q11 Q2-P31->Q11"),
+				paths(index, search.find("Q1", "Q2")));
+		assertEquals(Arrays.asList("Q10-P279->Q2 Q1-P31->Q10", "Q2-P31->Q11 Q1-P361->Q11"),
+				paths(index, search.find("Q2", "Q1")));
+		assertEquals(Collections.singletonList("Q2-P279->Q3"), paths(index, search.find("Q2", "Q3")));
+	}
+
+	@Test
+	public void stopsAtTheMaximumDepth() {
+		ShortestPathSearch search = new ShortestPathSearch(index, properties);
+		assertEquals(Collections.emptyList(), paths(index, search.find("Q1", "Q3")));
+
+		properties.getShortPaths().setMaxDepth(3);
+		assertEquals(Arrays.asList("Q1-P31->Q10 Q10-P279->Q2 Q2-P279->Q3", "Q1-P361->Q11 Q2-P31->Q11 Q2-P279->Q3"),
+				paths(index, search.find("Q1", "Q3")));
+	}
+
+	@Test
+	public void skipsDeniedPropertiesAndItems() {
+		ShortestPathSearch search = new ShortestPathSearch(index, properties);
+		assertEquals(Collections.emptyList(), paths(index, search.find("Q1", "Q4")));
+		assertEquals(Collections.emptyList(), paths(index, search.find("Q1", "Q6")));
+		assertEquals(Collections.emptyList(), paths(index, search.find("Q1", "Q5")));
+
+		properties.getShortPaths().setDeniedProperties(new ArrayList<>());
+		properties.getShortPaths().setDeniedItems(new ArrayList<>());
+		assertEquals(Collections.singletonList("Q1-P1343->Q20 Q4-P1343->Q20"), paths(index, search.find("Q1", "Q4")));
+		assertEquals(Collections.singletonList("Q1-P31->Q5 Q6-P31->Q5"), paths(index, search.find("Q1", "Q6")));
+	}
+
+	@Test
+	public void followsOnlyAllowedProperties() {
+		properties.getShortPaths().setAllowedProperties(Arrays.asList("P361", "P31"));
+		ShortestPathSearch search = new ShortestPathSearch(index, properties);
+		assertEquals(Collections.singletonList("Q1-P361->Q11 Q2-P31->Q11"), paths(index, search.find("Q1", "Q2")));
+	}
+
+	@Test
+	public void returnsAtMostMaxPaths() {
+		properties.getShortPaths().setMaxPaths(1);
+		ShortestPathSearch search = new ShortestPathSearch(index, properties);
+		assertEquals(1, search.find("Q1", "Q2").size());
+	}
+
+	@Test
+	public void timedOutSearchIsToldApartFromNoPath() {
+		properties.getShortPaths().setTimeBudget(-1);
+		ShortestPathSearch search = new ShortestPathSearch(index, properties);
+		assertNull(search.find("Q1", "Q2"));
+		assertEquals(Collections.emptyList(), search.find("Q1", "Q99"));
+	}
+
+	@Test
+	public void noPathsForUnknownOrSameItems() {
+		ShortestPathSearch search = new ShortestPathSearch(index, properties);
+		assertEquals(Collections.emptyList(), paths(index, search.find("Q1", "Q99")));
+		assertEquals(Collections.emptyList(), paths(index, search.find("Q1", "Q1")));
+	}
+}
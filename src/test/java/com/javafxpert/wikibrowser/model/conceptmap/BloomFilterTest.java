@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterTest {
+
+	@Test
+	public void noFalseNegatives() {
+		BloomFilter filter = BloomFilter.create(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.put("Q" + i);
+		}
+		for (int i = 0; i < 10000; i++) {
+			assertTrue("Q" + i, filter.mightContain("Q" + i));
+		}
+	}
+
+	@Test
+	public void falsePositiveRateNearConfigured() {
+		BloomFilter filter = BloomFilter.create(100000, 0.01);
+		for (int i = 0; i < 100000; i++) {
+			filter.put("Q" + i + "-P31-Q5");
+		}
+		int falsePositives = 0;
+		for (int i = 100000; i < 200000; i++) {
+			if (filter.mightContain("Q" + i + "-P31-Q5")) {
+				falsePositives++;
+			}
+		}
+		assertTrue("False positive rate " + falsePositives / 100000.0, falsePositives < 2000);
+		assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+	}
+
+	@Test
+	public void putReportsNewKeys() {
+		BloomFilter filter = BloomFilter.create(1000, 0.01);
+		assertFalse(filter.mightContain("Q42"));
+		assertTrue(filter.put("Q42"));
+		assertFalse(filter.put("Q42"));
+		assertTrue(filter.mightContain("Q42"));
+		assertTrue(filter.put("Q43"));
+		assertEquals(2, filter.getInsertions());
+	}
+
+	@Test
+	public void sizedForTheExpectedEntries() {
+		BloomFilter filter = BloomFilter.create(1000000, 0.01);
+		// About 9.6 bits and 7 hashes per entry at 1%
+		assertEquals(9585059, filter.getBitCount(), 64);
+		assertEquals(7, filter.getHashCount());
+	}
+
+	@Test
+	public void writeAndReadBack() throws IOException {
+		BloomFilter filter = BloomFilter.create(1000, 0.01);
+		for (int i = 0; i < 500; i++) {
+			filter.put("Q" + i);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		filter.writeTo(new DataOutputStream(bytes));
+
+		BloomFilter read = BloomFilter.create(1000, 0.01);
+		assertTrue(read.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+		assertEquals(filter.getInsertions(), read.getInsertions());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(filter.mightContain("Q" + i), read.mightContain("Q" + i));
+		}
+
+		BloomFilter otherSize = BloomFilter.create(2000, 0.01);
+		assertFalse(otherSize.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+		assertEquals(0, otherSize.getInsertions());
+		assertFalse(otherSize.mightContain("Q1"));
+	}
+}
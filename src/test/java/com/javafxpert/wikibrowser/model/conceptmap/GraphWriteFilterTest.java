@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.model.conceptmap;
+
+import com.javafxpert.wikibrowser.WikiBrowserProperties;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GraphWriteFilterTest {
+
+	@Test
+	public void skipsWrittenEntries() {
+		GraphWriteFilter filter = filter(true);
+		ConceptMapBatch batch = batch();
+		filter.markWritten(batch);
+
+		assertTrue(filter.unwritten(batch).isEmpty());
+		assertTrue(filter.isItemWritten("Q1", "Universe"));
+		assertTrue(filter.isItemWritten("Q1", null));
+		assertFalse(filter.isItemWritten("Q1", "Cosmos"));
+	}
+
+	@Test
+	public void keepsTheItemsOfUnwrittenRelationships() {
+		GraphWriteFilter filter = filter(true);
+		filter.markItemWritten("Q1", "Universe");
+		filter.markItemWritten("Q2", "Earth");
+		ConceptMapBatch batch = batch();
+		batch.addItem("Q3", "Moon");
+
+		ConceptMapBatch unwritten = filter.unwritten(batch);
+		Map<String, String> items = new HashMap<>();
+		items.put("Q1", "Universe");
+		items.put("Q2", "Earth");
+		items.put("Q3", "Moon");
+		assertEquals(items, unwritten.getItems());
+		assertEquals(Collections.singletonList(new ItemRelationship("Q2", "Q1", "P361", "part of")),
+				Arrays.asList(unwritten.getRelationships().toArray()));
+	}
+
+	@Test
+	public void marksOnlyRelationshipsWithBothItemsInTheBatch() {
+		GraphWriteFilter filter = filter(true);
+		ConceptMapBatch batch = batch();
+		batch.addRelationship("Q2", "Q405", "P398", "child astronomical body");
+		filter.markWritten(batch);
+
+		assertTrue(filter.isRelationshipWritten("Q2", "Q1", "P361"));
+		// Q405 may not be in the graph, in which case the relationship wasn't written
+		assertFalse(filter.isRelationshipWritten("Q2", "Q405", "P398"));
+		assertEquals(1, filter.unwritten(batch).getRelationships().size());
+	}
+
+	@Test
+	public void disabledFilterPassesEverythingThrough() {
+		GraphWriteFilter filter = filter(false);
+		ConceptMapBatch batch = batch();
+		filter.markWritten(batch);
+
+		assertFalse(filter.isEnabled());
+		assertSame(batch, filter.unwritten(batch));
+		assertFalse(filter.isItemWritten("Q1", "Universe"));
+	}
+
+	private GraphWriteFilter filter(boolean enabled) {
+		WikiBrowserProperties properties = new WikiBrowserProperties();
+		WikiBrowserProperties.GraphFilter settings = properties.getGraphFilter();
+		settings.setEnabled(enabled);
+		settings.setExpectedItems(1000);
+		settings.setExpectedRelationships(1000);
+		settings.setSnapshotFile("");
+		return new GraphWriteFilter(properties);
+	}
+
+	private ConceptMapBatch batch() {
+		ConceptMapBatch batch = new ConceptMapBatch();
+		batch.addItem("Q1", "Universe");
+		batch.addItem("Q2", "Earth");
+		batch.addRelationship("Q2", "Q1", "P361", "part of");
+		return batch;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.javafxpert.wikibrowser.sparql;
+
+import org.junit.Test;
+
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class SparqlQueryTemplateTest {
+
+	@Test
+	public void encodesTheQueryOnce() throws Exception {
+		SparqlQueryTemplate template = new SparqlQueryTemplate(
+				"SELECT ?x WHERE {\n  wd:${id:ITEM_ID} wdt:${prop:PROP_ID} ?x .\n  FILTER(LANG(?x) = \"${lang:LANG}\")\n} " +
+						"LIMIT ${limit:LIMIT}");
+		String uri = template.query().with("id", "Q42").with("prop", "P31").with("lang", "en").with("limit", 10)
+				.toUri().toString();
+
+		String query = "SELECT ?x WHERE { wd:Q42 wdt:P31 ?x . FILTER(LANG(?x) = \"en\") } LIMIT 10";
+		assertEquals(SparqlQueryTemplate.WIKIDATA_SPARQL_ENDPOINT + URLEncoder.encode(query, "UTF-8").replace("+", "%20"),
+				uri);
+	}
+
+	@Test
+	public void substitutesARepeatedSlotEachTime() {
+		SparqlQueryTemplate template = new SparqlQueryTemplate("SELECT * WHERE { wd:${id:ITEM_ID} ?p wd:${id:ITEM_ID} }");
+		assertEquals(SparqlQueryTemplate.WIKIDATA_SPARQL_ENDPOINT +
+						"SELECT%20*%20WHERE%20%7B%20wd%3AQ5%20%3Fp%20wd%3AQ5%20%7D",
+				template.query().with("id", "Q5").toUri().toString());
+	}
+
+	@Test
+	public void expandsItemIdLists() {
+		SparqlQueryTemplate template = new SparqlQueryTemplate("VALUES ?item { ${items:ITEM_ID_LIST} }");
+		assertEquals(SparqlQueryTemplate.WIKIDATA_SPARQL_ENDPOINT + "VALUES%20%3Fitem%20%7B%20wd:Q1%20wd:Q2%20%7D",
+				template.query().with("items", Arrays.asList("Q1", "Q2")).toUri().toString());
+		assertEquals(SparqlQueryTemplate.WIKIDATA_SPARQL_ENDPOINT + "VALUES%20%3Fitem%20%7B%20wd:Q3%20%7D",
+				template.query().with("items", "Q3").toUri().toString());
+	}
+
+	@Test(expected = InvalidSparqlParameterException.class)
+	public void rejectsAnInjectedValue() {
+		new SparqlQueryTemplate("SELECT * WHERE { wd:${id:ITEM_ID} ?p ?o }").query().with("id", "Q1 } ?s ?p ?o {");
+	}
+
+	@Test(expected = InvalidSparqlParameterException.class)
+	public void rejectsAnInjectedListEntry() {
+		new SparqlQueryTemplate("VALUES ?item { ${items:ITEM_ID_LIST} }").query()
+				.with("items", Arrays.asList("Q1", "Q2 }"));
+	}
+
+	@Test(expected = InvalidSparqlParameterException.class)
+	public void rejectsAnEmptyList() {
+		new SparqlQueryTemplate("VALUES ?item { ${items:ITEM_ID_LIST} }").query()
+				.with("items", Collections.<String>emptyList());
+	}
+
+	@Test(expected = InvalidSparqlParameterException.class)
+	public void rejectsAnOutOfRangeNumber() {
+		new SparqlQueryTemplate("SELECT * WHERE { ?s ?p ?o } LIMIT ${limit:LIMIT}").query().with("limit", 100000);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void requiresEveryValue() {
+		new SparqlQueryTemplate("SELECT * WHERE { wd:${id:ITEM_ID} wdt:${prop:PROP_ID} ?o }").query()
+				.with("id", "Q1").toUri();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsConflictingSlotTypes() {
+		new SparqlQueryTemplate("SELECT * WHERE { wd:${id:ITEM_ID} ?p wdt:${id:PROP_ID} }");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAnUnknownSlot() {
+		new SparqlQueryTemplate("SELECT * WHERE { wd:${id:ITEM_ID} ?p ?o }").query().with("other", "Q1");
+	}
+}